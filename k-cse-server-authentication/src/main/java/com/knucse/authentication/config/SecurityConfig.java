@@ -19,6 +19,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.knucse.authentication.jwt.provider.JwtTokenValidator;
+import com.knucse.authentication.jwt.provider.RoleClaimVerifier;
 import com.knucse.authentication.security.details.PrincipalOauth2UserService;
 import com.knucse.authentication.security.filter.JwtAuthorizationFilter;
 import com.knucse.authentication.security.handler.Oauth2SuccessHandler;
@@ -32,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
 	private final JwtTokenValidator jwtTokenValidator;
+	private final RoleClaimVerifier roleClaimVerifier;
 	private final StudentService studentService;
 	private final PrincipalOauth2UserService principalOauth2UserService;
 	private final Oauth2SuccessHandler oauth2SuccessHandler;
@@ -50,7 +52,7 @@ public class SecurityConfig {
 			.authorizeHttpRequests(request -> request
 				.requestMatchers(new AntPathRequestMatcher("/**")).permitAll()
 				.anyRequest().authenticated())
-			.addFilterBefore(new JwtAuthorizationFilter(jwtTokenValidator), UsernamePasswordAuthenticationFilter.class)
+			.addFilterBefore(new JwtAuthorizationFilter(jwtTokenValidator, roleClaimVerifier), UsernamePasswordAuthenticationFilter.class)
 			.httpBasic(AbstractHttpConfigurer::disable);
 
 		httpSecurity
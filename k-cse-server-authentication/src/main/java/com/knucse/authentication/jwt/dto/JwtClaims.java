@@ -0,0 +1,14 @@
+package com.knucse.authentication.jwt.dto;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 액세스 토큰의 클레임 이름
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JwtClaims {
+	public static final String EMAIL = "email";
+	public static final String STUDENT_ID = "sid";
+	public static final String ROLE = "role";
+}
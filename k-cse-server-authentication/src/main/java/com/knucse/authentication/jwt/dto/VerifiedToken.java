@@ -0,0 +1,36 @@
+package com.knucse.authentication.jwt.dto;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+
+import com.knucse.student.student.model.Role;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명과 만료 검증을 통과한 액세스 토큰의 클레임
+ * - 학생과 연결되지 않은 사용자의 토큰이나 role 클레임 도입 이전에 발급된 토큰은 studentId, role 이 null 입니다.
+ */
+public record VerifiedToken(
+	String email, Long studentId, Role role, Instant expiresAt
+) {
+	public static VerifiedToken fromClaims(Claims claims) {
+		Date expiration = claims.getExpiration();
+		Number studentId = claims.get(JwtClaims.STUDENT_ID, Number.class);
+		return new VerifiedToken(
+			claims.get(JwtClaims.EMAIL, String.class),
+			studentId == null ? null : studentId.longValue(),
+			parseRole(claims.get(JwtClaims.ROLE, String.class)),
+			expiration == null ? null : expiration.toInstant()
+		);
+	}
+
+	private static Role parseRole(String role) {
+		if (role == null) return null;
+		return Arrays.stream(Role.values())
+			.filter(value -> value.name().equals(role))
+			.findFirst()
+			.orElse(null);
+	}
+}
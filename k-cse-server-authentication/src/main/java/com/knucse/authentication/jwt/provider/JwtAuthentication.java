@@ -5,23 +5,33 @@ import java.util.List;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import com.knucse.authentication.security.details.PrincipalDetails;
+import com.knucse.student.student.model.Role;
 
 public class JwtAuthentication implements Authentication {
     private final String email;
+    private final Long studentId;
+    private final Role role;
     private final String accessToken;
 
     private boolean isAuthenticated = true;
 
-    private JwtAuthentication(String email, String accessToken) {
+    private JwtAuthentication(String email, Long studentId, Role role, String accessToken) {
         this.email = email;
+        this.studentId = studentId;
+        this.role = role;
         this.accessToken = accessToken;
     }
 
+    /**
+     * 토큰의 role 클레임으로 권한을 만듭니다. (DB 조회 없음)
+     */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of();
+        if (role == null) return List.of();
+        return List.of(new SimpleGrantedAuthority(role.name()));
     }
 
     @Override
@@ -54,7 +64,19 @@ public class JwtAuthentication implements Authentication {
         return email;
     }
 
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
     public static JwtAuthentication of(String email, String accessToken) {
-        return new JwtAuthentication(email, accessToken);
+        return new JwtAuthentication(email, null, null, accessToken);
+    }
+
+    public static JwtAuthentication of(String email, Long studentId, Role role, String accessToken) {
+        return new JwtAuthentication(email, studentId, role, accessToken);
     }
 }
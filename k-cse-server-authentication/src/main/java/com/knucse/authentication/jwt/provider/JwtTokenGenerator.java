@@ -1,6 +1,7 @@
 package com.knucse.authentication.jwt.provider;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 import javax.crypto.SecretKey;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.knucse.authentication.config.JwtProperties;
+import com.knucse.authentication.jwt.dto.JwtClaims;
 import com.knucse.authentication.jwt.dto.Token;
 import com.knucse.authentication.jwt.dto.TokenType;
 
@@ -60,9 +62,15 @@ public class JwtTokenGenerator {
 	}
 
 	private Map<String, Object> buildPayload(JwtAuthentication jwtAuthentication) {
-		return Map.of(
-			"email", jwtAuthentication.getName()
-		);
+		Map<String, Object> payload = new HashMap<>();
+		payload.put(JwtClaims.EMAIL, jwtAuthentication.getName());
+		if (jwtAuthentication.getStudentId() != null) {
+			payload.put(JwtClaims.STUDENT_ID, jwtAuthentication.getStudentId());
+		}
+		if (jwtAuthentication.getRole() != null) {
+			payload.put(JwtClaims.ROLE, jwtAuthentication.getRole().name());
+		}
+		return payload;
 	}
 
 	private Date buildExpiration(Integer expirationSeconds) {
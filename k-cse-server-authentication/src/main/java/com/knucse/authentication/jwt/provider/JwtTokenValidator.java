@@ -1,39 +1,87 @@
 package com.knucse.authentication.jwt.provider;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.knucse.authentication.config.JwtProperties;
+import com.knucse.authentication.jwt.dto.JwtClaims;
+import com.knucse.authentication.jwt.dto.VerifiedToken;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 
+/**
+ * 액세스 토큰 검증기
+ * - JwtParser 는 불변이고 스레드 안전하므로 한 번만 만들어 재사용합니다.
+ * - 검증에 성공한 토큰은 토큰의 SHA-256 다이제스트를 키로 만료 시각(exp)까지 보관하여,
+ *   같은 쿠키가 반복해서 들어오면 서명 검증과 JSON 파싱을 다시 하지 않습니다.
+ */
 @Component
+@RequiredArgsConstructor
 public class JwtTokenValidator {
-	@Value("${app.jwt.secret}")
-	private String secret;
+	private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+	private static final Duration VERIFIED_TOKEN_MAX_TTL = Duration.ofMinutes(10);
+
+	private final JwtProperties jwtProperties;
 
-	private SecretKey signKey;
+	private JwtParser jwtParser;
+	private Cache<ByteBuffer, VerifiedToken> verifiedTokens;
 
 	@PostConstruct
 	public void init() {
-		this.signKey = new SecretKeySpec(secret.getBytes(), "HmacSHA256");
+		SecretKey signKey = new SecretKeySpec(jwtProperties.getSecret().getBytes(), "HmacSHA256");
+		this.jwtParser = Jwts.parser()
+			.verifyWith(signKey)
+			.build();
+		this.verifiedTokens = Caffeine.newBuilder()
+			.maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+			.expireAfter(new VerifiedTokenExpiry())
+			.build();
 	}
 
 	public Jws<Claims> extractClaims(String tokenValue) {
-		return Jwts.parser()
-			.verifyWith(signKey)
-			.build()
-			.parseSignedClaims(tokenValue);
+		return jwtParser.parseSignedClaims(tokenValue);
 	}
 
 	public String extractEmail(Jws<Claims> claimsJws) {
-		return claimsJws.getPayload().get("email", String.class);
+		return claimsJws.getPayload().get(JwtClaims.EMAIL, String.class);
+	}
+
+	/**
+	 * 토큰을 검증합니다. 이미 검증된 토큰이면 캐시된 클레임을 반환합니다.
+	 *
+	 * @param tokenValue 액세스 토큰
+	 * @return 검증된 토큰의 클레임
+	 * @throws io.jsonwebtoken.ExpiredJwtException 토큰이 만료된 경우
+	 * @throws io.jsonwebtoken.JwtException 토큰이 유효하지 않은 경우
+	 */
+	public VerifiedToken verify(String tokenValue) {
+		ByteBuffer key = digest(tokenValue);
+
+		VerifiedToken cached = verifiedTokens.getIfPresent(key);
+		if (cached != null) return cached;
+
+		VerifiedToken verified = VerifiedToken.fromClaims(extractClaims(tokenValue).getPayload());
+		verifiedTokens.put(key, verified);
+		return verified;
 	}
 
 	public static String resolveToken(HttpServletRequest request) {
@@ -47,4 +95,39 @@ public class JwtTokenValidator {
 		}
 		return null;
 	}
+
+	/**
+	 * 토큰의 SHA-256 다이제스트를 캐시 키로 사용합니다. (ByteBuffer 는 내용 기준으로 equals/hashCode 를 비교)
+	 */
+	private static ByteBuffer digest(String tokenValue) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			return ByteBuffer.wrap(messageDigest.digest(tokenValue.getBytes(StandardCharsets.US_ASCII)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+	}
+
+	/**
+	 * 토큰의 만료 시각까지만 보관합니다. (최대 VERIFIED_TOKEN_MAX_TTL)
+	 */
+	private static class VerifiedTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+		@Override
+		public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+			if (value.expiresAt() == null) return VERIFIED_TOKEN_MAX_TTL.toNanos();
+
+			long untilExpiration = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+			return Math.max(0, Math.min(untilExpiration, VERIFIED_TOKEN_MAX_TTL.toNanos()));
+		}
+
+		@Override
+		public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
 }
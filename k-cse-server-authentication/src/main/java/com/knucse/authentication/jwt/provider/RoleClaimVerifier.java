@@ -0,0 +1,51 @@
+package com.knucse.authentication.jwt.provider;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.knucse.authentication.jwt.dto.VerifiedToken;
+import com.knucse.student.student.model.Role;
+import com.knucse.student.student.service.StudentService;
+
+/**
+ * 액세스 토큰의 role 클레임이 현재 학생 권한과 같은지 확인합니다.
+ * - 권한은 토큰 발급 시점에 고정되므로, 학생의 현재 권한을 짧은 TTL 로 캐시해 두고 비교하여
+ *   권한이 바뀐 학생의 기존 토큰은 TTL 안에 무효화되도록 합니다. (학생당 TTL 마다 최대 한 번 DB 조회)
+ * - 이 애플리케이션에는 권한을 바꾸거나 학생을 삭제하는 경로가 없고 권한은 DB 에서 직접 변경하므로,
+ *   변경은 즉시가 아니라 최대 TTL(1분) 뒤에 반영됩니다.
+ */
+@Component
+public class RoleClaimVerifier {
+	private static final int MAXIMUM_SIZE = 10_000;
+	private static final Duration TTL = Duration.ofMinutes(1);
+
+	private final StudentService studentService;
+
+	private final Cache<Long, Optional<Role>> currentRoles = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfterWrite(TTL)
+		.build();
+
+	public RoleClaimVerifier(StudentService studentService) {
+		this.studentService = studentService;
+	}
+
+	/**
+	 * 토큰의 권한이 현재 권한과 같은지 확인합니다.
+	 * - 학생과 연결되지 않은 토큰은 권한이 없을 때만 유효합니다.
+	 *
+	 * @param verifiedToken 검증된 토큰
+	 * @return 현재 권한과 같으면 true
+	 */
+	public boolean isCurrent(VerifiedToken verifiedToken) {
+		if (verifiedToken.studentId() == null) return verifiedToken.role() == null;
+
+		Optional<Role> currentRole = currentRoles.get(verifiedToken.studentId(), studentService::findStudentRole);
+		return Objects.equals(currentRole.orElse(null), verifiedToken.role());
+	}
+}
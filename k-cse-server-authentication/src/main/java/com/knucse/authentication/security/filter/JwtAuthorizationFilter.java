@@ -6,12 +6,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.GenericFilterBean;
 
+import com.knucse.authentication.jwt.dto.VerifiedToken;
 import com.knucse.authentication.jwt.provider.JwtAuthentication;
 import com.knucse.authentication.jwt.provider.JwtTokenValidator;
+import com.knucse.authentication.jwt.provider.RoleClaimVerifier;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -26,6 +26,7 @@ import lombok.extern.log4j.Log4j2;
 @RequiredArgsConstructor
 public class JwtAuthorizationFilter extends GenericFilterBean {
     private final JwtTokenValidator jwtTokenValidator;
+    private final RoleClaimVerifier roleClaimVerifier;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -46,10 +47,22 @@ public class JwtAuthorizationFilter extends GenericFilterBean {
         }
 
         try {
-            Jws<Claims> claims = jwtTokenValidator.extractClaims(accessToken);
-            String email = jwtTokenValidator.extractEmail(claims);
+            // 이미 검증된 토큰이면 서명 검증 없이 캐시된 클레임을 사용한다.
+            VerifiedToken verifiedToken = jwtTokenValidator.verify(accessToken);
 
-            JwtAuthentication jwtAuthentication = JwtAuthentication.of(email, accessToken);
+            // 권한이 바뀐 학생의 토큰은 거부한다. (다시 로그인하여 새 권한의 토큰을 발급받아야 함)
+            if (!roleClaimVerifier.isCurrent(verifiedToken)) {
+                log.info("JWT token role is outdated: {}", verifiedToken.email());
+                servletResponse.sendError(HttpStatus.UNAUTHORIZED.value(), "JWT token has been revoked");
+                return;
+            }
+
+            JwtAuthentication jwtAuthentication = JwtAuthentication.of(
+                verifiedToken.email(),
+                verifiedToken.studentId(),
+                verifiedToken.role(),
+                accessToken
+            );
             SecurityContextHolder.getContext().setAuthentication(jwtAuthentication);
         } catch (ExpiredJwtException exception) {
             log.warn("JWT token has expired: {}", exception.getMessage());
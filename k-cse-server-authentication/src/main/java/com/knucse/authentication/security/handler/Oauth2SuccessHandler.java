@@ -8,7 +8,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
-import com.knucse.authentication.application.service.AuthenticationService;
 import com.knucse.authentication.config.JwtProperties;
 import com.knucse.authentication.config.OAuth2Properties;
 import com.knucse.authentication.jwt.dto.Token;
@@ -17,6 +16,7 @@ import com.knucse.authentication.jwt.provider.JwtAuthentication;
 import com.knucse.authentication.jwt.provider.JwtTokenGenerator;
 import com.knucse.authentication.security.details.PrincipalDetails;
 import com.knucse.common.util.cookie.CookieUtil;
+import com.knucse.student.student.model.Student;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,17 +32,23 @@ public class Oauth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     private final OAuth2Properties oauth2Properties;
     private final JwtProperties jwtProperties;
 
-    private final AuthenticationService authenticationService;
-
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
-        if (!(authentication instanceof JwtAuthentication jwtAuthentication)) {
-            log.error("Authentication in SecurityContextHolder is not of type JwtAuthentication");
-            // Optionally, handle this case, e.g., throw an exception or generate a new JwtAuthentication
+        if (!(authentication.getPrincipal() instanceof PrincipalDetails principalDetails)) {
+            log.error("Principal of OAuth2 authentication is not of type PrincipalDetails");
             response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Invalid authentication type");
             return;
         }
 
+        // 학생의 식별자와 권한을 토큰에 담아, 요청마다 DB 조회 없이 권한을 확인할 수 있도록 한다.
+        Student student = principalDetails.getStudent();
+        JwtAuthentication jwtAuthentication = JwtAuthentication.of(
+            principalDetails.getName(),
+            student == null ? null : student.getId(),
+            student == null ? null : student.getRole(),
+            null
+        );
+
 		Token accessToken = jwtTokenGenerator.generateToken(jwtAuthentication, TokenType.ACCESS_TOKEN);
 
         Cookie accessCookie = CookieUtil.createCookie(
@@ -57,7 +63,7 @@ public class Oauth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         response.addCookie(accessCookie);
 
         // 사용자와 학생이 연결되어 있는지
-        boolean isConnectedToStudent = authenticationService.isConnectStudent(jwtAuthentication.getName());
+        boolean isConnectedToStudent = student != null;
 
         // 프론트엔드의 리다이렉트 URL 설정 from configuration
         String redirectUrl = oauth2Properties.getRedirectUri();
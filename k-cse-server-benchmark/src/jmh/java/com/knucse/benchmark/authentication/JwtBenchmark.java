@@ -0,0 +1,140 @@
+package com.knucse.benchmark.authentication;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.knucse.authentication.config.JwtProperties;
+import com.knucse.authentication.jwt.dto.Token;
+import com.knucse.authentication.jwt.dto.TokenType;
+import com.knucse.authentication.jwt.dto.VerifiedToken;
+import com.knucse.authentication.jwt.provider.JwtAuthentication;
+import com.knucse.authentication.jwt.provider.JwtTokenGenerator;
+import com.knucse.authentication.jwt.provider.JwtTokenValidator;
+import com.knucse.authentication.jwt.provider.RoleClaimVerifier;
+import com.knucse.authentication.security.filter.JwtAuthorizationFilter;
+import com.knucse.student.student.model.Role;
+import com.knucse.student.student.service.StudentService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 액세스 토큰 발급과 검증 비용
+ * - extractClaimsWithNewParser: 검증기 변경 이전처럼 호출마다 JwtParser 를 새로 만들고 서명 검증과 JSON 파싱을 합니다.
+ * - extractClaims 는 재사용하는 JwtParser 로 매번 서명 검증과 JSON 파싱을, verify 는 같은 토큰이면 캐시 조회만 합니다.
+ * - doFilter 는 요청마다 거치는 JwtAuthorizationFilter 전체 비용입니다. (토큰 캐시와 권한 캐시가 모두 적중하는 경우)
+ *   요청/응답은 쿠키와 메서드만 돌려주는 프록시이므로, 서블릿 컨테이너의 요청 처리 비용은 포함하지 않습니다.
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+	private static final String SECRET = "benchmark-secret-key-for-hmac-sha256-signing";
+
+	private JwtTokenGenerator jwtTokenGenerator;
+	private JwtTokenValidator jwtTokenValidator;
+	private JwtAuthentication jwtAuthentication;
+	private String accessToken;
+
+	private JwtAuthorizationFilter jwtAuthorizationFilter;
+	private HttpServletRequest request;
+	private HttpServletResponse response;
+	private FilterChain filterChain;
+
+	@Setup
+	public void setUp() {
+		JwtProperties jwtProperties = jwtProperties();
+
+		jwtTokenGenerator = new JwtTokenGenerator(jwtProperties);
+		jwtTokenGenerator.init();
+		jwtTokenValidator = new JwtTokenValidator(jwtProperties);
+		jwtTokenValidator.init();
+
+		jwtAuthentication = JwtAuthentication.of("student@knu.ac.kr", 1L, Role.ROLE_STUDENT, null);
+		accessToken = jwtTokenGenerator.generateToken(jwtAuthentication, TokenType.ACCESS_TOKEN).value();
+
+		jwtAuthorizationFilter = new JwtAuthorizationFilter(jwtTokenValidator, new RoleClaimVerifier(studentService()));
+		request = request(new Cookie("Authorization-AccessToken", accessToken));
+		response = proxy(HttpServletResponse.class);
+		filterChain = (servletRequest, servletResponse) -> { };
+	}
+
+	@Benchmark
+	public Token generateToken() {
+		return jwtTokenGenerator.generateToken(jwtAuthentication, TokenType.ACCESS_TOKEN);
+	}
+
+	@Benchmark
+	public Jws<Claims> extractClaimsWithNewParser() {
+		return Jwts.parser()
+			.verifyWith(new SecretKeySpec(SECRET.getBytes(), "HmacSHA256"))
+			.build()
+			.parseSignedClaims(accessToken);
+	}
+
+	@Benchmark
+	public Jws<Claims> extractClaims() {
+		return jwtTokenValidator.extractClaims(accessToken);
+	}
+
+	@Benchmark
+	public VerifiedToken verify() {
+		return jwtTokenValidator.verify(accessToken);
+	}
+
+	@Benchmark
+	public HttpServletResponse doFilter() throws Exception {
+		jwtAuthorizationFilter.doFilter(request, response, filterChain);
+		return response;
+	}
+
+	/**
+	 * 학생 권한 조회만 하는 StudentService (권한은 RoleClaimVerifier 가 캐시하므로 측정 중에는 호출되지 않음)
+	 */
+	private static StudentService studentService() {
+		return new StudentService(null, null, null) {
+			@Override
+			public Optional<Role> findStudentRole(Long studentId) {
+				return Optional.of(Role.ROLE_STUDENT);
+			}
+		};
+	}
+
+	private static HttpServletRequest request(Cookie... cookies) {
+		return (HttpServletRequest) Proxy.newProxyInstance(
+			HttpServletRequest.class.getClassLoader(),
+			new Class<?>[] {HttpServletRequest.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "getMethod" -> "GET";
+				case "getCookies" -> cookies;
+				default -> null;
+			}
+		);
+	}
+
+	private static <T> T proxy(Class<T> type) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> null));
+	}
+
+	private static JwtProperties jwtProperties() {
+		JwtProperties.Expiration expiration = new JwtProperties.Expiration();
+		expiration.setAccess(3600);
+		expiration.setRefresh(1_209_600);
+
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecret(SECRET);
+		jwtProperties.setBearerType("Bearer");
+		jwtProperties.setExpiration(expiration);
+		return jwtProperties;
+	}
+}
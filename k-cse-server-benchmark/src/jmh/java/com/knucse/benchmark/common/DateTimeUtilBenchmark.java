@@ -0,0 +1,50 @@
+package com.knucse.benchmark.common;
+
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.knucse.common.util.datetime.DateTimeUtil;
+
+/**
+ * DateTimeUtil 의 비용
+ * - 신청 폼 DTO 변환마다 날짜 문자열 변환이 세 번씩 일어납니다.
+ */
+@State(Scope.Benchmark)
+public class DateTimeUtilBenchmark {
+	private LocalDateTime start;
+	private LocalDateTime target;
+	private LocalDateTime end;
+	private String formattedTime;
+
+	@Setup
+	public void setUp() {
+		target = LocalDateTime.now();
+		start = target.minusDays(3);
+		end = target.plusDays(3);
+		formattedTime = DateTimeUtil.localDateTimeToString(target);
+	}
+
+	@Benchmark
+	public LocalDateTime now() {
+		return DateTimeUtil.now();
+	}
+
+	@Benchmark
+	public boolean isBetweenInclusive() {
+		return DateTimeUtil.isBetweenInclusive(target, start, end);
+	}
+
+	@Benchmark
+	public String localDateTimeToString() {
+		return DateTimeUtil.localDateTimeToString(target);
+	}
+
+	@Benchmark
+	public LocalDateTime stringToLocalDateTime() {
+		return DateTimeUtil.stringToLocalDateTime(formattedTime);
+	}
+}
@@ -0,0 +1,28 @@
+package com.knucse.benchmark.locker;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+
+/**
+ * ApplyHeight.getLockerHeight 의 층/높이별 비용
+ */
+@State(Scope.Benchmark)
+public class ApplyHeightBenchmark {
+	@Param
+	private LockerFloor floor;
+
+	@Param
+	private ApplyHeight height;
+
+	@Benchmark
+	public List<Integer> getLockerHeight() {
+		return height.getLockerHeight(floor);
+	}
+}
@@ -0,0 +1,42 @@
+package com.knucse.benchmark.locker;
+
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.knucse.common.util.datetime.DateTimeUtil;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+
+/**
+ * ApplyPeriod.isWithinPeriod 의 비용
+ * - 신청 요청마다 현재 시각을 구해 기간을 확인하므로 DateTimeUtil.now() 를 포함한 경우도 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class ApplyPeriodBenchmark {
+	@Param
+	private ApplyPeriod period;
+
+	private ApplyForm applyForm;
+	private LocalDateTime currentTime;
+
+	@Setup
+	public void setUp() {
+		applyForm = LockerFixtures.applyForm();
+		currentTime = LocalDateTime.now();
+	}
+
+	@Benchmark
+	public boolean isWithinPeriod() {
+		return period.isWithinPeriod(applyForm, currentTime);
+	}
+
+	@Benchmark
+	public boolean isWithinPeriodNow() {
+		return period.isWithinPeriod(applyForm, DateTimeUtil.now());
+	}
+}
@@ -0,0 +1,117 @@
+package com.knucse.benchmark.locker;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.knucse.locker.domain.model.locker.Locker;
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.Apply;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyFormStatus;
+import com.knucse.locker.domain.persistence.AllocateRepository;
+import com.knucse.locker.domain.persistence.LockerRepository;
+import com.knucse.locker.domain.persistence.projection.LockerSlot;
+import com.knucse.student.student.model.Role;
+import com.knucse.student.student.model.Student;
+
+/**
+ * 벤치마크용 고정 데이터
+ * - 층마다 높이 1~5 의 사물함을 같은 수만큼 만들며, 이름 순서가 카탈로그 서수가 됩니다.
+ */
+final class LockerFixtures {
+	static final int LOCKERS_PER_HEIGHT = 80;
+	static final int MAX_HEIGHT = 5;
+
+	private LockerFixtures() {
+	}
+
+	static List<LockerSlot> slots() {
+		List<LockerSlot> slots = new ArrayList<>();
+		for (LockerFloor floor : LockerFloor.values()) {
+			for (int height = 1; height <= MAX_HEIGHT; height++) {
+				for (int index = 0; index < LOCKERS_PER_HEIGHT; index++) {
+					slots.add(new LockerSlot(lockerName(floor, height, index), floor, height, false));
+				}
+			}
+		}
+		return slots;
+	}
+
+	static String lockerName(LockerFloor floor, int height, int index) {
+		return String.format("%s-%d-%03d", floor.name().substring(6), height, index);
+	}
+
+	static ApplyForm applyForm() {
+		LocalDateTime now = LocalDateTime.now();
+		return ApplyForm.builder()
+			.id(1L)
+			.year(now.getYear())
+			.semester(1)
+			.firstApplyStartDate(now.minusDays(3))
+			.firstApplyEndDate(now.plusDays(3))
+			.semesterEndDate(now.plusMonths(4))
+			.status(ApplyFormStatus.ACTIVE)
+			.lotterySeed(42L)
+			.build();
+	}
+
+	static Student student() {
+		return Student.builder()
+			.studentNumber("2024000001")
+			.studentName("홍길동")
+			.role(Role.ROLE_STUDENT)
+			.build();
+	}
+
+	static Apply apply(Student student, ApplyForm applyForm) {
+		return Apply.builder()
+			.id(1L)
+			.student(student)
+			.applyForm(applyForm)
+			.firstFloor(LockerFloor.FLOOR_L)
+			.firstHeight(ApplyHeight.TOP)
+			.secondFloor(LockerFloor.FLOOR_3F)
+			.secondHeight(ApplyHeight.MIDDLE)
+			.period(ApplyPeriod.PRIMARY)
+			.status(ApplyStatus.APPLY)
+			.build();
+	}
+
+	static Locker locker() {
+		return Locker.builder()
+			.lockerName(lockerName(LockerFloor.FLOOR_L, 2, 0))
+			.floor(LockerFloor.FLOOR_L)
+			.height(2)
+			.pw("1234")
+			.broken(false)
+			.build();
+	}
+
+	/**
+	 * 가용성 인덱스 구성에 필요한 조회만 응답하는 사물함 저장소
+	 */
+	static LockerRepository lockerRepository(List<LockerSlot> slots) {
+		return repository(LockerRepository.class, "findAllSlots", slots);
+	}
+
+	/**
+	 * 가용성 인덱스 구성에 필요한 조회만 응답하는 할당 저장소
+	 */
+	static AllocateRepository allocateRepository(List<String> allocatedLockerNames) {
+		return repository(AllocateRepository.class, "findLockerNamesByApplyForm", allocatedLockerNames);
+	}
+
+	private static <T> T repository(Class<T> type, String methodName, Object result) {
+		Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+			if (method.getName().equals(methodName)) return result;
+			if (method.getName().equals("toString")) return type.getSimpleName() + "Stub";
+			throw new UnsupportedOperationException(method.getName());
+		});
+		return type.cast(proxy);
+	}
+}
@@ -0,0 +1,82 @@
+package com.knucse.benchmark.locker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.knucse.locker.config.LockerAvailabilityProperties;
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.Apply;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.service.locker.LockerService;
+import com.knucse.locker.domain.service.locker.availability.LockerAvailability;
+import com.knucse.locker.domain.service.locker.availability.LockerAvailabilityIndex;
+
+/**
+ * LockerService.reserveLockerByApply 의 구간(tier) 선택 비용
+ * - 신청은 1지망 L층 TOP(높이 2, 1), 2지망 3층 MIDDLE(높이 3, 4) 입니다.
+ * - tier 마다 앞선 구간의 사물함을 모두 할당해 두어, 원하는 구간까지 내려가서 선택하도록 만듭니다.
+ * - 매 호출마다 선택한 사물함을 다시 해제하므로 가용성 상태는 측정 내내 같습니다. (해제 비용 포함)
+ */
+@State(Scope.Benchmark)
+public class LockerSelectionBenchmark {
+	public enum Tier {
+		FIRST_CHOICE, SECOND_CHOICE, FIRST_FLOOR, ANY
+	}
+
+	@Param
+	private Tier tier;
+
+	private LockerService lockerService;
+	private LockerAvailability availability;
+	private ApplyForm applyForm;
+	private Apply apply;
+
+	@Setup
+	public void setUp() {
+		applyForm = LockerFixtures.applyForm();
+		apply = LockerFixtures.apply(LockerFixtures.student(), applyForm);
+
+		LockerAvailabilityIndex index = new LockerAvailabilityIndex(
+			LockerFixtures.lockerRepository(LockerFixtures.slots()),
+			LockerFixtures.allocateRepository(allocatedLockerNames()),
+			new LockerAvailabilityProperties()
+		);
+		lockerService = new LockerService(null, index);
+		availability = index.get(applyForm);
+	}
+
+	@Benchmark
+	public String selectLocker() {
+		String lockerName = lockerService.reserveLockerByApply(apply, applyForm);
+		availability.release(lockerName);
+		return lockerName;
+	}
+
+	private List<String> allocatedLockerNames() {
+		List<String> allocated = new ArrayList<>();
+		if (tier.ordinal() >= Tier.SECOND_CHOICE.ordinal()) {
+			allocate(allocated, LockerFloor.FLOOR_L, 1, 2);
+		}
+		if (tier.ordinal() >= Tier.FIRST_FLOOR.ordinal()) {
+			allocate(allocated, LockerFloor.FLOOR_3F, 3, 4);
+		}
+		if (tier.ordinal() >= Tier.ANY.ordinal()) {
+			allocate(allocated, LockerFloor.FLOOR_L, 3, LockerFixtures.MAX_HEIGHT);
+		}
+		return allocated;
+	}
+
+	private static void allocate(List<String> allocated, LockerFloor floor, int fromHeight, int toHeight) {
+		for (int height = fromHeight; height <= toHeight; height++) {
+			for (int index = 0; index < LockerFixtures.LOCKERS_PER_HEIGHT; index++) {
+				allocated.add(LockerFixtures.lockerName(floor, height, index));
+			}
+		}
+	}
+}
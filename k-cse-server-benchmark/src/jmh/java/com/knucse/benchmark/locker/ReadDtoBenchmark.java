@@ -0,0 +1,90 @@
+package com.knucse.benchmark.locker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knucse.common.util.api.ApiResponseUtil;
+import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
+import com.knucse.locker.api.locker.apply.dto.ApplyReadDto;
+import com.knucse.locker.domain.model.locker.Locker;
+import com.knucse.locker.domain.model.locker.apply.Apply;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.student.student.model.Student;
+
+/**
+ * 조회 DTO 변환과 ApiSuccessResult 응답 직렬화 비용
+ * - ObjectMapper 는 Spring Boot 의 기본 설정과 같은 Jackson2ObjectMapperBuilder 로 만듭니다.
+ * - 목록 응답은 집행부의 할당 목록 조회처럼 여러 건을 한 번에 직렬화합니다.
+ */
+@State(Scope.Benchmark)
+public class ReadDtoBenchmark {
+	private static final int LIST_SIZE = 500;
+
+	private ObjectMapper objectMapper;
+
+	private Student student;
+	private Apply apply;
+	private ApplyForm applyForm;
+	private Locker locker;
+
+	private ApplyReadDto applyReadDto;
+	private AllocateReadDto allocateReadDto;
+	private List<AllocateReadDto> allocateReadDtos;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		student = LockerFixtures.student();
+		applyForm = LockerFixtures.applyForm();
+		apply = LockerFixtures.apply(student, applyForm);
+		locker = LockerFixtures.locker();
+
+		applyReadDto = ApplyReadDto.fromEntity(apply, student);
+		allocateReadDto = AllocateReadDto.fromEntity(student, apply, applyForm, locker);
+		allocateReadDtos = new ArrayList<>(LIST_SIZE);
+		for (int index = 0; index < LIST_SIZE; index++) {
+			allocateReadDtos.add(allocateReadDto);
+		}
+	}
+
+	@Benchmark
+	public ApplyReadDto applyFromEntity() {
+		return ApplyReadDto.fromEntity(apply, student);
+	}
+
+	@Benchmark
+	public AllocateReadDto allocateFromEntity() {
+		return AllocateReadDto.fromEntity(student, apply, applyForm, locker);
+	}
+
+	@Benchmark
+	public byte[] serializeApply() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(ApiResponseUtil.success(HttpStatus.OK, applyReadDto));
+	}
+
+	@Benchmark
+	public byte[] serializeAllocate() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(ApiResponseUtil.success(HttpStatus.OK, allocateReadDto));
+	}
+
+	@Benchmark
+	public byte[] serializeAllocateList() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(ApiResponseUtil.success(HttpStatus.OK, allocateReadDtos));
+	}
+
+	@Benchmark
+	public byte[] fromEntityAndSerializeAllocate() throws JsonProcessingException {
+		AllocateReadDto dto = AllocateReadDto.fromEntity(student, apply, applyForm, locker);
+		return objectMapper.writeValueAsBytes(ApiResponseUtil.success(HttpStatus.OK, dto));
+	}
+}
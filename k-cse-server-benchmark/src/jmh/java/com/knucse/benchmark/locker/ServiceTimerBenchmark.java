@@ -0,0 +1,75 @@
+package com.knucse.benchmark.locker;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.knucse.locker.config.LockerAvailabilityProperties;
+import com.knucse.locker.domain.model.locker.apply.Apply;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.service.locker.LockerService;
+import com.knucse.locker.domain.service.locker.availability.LockerAvailability;
+import com.knucse.locker.domain.service.locker.availability.LockerAvailabilityIndex;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+/**
+ * 서비스 메서드 타이머(@Timed + TimedAspect)의 호출당 비용
+ * - DB 를 거치지 않는 가장 짧은 서비스 호출(1지망 사물함 선택)로 측정하므로, 실제 요청 대비 비율은 이보다 훨씬 작습니다.
+ * - DIRECT: 프록시 없이 호출, PROXY: 어드바이스 없는 프록시, TIMED: 운영과 같은 Prometheus 레지스트리의 히스토그램 타이머
+ */
+@State(Scope.Benchmark)
+public class ServiceTimerBenchmark {
+	public enum Mode {
+		DIRECT, PROXY, TIMED
+	}
+
+	@Param
+	private Mode mode;
+
+	private LockerService lockerService;
+	private LockerAvailability availability;
+	private ApplyForm applyForm;
+	private Apply apply;
+
+	@Setup
+	public void setUp() {
+		applyForm = LockerFixtures.applyForm();
+		apply = LockerFixtures.apply(LockerFixtures.student(), applyForm);
+
+		LockerAvailabilityIndex index = new LockerAvailabilityIndex(
+			LockerFixtures.lockerRepository(LockerFixtures.slots()),
+			LockerFixtures.allocateRepository(List.of()),
+			new LockerAvailabilityProperties()
+		);
+		availability = index.get(applyForm);
+
+		LockerService target = new LockerService(null, index);
+		lockerService = switch (mode) {
+			case DIRECT -> target;
+			case PROXY -> proxy(target, null);
+			case TIMED -> proxy(target, new TimedAspect(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)));
+		};
+	}
+
+	@Benchmark
+	public String selectLocker() {
+		String lockerName = lockerService.reserveLockerByApply(apply, applyForm);
+		availability.release(lockerName);
+		return lockerName;
+	}
+
+	private static LockerService proxy(LockerService target, TimedAspect timedAspect) {
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.setProxyTargetClass(true);
+		if (timedAspect != null) factory.addAspect(timedAspect);
+		return factory.getProxy();
+	}
+}
@@ -0,0 +1,124 @@
+package com.knucse.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.knucse.locker.api.idempotency.IdempotencyFilter;
+
+/**
+ * 부하 테스트 HTTP 클라이언트
+ * - 요청마다 응답 시간과 결과(상태 코드, 에러 코드)를 시나리오 측정 결과에 기록합니다.
+ */
+public class LoadTestClient {
+	private static final String ACCESS_TOKEN_COOKIE = "Authorization-AccessToken";
+
+	private final HttpClient httpClient;
+	private final ObjectMapper objectMapper;
+	private final String baseUrl;
+	private final Duration requestTimeout;
+
+	public LoadTestClient(ObjectMapper objectMapper, String baseUrl, Duration requestTimeout) {
+		this.httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(10))
+			.build();
+		this.objectMapper = objectMapper;
+		this.baseUrl = baseUrl;
+		this.requestTimeout = requestTimeout;
+	}
+
+	public HttpRequest.Builder get(String path) {
+		return request(path).GET();
+	}
+
+	public HttpRequest.Builder post(String path, Object body) {
+		try {
+			return request(path)
+				.header("Content-Type", "application/json")
+				.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString())
+				.POST(body == null
+					? HttpRequest.BodyPublishers.noBody()
+					: HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	public static HttpRequest.Builder withAccessToken(HttpRequest.Builder request, String accessToken) {
+		return request.header("Cookie", ACCESS_TOKEN_COOKIE + "=" + accessToken);
+	}
+
+	/**
+	 * 요청을 보내고 결과를 기록합니다.
+	 *
+	 * @return 응답, 연결 실패나 제한 시간 초과면 null
+	 */
+	public Response send(LoadTestStats stats, String endpoint, HttpRequest.Builder request) {
+		long startedAt = System.nanoTime();
+		try {
+			HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+			Response result = new Response(response.statusCode(), response.body());
+			stats.record(endpoint, System.nanoTime() - startedAt, result.outcome());
+			return result;
+		} catch (IOException e) {
+			stats.record(endpoint, System.nanoTime() - startedAt, e.getClass().getSimpleName());
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	private HttpRequest.Builder request(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+			.timeout(requestTimeout);
+	}
+
+	public class Response {
+		private final int status;
+		private final byte[] body;
+
+		Response(int status, byte[] body) {
+			this.status = status;
+			this.body = body;
+		}
+
+		public boolean isSuccess() {
+			return status >= 200 && status < 300;
+		}
+
+		/**
+		 * ApiSuccessResult 의 response 필드
+		 */
+		public JsonNode response() {
+			return json().path("response");
+		}
+
+		/**
+		 * @return 성공이면 null, 실패면 "상태 코드 에러 코드" (에러 코드가 없으면 상태 코드만)
+		 */
+		public String outcome() {
+			if (isSuccess()) return null;
+
+			String code = json().path("code").asText("");
+			return code.isEmpty() ? String.valueOf(status) : status + " " + code;
+		}
+
+		private JsonNode json() {
+			try {
+				return objectMapper.readTree(body);
+			} catch (IOException e) {
+				return MissingNode.getInstance();
+			}
+		}
+	}
+}
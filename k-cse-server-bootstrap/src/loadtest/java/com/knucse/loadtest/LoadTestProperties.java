@@ -0,0 +1,62 @@
+package com.knucse.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.knucse.locker.domain.service.locker.allocate.job.AllocateJobMode;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 부하 테스트 설정 (loadtest 프로필)
+ * - 학생, 학생회비, 사물함, 활성화된 신청 폼을 내장 DB 에 만든 뒤 시나리오를 순서대로 실행합니다.
+ */
+@Getter @Setter
+@Profile(LoadTestProperties.PROFILE)
+@Configuration
+@ConfigurationProperties(prefix = "app.load-test")
+public class LoadTestProperties {
+	public static final String PROFILE = "loadtest";
+
+	/* 실행할 시나리오 (순서대로 실행) */
+	private List<LoadTestScenario> scenarios = List.of(LoadTestScenario.values());
+
+	/* 학생 수 (모두 1차 신청에 참여) */
+	private int students = 3_000;
+
+	/* 학생회비 납부 비율 */
+	private double duesRatio = 0.7;
+
+	/* 사물함 수 (층과 높이 1~5 에 고르게 배치, 학생 수보다 적으면 일괄 할당이 사물함 부족으로 실패) */
+	private int lockers = 3_600;
+
+	/* 데이터 생성과 신청 지망 선택에 사용할 시드 */
+	private long seed = 42L;
+
+	/* 동시에 요청을 보내는 클라이언트 수 */
+	private int concurrency = 200;
+
+	/* 일괄 할당 방식 */
+	private AllocateJobMode allocationMode = AllocateJobMode.RANDOM;
+
+	/* 결과 발표일 배정 조회 요청 수 */
+	private int lookups = 20_000;
+
+	/* CSV 내보내기 요청 수와 동시 요청 수 */
+	private int csvDownloads = 20;
+	private int csvConcurrency = 4;
+
+	/* 요청 하나의 제한 시간 */
+	private Duration requestTimeout = Duration.ofSeconds(60);
+
+	/* 대기열과 일괄 할당 작업 상태 조회 간격의 상한 */
+	private Duration maxPollInterval = Duration.ofSeconds(1);
+
+	/* 모든 시나리오가 끝나면 애플리케이션을 종료합니다. */
+	private boolean exitOnFinish = true;
+}
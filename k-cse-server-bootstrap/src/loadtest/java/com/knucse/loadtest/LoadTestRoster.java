@@ -0,0 +1,14 @@
+package com.knucse.loadtest;
+
+import java.util.List;
+
+/**
+ * 부하 테스트용으로 생성한 학생 명단
+ *
+ * @param students 신청에 참여하는 학생
+ * @param executive 집행부 학생 (일괄 할당, CSV 내보내기 요청에 사용)
+ */
+public record LoadTestRoster(List<Member> students, Member executive) {
+	public record Member(Long studentId, String studentNumber, String studentName) {
+	}
+}
@@ -0,0 +1,277 @@
+package com.knucse.loadtest;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knucse.authentication.jwt.dto.TokenType;
+import com.knucse.authentication.jwt.provider.JwtAuthentication;
+import com.knucse.authentication.jwt.provider.JwtTokenGenerator;
+import com.knucse.locker.api.locker.waitingRoom.WaitingRoomInterceptor;
+import com.knucse.locker.config.WaitingRoomProperties;
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.student.student.model.Role;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 부하 테스트 실행기 (loadtest 프로필)
+ * - 애플리케이션이 뜨면 데이터를 만들고, 같은 JVM 의 HTTP 클라이언트로 시나리오를 순서대로 실행한 뒤 엔드포인트별 결과를 출력합니다.
+ * - 스레드 모드(spring.threads.virtual.enabled)만 바꿔 두 번 실행하면 플랫폼 스레드와 가상 스레드의 처리량과 지연 시간을 비교할 수 있습니다.
+ */
+@Log4j2
+@Component
+@Profile(LoadTestProperties.PROFILE)
+@RequiredArgsConstructor
+public class LoadTestRunner implements ApplicationListener<ApplicationReadyEvent> {
+	private static final Duration JOB_POLL_INTERVAL = Duration.ofMillis(100);
+	private static final String PRIMARY_APPLY_END_TO_END = "primary apply (queue + submit)";
+	private static final String ALLOCATE_JOB_END_TO_END = "allocate job (submit to finish)";
+
+	private final LoadTestProperties loadTestProperties;
+	private final LoadTestSeeder loadTestSeeder;
+	private final WaitingRoomProperties waitingRoomProperties;
+	private final JwtTokenGenerator jwtTokenGenerator;
+	private final ObjectMapper objectMapper;
+	private final Environment environment;
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		Thread runner = new Thread(() -> run(event.getApplicationContext()), "load-test");
+		runner.setDaemon(true);
+		runner.start();
+	}
+
+	private void run(ConfigurableApplicationContext context) {
+		int exitCode = 0;
+		try {
+			LoadTestRoster roster = loadTestSeeder.seed();
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			LoadTestClient client = new LoadTestClient(
+				objectMapper, "http://localhost:" + port, loadTestProperties.getRequestTimeout()
+			);
+			String accessToken = executiveAccessToken(roster.executive());
+
+			List<String> reports = new ArrayList<>();
+			for (LoadTestScenario scenario : loadTestProperties.getScenarios()) {
+				log.info("Load test scenario {} started", scenario);
+
+				LoadTestStats stats = new LoadTestStats(scenario);
+				stats.start();
+				switch (scenario) {
+					case PRIMARY_APPLY_RUSH -> primaryApplyRush(client, stats, roster);
+					case MASS_ALLOCATION -> massAllocation(client, stats, accessToken);
+					case RESULT_LOOKUP -> resultLookup(client, stats, roster);
+					case CSV_EXPORT -> csvExport(client, stats, accessToken);
+				}
+				stats.finish();
+				reports.add(stats.report());
+			}
+
+			log.info("Load test finished (threads: {}, clients: {}, students: {}, lockers: {}){}",
+				Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform",
+				loadTestProperties.getConcurrency(), loadTestProperties.getStudents(), loadTestProperties.getLockers(),
+				String.join("", reports));
+		} catch (RuntimeException e) {
+			log.error("Load test failed", e);
+			exitCode = 1;
+		}
+
+		if (loadTestProperties.isExitOnFinish()) {
+			int finalExitCode = exitCode;
+			System.exit(SpringApplication.exit(context, () -> finalExitCode));
+		}
+	}
+
+	/**
+	 * 모든 학생이 동시에 대기열 입장권을 받고, 입장할 때까지 순번을 조회한 뒤 1차 신청을 보냅니다.
+	 */
+	private void primaryApplyRush(LoadTestClient client, LoadTestStats stats, LoadTestRoster roster) {
+		Random random = new Random(loadTestProperties.getSeed());
+		List<Map<String, Object>> requestBodies = roster.students().stream()
+			.map(student -> applyRequestBody(student, random))
+			.toList();
+
+		runConcurrently(loadTestProperties.getConcurrency(), requestBodies.size(), index -> {
+			long startedAt = System.nanoTime();
+
+			String ticketId = null;
+			if (waitingRoomProperties.isEnabled()) {
+				ticketId = waitForAdmission(client, stats);
+				if (ticketId == null) {
+					stats.record(PRIMARY_APPLY_END_TO_END, System.nanoTime() - startedAt, "NOT_ADMITTED");
+					return;
+				}
+			}
+
+			HttpRequest.Builder request = client.post("/application/primary", requestBodies.get(index));
+			if (ticketId != null) request.header(WaitingRoomInterceptor.TICKET_HEADER, ticketId);
+
+			LoadTestClient.Response response = client.send(stats, "POST /application/primary", request);
+			stats.record(PRIMARY_APPLY_END_TO_END, System.nanoTime() - startedAt,
+				response == null ? "NO_RESPONSE" : response.outcome());
+		});
+	}
+
+	/**
+	 * @return 입장한 입장권 ID, 입장권을 받지 못했거나 조회에 실패하면 null
+	 */
+	private String waitForAdmission(LoadTestClient client, LoadTestStats stats) {
+		LoadTestClient.Response issued = client.send(stats, "POST /application/queue/tickets",
+			client.post("/application/queue/tickets", null));
+		if (issued == null || !issued.isSuccess()) return null;
+
+		JsonNode ticket = issued.response();
+		String ticketId = ticket.path("ticketId").asText();
+		while (!ticket.path("admitted").asBoolean()) {
+			long pollAfterMillis = ticket.path("pollAfterMillis").asLong(JOB_POLL_INTERVAL.toMillis());
+			sleep(Math.min(pollAfterMillis, loadTestProperties.getMaxPollInterval().toMillis()));
+
+			LoadTestClient.Response polled = client.send(stats, "GET /application/queue/tickets/{ticketId}",
+				client.get("/application/queue/tickets/" + ticketId));
+			if (polled == null || !polled.isSuccess()) return null;
+			ticket = polled.response();
+		}
+		return ticketId;
+	}
+
+	/**
+	 * 일괄 할당 작업을 등록하고 끝날 때까지 상태를 조회합니다.
+	 */
+	private void massAllocation(LoadTestClient client, LoadTestStats stats, String accessToken) {
+		long startedAt = System.nanoTime();
+
+		LoadTestClient.Response submitted = client.send(stats, "POST /application/allocate/all/jobs",
+			LoadTestClient.withAccessToken(
+				client.post("/application/allocate/all/jobs?mode=" + loadTestProperties.getAllocationMode(), null),
+				accessToken
+			));
+		if (submitted == null || !submitted.isSuccess()) return;
+
+		String jobId = submitted.response().path("jobId").asText();
+		JsonNode job = submitted.response();
+		while (isRunning(job)) {
+			sleep(JOB_POLL_INTERVAL.toMillis());
+
+			LoadTestClient.Response polled = client.send(stats, "GET /application/allocate/all/jobs/{jobId}",
+				LoadTestClient.withAccessToken(client.get("/application/allocate/all/jobs/" + jobId), accessToken));
+			if (polled == null || !polled.isSuccess()) return;
+			job = polled.response();
+		}
+
+		String status = job.path("status").asText();
+		stats.record(ALLOCATE_JOB_END_TO_END, System.nanoTime() - startedAt,
+			"COMPLETED".equals(status) ? null : status + " " + job.path("errorCode").asText(""));
+		log.info("Allocate job {} {} ({} allocated, {} failed)",
+			jobId, status, job.path("allocated").asInt(), job.path("failed").asInt());
+	}
+
+	/**
+	 * 결과 발표일처럼 학생들이 무작위로 배정된 사물함을 조회합니다. (신청하지 않았거나 배정받지 못한 학생은 404)
+	 */
+	private void resultLookup(LoadTestClient client, LoadTestStats stats, LoadTestRoster roster) {
+		List<LoadTestRoster.Member> students = roster.students();
+		runConcurrently(loadTestProperties.getConcurrency(), loadTestProperties.getLookups(), index -> {
+			LoadTestRoster.Member student = students.get(ThreadLocalRandom.current().nextInt(students.size()));
+			client.send(stats, "GET /application/allocate/{studentNumber}",
+				client.get("/application/allocate/" + student.studentNumber()));
+		});
+	}
+
+	/**
+	 * 집행부가 할당 내역 CSV 를 gzip 으로 동시에 내려받습니다.
+	 */
+	private void csvExport(LoadTestClient client, LoadTestStats stats, String accessToken) {
+		runConcurrently(loadTestProperties.getCsvConcurrency(), loadTestProperties.getCsvDownloads(), index ->
+			client.send(stats, "GET /documents/download/csv", LoadTestClient.withAccessToken(
+				client.get("/documents/download/csv").header("Accept-Encoding", "gzip"),
+				accessToken
+			)));
+	}
+
+	private String executiveAccessToken(LoadTestRoster.Member executive) {
+		JwtAuthentication jwtAuthentication = JwtAuthentication.of(
+			"executive@loadtest.knucse.site", executive.studentId(), Role.ROLE_EXECUTIVE, null
+		);
+		return jwtTokenGenerator.generateToken(jwtAuthentication, TokenType.ACCESS_TOKEN).value();
+	}
+
+	private static Map<String, Object> applyRequestBody(LoadTestRoster.Member student, Random random) {
+		LockerFloor[] floors = LockerFloor.values();
+		ApplyHeight[] heights = ApplyHeight.values();
+		return Map.of(
+			"studentName", student.studentName(),
+			"studentNumber", student.studentNumber(),
+			"firstFloor", floors[random.nextInt(floors.length)],
+			"firstHeight", heights[random.nextInt(heights.length)],
+			"secondFloor", floors[random.nextInt(floors.length)],
+			"secondHeight", heights[random.nextInt(heights.length)]
+		);
+	}
+
+	private static boolean isRunning(JsonNode job) {
+		String status = job.path("status").asText();
+		return "PENDING".equals(status) || "RUNNING".equals(status);
+	}
+
+	/**
+	 * 클라이언트 수만큼의 스레드로 작업을 나누어 실행하고 모두 끝날 때까지 기다립니다.
+	 */
+	private static void runConcurrently(int clients, int tasks, IntConsumer task) {
+		ExecutorService executor = Executors.newFixedThreadPool(clients, clientThreadFactory());
+		try {
+			for (int index = 0; index < tasks; index++) {
+				int taskIndex = index;
+				executor.execute(() -> task.accept(taskIndex));
+			}
+		} finally {
+			executor.shutdown();
+			try {
+				executor.awaitTermination(1, TimeUnit.HOURS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static ThreadFactory clientThreadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "load-test-client-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.knucse.loadtest;
+
+/**
+ * 부하 테스트 시나리오
+ * - PRIMARY_APPLY_RUSH: 모든 학생이 동시에 대기열에 들어가 입장한 뒤 1차 신청
+ * - MASS_ALLOCATION: 집행부가 일괄 할당 작업을 등록하고 완료될 때까지 조회
+ * - RESULT_LOOKUP: 결과 발표일에 학생들이 배정된 사물함을 조회
+ * - CSV_EXPORT: 집행부가 할당 내역 CSV 를 동시에 내려받음
+ */
+public enum LoadTestScenario {
+	PRIMARY_APPLY_RUSH, MASS_ALLOCATION, RESULT_LOOKUP, CSV_EXPORT
+}
@@ -0,0 +1,125 @@
+package com.knucse.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.knucse.common.util.datetime.DateTimeUtil;
+import com.knucse.locker.domain.model.locker.Locker;
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyFormStatus;
+import com.knucse.locker.domain.persistence.ApplyFormRepository;
+import com.knucse.student.dues.model.Dues;
+import com.knucse.student.dues.persistence.DuesRepository;
+import com.knucse.student.student.model.Role;
+import com.knucse.student.student.model.Student;
+import com.knucse.student.student.persistence.StudentRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 부하 테스트 데이터 생성기
+ * - 학생과 학생회비, 모든 층과 높이에 고르게 배치한 사물함, 지금이 1차 신청 기간인 활성화된 신청 폼을 만듭니다.
+ */
+@Log4j2
+@Component
+@Profile(LoadTestProperties.PROFILE)
+@RequiredArgsConstructor
+public class LoadTestSeeder {
+	private static final int MAX_HEIGHT = 5;
+	private static final String EXECUTIVE_NUMBER = "0000000000";
+
+	private final LoadTestProperties loadTestProperties;
+	private final StudentRepository studentRepository;
+	private final DuesRepository duesRepository;
+	private final EntityManager entityManager;
+	private final ApplyFormRepository applyFormRepository;
+
+	@Transactional
+	public LoadTestRoster seed() {
+		long startedAt = System.nanoTime();
+		Random random = new Random(loadTestProperties.getSeed());
+
+		Student executive = studentRepository.save(Student.builder()
+			.studentNumber(EXECUTIVE_NUMBER)
+			.studentName("집행부")
+			.role(Role.ROLE_EXECUTIVE)
+			.build());
+
+		List<Student> students = new ArrayList<>(loadTestProperties.getStudents());
+		for (int index = 1; index <= loadTestProperties.getStudents(); index++) {
+			students.add(Student.builder()
+				.studentNumber(String.format("2024%06d", index))
+				.studentName("학생" + index)
+				.role(Role.ROLE_STUDENT)
+				.build());
+		}
+		students = studentRepository.saveAll(students);
+
+		List<Dues> dues = new ArrayList<>(students.size());
+		for (Student student : students) {
+			dues.add(Dues.builder()
+				.student(student)
+				.dues(random.nextDouble() < loadTestProperties.getDuesRatio())
+				.build());
+		}
+		duesRepository.saveAll(dues);
+
+		/* 사물함은 이름이 식별자이므로 save(merge) 대신 persist 하여 사물함마다 SELECT 가 실행되지 않도록 한다. */
+		lockers(random).forEach(entityManager::persist);
+		applyFormRepository.save(applyForm());
+
+		log.info("Load test data seeded in {} ms ({} students, {} lockers)",
+			(System.nanoTime() - startedAt) / 1_000_000, students.size(), loadTestProperties.getLockers());
+
+		return new LoadTestRoster(
+			students.stream().map(LoadTestSeeder::toMember).toList(),
+			toMember(executive)
+		);
+	}
+
+	/**
+	 * 사물함을 층, 높이 순으로 돌아가며 배치합니다.
+	 */
+	private List<Locker> lockers(Random random) {
+		LockerFloor[] floors = LockerFloor.values();
+		List<Locker> lockers = new ArrayList<>(loadTestProperties.getLockers());
+		for (int index = 0; index < loadTestProperties.getLockers(); index++) {
+			LockerFloor floor = floors[index % floors.length];
+			int height = index / floors.length % MAX_HEIGHT + 1;
+			lockers.add(Locker.builder()
+				.lockerName(String.format("%s%05d", floor.name().substring(6), index))
+				.floor(floor)
+				.height(height)
+				.pw(String.format("%04d", random.nextInt(10_000)))
+				.broken(false)
+				.build());
+		}
+		return lockers;
+	}
+
+	private ApplyForm applyForm() {
+		LocalDateTime now = DateTimeUtil.now();
+		return ApplyForm.builder()
+			.year(now.getYear())
+			.semester(now.getMonthValue() <= 6 ? 1 : 2)
+			.firstApplyStartDate(now.minusDays(1))
+			.firstApplyEndDate(now.plusDays(1))
+			.semesterEndDate(now.plusMonths(4))
+			.status(ApplyFormStatus.ACTIVE)
+			.lotterySeed(loadTestProperties.getSeed())
+			.build();
+	}
+
+	private static LoadTestRoster.Member toMember(Student student) {
+		return new LoadTestRoster.Member(student.getId(), student.getStudentNumber(), student.getStudentName());
+	}
+}
@@ -0,0 +1,95 @@
+package com.knucse.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 시나리오 하나의 엔드포인트별 측정 결과
+ * - 응답 시간은 모두 보관했다가 보고할 때 정렬하여 백분위를 계산합니다.
+ */
+public class LoadTestStats {
+	private final LoadTestScenario scenario;
+	private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+
+	private long startedAt;
+	private long finishedAt;
+
+	public LoadTestStats(LoadTestScenario scenario) {
+		this.scenario = scenario;
+	}
+
+	public void start() {
+		startedAt = System.nanoTime();
+	}
+
+	public void finish() {
+		finishedAt = System.nanoTime();
+	}
+
+	/**
+	 * 요청 하나의 결과를 기록합니다.
+	 *
+	 * @param endpoint 엔드포인트 이름 (예: "POST /application/primary")
+	 * @param elapsedNanos 응답 시간
+	 * @param outcome 성공이면 null, 실패면 "상태 코드 에러 코드" 형식의 분류
+	 */
+	public void record(String endpoint, long elapsedNanos, String outcome) {
+		endpoints.computeIfAbsent(endpoint, key -> new Endpoint()).record(elapsedNanos, outcome);
+	}
+
+	public String report() {
+		double seconds = Math.max(1, finishedAt - startedAt) / 1e9;
+
+		StringBuilder report = new StringBuilder()
+			.append(String.format("%n[%s] %.1f s%n", scenario, seconds))
+			.append(String.format("  %-48s %8s %10s %10s %10s %10s  %s%n",
+				"endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors"));
+
+		endpoints.forEach((name, endpoint) -> {
+			long[] latencies = endpoint.sortedLatencies();
+			report.append(String.format("  %-48s %8d %10.1f %10.1f %10.1f %10.1f  %s%n",
+				name, latencies.length, latencies.length / seconds,
+				percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0),
+				endpoint.errorMix()));
+		});
+		return report.toString();
+	}
+
+	private static double percentile(long[] sortedLatencies, double quantile) {
+		if (sortedLatencies.length == 0) return 0;
+		int index = (int) Math.ceil(quantile * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(0, index)] / 1e6;
+	}
+
+	private static class Endpoint {
+		private long[] latencies = new long[1024];
+		private int size;
+		private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+		void record(long elapsedNanos, String outcome) {
+			synchronized (this) {
+				if (size == latencies.length) latencies = Arrays.copyOf(latencies, size * 2);
+				latencies[size++] = elapsedNanos;
+			}
+			if (outcome != null) errors.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+		}
+
+		synchronized long[] sortedLatencies() {
+			long[] sorted = Arrays.copyOf(latencies, size);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+
+		String errorMix() {
+			if (errors.isEmpty()) return "-";
+			return new TreeMap<>(errors).entrySet().stream()
+				.map(entry -> entry.getKey() + " x" + entry.getValue().sum())
+				.collect(Collectors.joining(", "));
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.knucse.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메트릭 설정
+ * - 서비스 클래스의 @Timed 를 처리하여 메서드별 실행 시간을 기록합니다. (클래스, 메서드, 예외 태그)
+ * - 수집된 메트릭은 관리 포트의 /actuator/prometheus 로 노출됩니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+		return new TimedAspect(meterRegistry);
+	}
+}
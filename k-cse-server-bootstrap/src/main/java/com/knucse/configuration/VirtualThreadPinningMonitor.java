@@ -0,0 +1,76 @@
+package com.knucse.configuration;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 가상 스레드 고정(pinning) 진단
+ * - synchronized 블록 안에서 블로킹 I/O 를 하면 가상 스레드가 캐리어 스레드에 고정되어, 캐리어 수(CPU 코어 수)만큼만 동시에 처리됩니다.
+ * - JDBC 드라이버, 커넥션 풀, Hibernate 경로의 고정을 찾기 위해 JFR 의 jdk.VirtualThreadPinned 이벤트를 구독하고 스택과 함께 기록합니다.
+ * - 가상 스레드 모드에서만 등록됩니다.
+ */
+@Log4j2
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private final VirtualThreadProperties virtualThreadProperties;
+
+	private final AtomicLong pinnedCount = new AtomicLong();
+	private RecordingStream recordingStream;
+
+	@PostConstruct
+	public void start() {
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT)
+			.withThreshold(virtualThreadProperties.getPinnedThreshold())
+			.withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::report);
+		recordingStream.startAsync();
+
+		log.info("Virtual thread pinning monitor started (threshold: {})", virtualThreadProperties.getPinnedThreshold());
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (recordingStream == null) return;
+
+		recordingStream.close();
+		log.info("Virtual thread pinning monitor stopped ({} pinned events)", pinnedCount.get());
+	}
+
+	private void report(RecordedEvent event) {
+		pinnedCount.incrementAndGet();
+		log.warn("Virtual thread pinned for {} ms on {}\n{}",
+			event.getDuration().toMillis(),
+			event.getThread() == null ? "unknown" : event.getThread().getJavaName(),
+			formatStackTrace(event.getStackTrace()));
+	}
+
+	private String formatStackTrace(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) return "\t(no stack trace)";
+
+		List<RecordedFrame> frames = stackTrace.getFrames();
+		return frames.stream()
+			.limit(virtualThreadProperties.getStackDepth())
+			.map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+				+ "(line " + frame.getLineNumber() + ")")
+			.collect(Collectors.joining("\n"));
+	}
+}
@@ -0,0 +1,24 @@
+package com.knucse.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 가상 스레드 진단 설정
+ * - 가상 스레드 사용 여부는 spring.threads.virtual.enabled 로 설정합니다.
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.virtual-threads")
+public class VirtualThreadProperties {
+	/* 캐리어 스레드 고정(pinning) 시간이 이 값을 넘으면 경고 로그를 남깁니다. */
+	private Duration pinnedThreshold = Duration.ofMillis(20);
+
+	/* 경고 로그에 남길 스택 프레임 수 */
+	private int stackDepth = 12;
+}
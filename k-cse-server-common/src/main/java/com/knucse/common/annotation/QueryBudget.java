@@ -0,0 +1,19 @@
+package com.knucse.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청(컨트롤러 메서드) 또는 서비스 호출 한 번에 실행할 수 있는 최대 SQL 문 수
+ * - 초과하면 경고 로그를 남기고, app.query-budget.fail-on-exceed 가 true 이면 예외를 던집니다.
+ * - 서비스에서는 @Transactional 이 적용된 메서드에서만 검사합니다.
+ * - 요청 스레드에서 커넥션으로 실행한 SQL 문(Hibernate, JdbcTemplate)을 모두 셉니다.
+ *   다른 스레드의 SQL 문(신청 묶음 저장기, 일괄 배정 작업)은 요청에 포함되지 않으며, 신청 묶음 저장기는 묶음마다 따로 검사합니다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+	int value();
+}
@@ -1,19 +1,45 @@
 package com.knucse.common.exception;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.knucse.common.util.api.ApiErrorResult;
 import com.knucse.common.util.api.ApiResponseUtil;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public abstract class BaseExceptionHandler<T extends Throwable> {
+	private static final String METRIC_NAME = "api.errors";
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	@Autowired(required = false)
+	void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
 
 	protected ResponseEntity<ApiErrorResult> handleException(T exception, HttpStatus status, String errorCode) {
 		log.debug(exception.getMessage(), exception);
+		countOutcome(status, errorCode);
 		return ResponseEntity.status(status)
 			.body(ApiResponseUtil.error(status, errorCode));
 	}
+
+	/**
+	 * 에러 코드(outcome)별 응답 수를 기록합니다.
+	 * - 에러 코드는 예외 클래스마다 고정된 상수이므로 태그 값의 종류가 제한됩니다.
+	 */
+	private void countOutcome(HttpStatus status, String errorCode) {
+		Counter.builder(METRIC_NAME)
+			.tag("outcome", errorCode)
+			.tag("status", String.valueOf(status.value()))
+			.description("에러 코드별 API 오류 응답 수")
+			.register(meterRegistry)
+			.increment();
+	}
 }
@@ -11,6 +11,7 @@ import com.knucse.common.exception.support.business._ApplicationLogicException;
 import com.knucse.common.exception.support.business.BadRequestException;
 import com.knucse.common.exception.support.business.DuplicatedException;
 import com.knucse.common.exception.support.business.NotFoundException;
+import com.knucse.common.exception.support.business.TooManyRequestsException;
 import com.knucse.common.util.api.ApiErrorResult;
 
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +36,11 @@ public class BusinessExceptionHandler extends BaseExceptionHandler<Exception> {
 		return handleException(exception, exception.getHttpStatus(), exception.getErrorCode());
 	}
 
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<ApiErrorResult> handleTooManyRequestsException(TooManyRequestsException exception) {
+		return handleException(exception, exception.getHttpStatus(), exception.getErrorCode());
+	}
+
 	@ExceptionHandler(_ApplicationLogicException.class)
 	public ResponseEntity<ApiErrorResult> handleApplicationLogicException(_ApplicationLogicException exception) {
 		return handleException(exception, exception.getHttpStatus(), exception.getErrorCode());
@@ -0,0 +1,13 @@
+package com.knucse.common.exception.support.business;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+@Getter
+public abstract class TooManyRequestsException extends _ApplicationLogicException {
+	private final HttpStatus httpStatus = HttpStatus.TOO_MANY_REQUESTS;
+	public TooManyRequestsException(final String errorCode) {
+		super(errorCode);
+	}
+}
@@ -0,0 +1,60 @@
+package com.knucse.common.sql;
+
+import java.lang.reflect.Method;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.knucse.common.annotation.QueryBudget;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @Transactional 서비스 호출마다 SqlStatementScope 를 열어 실행된 SQL 문 수를 검사합니다.
+ * - 커밋 시점의 flush 도 집계되도록 트랜잭션 어드바이스보다 바깥에서 실행합니다.
+ * - Spring Data 리포지토리(SimpleJpaRepository)의 @Transactional 은 제외하기 위해 com.knucse 패키지로 한정합니다.
+ * - 최대 SQL 문 수는 서비스 메서드(또는 클래스)의 @QueryBudget 으로 정합니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryBudgetAspect {
+	private final QueryBudgetVerifier verifier;
+	private final QueryBudgetProperties properties;
+
+	@Around("execution(public * com.knucse..*(..)) && ("
+		+ "@within(org.springframework.transaction.annotation.Transactional)"
+		+ " || @annotation(org.springframework.transaction.annotation.Transactional))")
+	public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (!properties.isEnabled()) return joinPoint.proceed();
+
+		MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+		SqlStatementScope scope = SqlStatementScope.open(
+			signature.getDeclaringType().getSimpleName() + "." + signature.getName(),
+			budgetOf(signature.getMethod(), joinPoint.getTarget().getClass())
+		);
+
+		Object result;
+		try {
+			result = joinPoint.proceed();
+		} finally {
+			scope.close();
+		}
+
+		verifier.verify(scope);
+		return result;
+	}
+
+	private static int budgetOf(Method method, Class<?> targetClass) {
+		QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(method, QueryBudget.class);
+		if (budget == null) budget = AnnotatedElementUtils.findMergedAnnotation(targetClass, QueryBudget.class);
+		return budget == null ? SqlStatementScope.UNLIMITED : budget.value();
+	}
+}
@@ -0,0 +1,44 @@
+package com.knucse.common.sql;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class QueryBudgetConfig {
+
+	/**
+	 * DataSource 를 SqlStatementCountingDataSource 로 감싸 Hibernate 와 JdbcTemplate 의 SQL 문을 모두 셉니다.
+	 * - 열린 범위가 없으면 ThreadLocal 조회만 하므로 비활성화 상태에서도 감싸 둡니다.
+	 */
+	@Bean
+	public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatementCountingDataSource)) {
+					return new SqlStatementCountingDataSource(dataSource);
+				}
+				return bean;
+			}
+		};
+	}
+
+	/**
+	 * 모든 요청의 SQL 문을 세도록 가장 먼저 실행되는 필터로 등록합니다. (Spring Security 필터의 조회 포함)
+	 */
+	@Bean
+	public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(
+		QueryBudgetVerifier verifier, QueryBudgetProperties properties
+	) {
+		FilterRegistrationBean<QueryBudgetFilter> registration = new FilterRegistrationBean<>(
+			new QueryBudgetFilter(verifier, properties)
+		);
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+}
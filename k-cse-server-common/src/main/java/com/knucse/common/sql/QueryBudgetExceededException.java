@@ -0,0 +1,22 @@
+package com.knucse.common.sql;
+
+import com.knucse.common.exception.support.custom._CustomException;
+
+/**
+ * 요청 또는 서비스 호출이 @QueryBudget 의 최대 SQL 문 수를 넘었을 때 발생합니다. (app.query-budget.fail-on-exceed 가 true 일 때)
+ */
+public class QueryBudgetExceededException extends _CustomException {
+	private static final String code = "QUERY_BUDGET_EXCEEDED";
+
+	private final String detail;
+
+	public QueryBudgetExceededException(String detail) {
+		super(code);
+		this.detail = detail;
+	}
+
+	@Override
+	public String getMessage() {
+		return code + ": " + detail;
+	}
+}
@@ -0,0 +1,63 @@
+package com.knucse.common.sql;
+
+import java.io.IOException;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.knucse.common.annotation.QueryBudget;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HTTP 요청마다 SqlStatementScope 를 열어 실행된 SQL 문 수를 검사합니다.
+ * - 최대 SQL 문 수는 요청을 처리한 컨트롤러 메서드(또는 클래스)의 @QueryBudget 으로 정합니다.
+ * - 예외는 필터 밖으로 전파되어야 테스트(MockMvc)에서 실패로 드러나므로, 인터셉터가 아닌 필터에서 검사합니다.
+ */
+@RequiredArgsConstructor
+public class QueryBudgetFilter extends OncePerRequestFilter {
+	private final QueryBudgetVerifier verifier;
+	private final QueryBudgetProperties properties;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !properties.isEnabled();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+		throws ServletException, IOException {
+
+		SqlStatementScope scope = SqlStatementScope.open(
+			request.getMethod() + " " + request.getRequestURI(), SqlStatementScope.UNLIMITED
+		);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			scope.close();
+		}
+
+		describe(request, scope);
+		verifier.verify(scope);
+	}
+
+	private void describe(HttpServletRequest request, SqlStatementScope scope) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod)
+			|| pattern == null) return;
+
+		QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), QueryBudget.class);
+		if (budget == null) budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+
+		scope.describe(
+			request.getMethod() + " " + pattern,
+			budget == null ? SqlStatementScope.UNLIMITED : budget.value()
+		);
+	}
+}
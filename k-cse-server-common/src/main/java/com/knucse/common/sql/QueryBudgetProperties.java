@@ -0,0 +1,24 @@
+package com.knucse.common.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * SQL 문 수 제한(@QueryBudget)과 N+1 탐지 설정
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.query-budget")
+public class QueryBudgetProperties {
+	/* 비활성화하면 요청과 서비스 호출의 SQL 문을 세지 않습니다. */
+	private boolean enabled = true;
+
+	/* true 이면 제한을 넘은 요청/서비스 호출에서 QueryBudgetExceededException 을 던집니다. (테스트용) */
+	private boolean failOnExceed = false;
+
+	/* 한 요청에서 같은 모양의 SELECT 가 이 횟수 이상 실행되면 N+1 로 의심하여 경고 로그를 남깁니다. */
+	private int repeatedSelectThreshold = 5;
+}
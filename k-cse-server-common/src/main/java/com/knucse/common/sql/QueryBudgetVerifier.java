@@ -0,0 +1,44 @@
+package com.knucse.common.sql;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 닫힌 SqlStatementScope 의 SQL 문 수를 검사합니다.
+ * - 최대 SQL 문 수를 넘으면 경고 로그를 남기고, fail-on-exceed 이면 예외를 던집니다.
+ * - 가장 바깥 범위에서는 같은 모양의 SELECT 반복(N+1 의심)을 함께 검사합니다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class QueryBudgetVerifier {
+	private final QueryBudgetProperties properties;
+
+	/**
+	 * @throws QueryBudgetExceededException "QUERY_BUDGET_EXCEEDED" (fail-on-exceed 일 때)
+	 */
+	public void verify(SqlStatementScope scope) {
+		if (scope.isRoot()) {
+			log.debug("{} executed {} SQL statements", scope.name(), scope.count());
+			warnRepeatedSelects(scope);
+		}
+
+		if (!scope.isOverBudget()) return;
+
+		String detail = scope.name() + " executed " + scope.count() + " SQL statements (budget " + scope.budget() + ")";
+		log.warn("Query budget exceeded: {}", detail);
+		if (properties.isFailOnExceed()) throw new QueryBudgetExceededException(detail);
+	}
+
+	private void warnRepeatedSelects(SqlStatementScope scope) {
+		for (Map.Entry<String, Integer> shape : scope.selectShapes().entrySet()) {
+			if (shape.getValue() >= properties.getRepeatedSelectThreshold()) {
+				log.warn("Suspected N+1 in {}: {} x {}", scope.name(), shape.getValue(), shape.getKey());
+			}
+		}
+	}
+}
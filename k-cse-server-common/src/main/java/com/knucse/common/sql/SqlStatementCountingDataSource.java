@@ -0,0 +1,76 @@
+package com.knucse.common.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션에서 준비하거나 실행한 SQL 문을 현재 스레드의 SqlStatementScope 에 기록하는 DataSource
+ * - Hibernate 와 JdbcTemplate 이 같은 DataSource 를 쓰므로, 두 경로의 SQL 문을 모두 셉니다.
+ * - PreparedStatement/CallableStatement 는 준비할 때 한 번 셉니다. (JDBC 배치는 실행 횟수와 관계없이 한 문장)
+ * - Statement 는 SQL 을 실행하거나 배치에 추가할 때마다 셉니다.
+ */
+public class SqlStatementCountingDataSource extends DelegatingDataSource {
+	private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+	private static final Set<String> EXECUTE_METHODS = Set.of(
+		"execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch"
+	);
+
+	public SqlStatementCountingDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return countingProxy(Connection.class, obtainTargetDataSource().getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return countingProxy(Connection.class, obtainTargetDataSource().getConnection(username, password));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T countingProxy(Class<T> type, T target) {
+		return (T)Proxy.newProxyInstance(
+			SqlStatementCountingDataSource.class.getClassLoader(), new Class<?>[] {type}, new CountingHandler(target)
+		);
+	}
+
+	private record CountingHandler(Object target) implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (name.equals("equals")) return proxy == args[0];
+			if (name.equals("hashCode")) return System.identityHashCode(proxy);
+			if (isSqlStatement(name, args)) SqlStatementScope.record((String)args[0]);
+
+			Object result;
+			try {
+				result = method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+
+			if (target instanceof Connection && name.equals("createStatement")) {
+				return countingProxy(Statement.class, (Statement)result);
+			}
+			return result;
+		}
+
+		private boolean isSqlStatement(String name, Object[] args) {
+			if (args == null || args.length == 0 || !(args[0] instanceof String)) return false;
+			return target instanceof Connection ? PREPARE_METHODS.contains(name) : EXECUTE_METHODS.contains(name);
+		}
+	}
+}
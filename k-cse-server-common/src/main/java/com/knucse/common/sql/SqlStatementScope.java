@@ -0,0 +1,109 @@
+package com.knucse.common.sql;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문을 세는 범위 (HTTP 요청, 서비스 호출)
+ * - 범위는 스레드별 스택으로 중첩되며, SQL 문은 열려 있는 모든 범위에 집계됩니다.
+ * - 같은 모양(바인딩 값과 IN 목록 길이를 제외한 SQL)의 SELECT 반복 횟수는 가장 바깥 범위에서만 셉니다. (N+1 탐지)
+ */
+public final class SqlStatementScope {
+	public static final int UNLIMITED = -1;
+
+	private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(\\s*,\\s*\\?)+\\)");
+
+	private final SqlStatementScope parent;
+	private final Map<String, Integer> selectShapes;
+	private String name;
+	private int budget;
+	private int count;
+
+	private SqlStatementScope(String name, int budget, SqlStatementScope parent) {
+		this.name = name;
+		this.budget = budget;
+		this.parent = parent;
+		this.selectShapes = parent == null ? new HashMap<>() : null;
+	}
+
+	/**
+	 * 현재 스레드에 새 범위를 엽니다. 반드시 close 로 닫아야 합니다.
+	 *
+	 * @param name 로그에 남길 범위 이름
+	 * @param budget 최대 SQL 문 수 (제한이 없으면 UNLIMITED)
+	 */
+	public static SqlStatementScope open(String name, int budget) {
+		SqlStatementScope scope = new SqlStatementScope(name, budget, CURRENT.get());
+		CURRENT.set(scope);
+		return scope;
+	}
+
+	/**
+	 * 실행된 SQL 문을 현재 스레드에 열려 있는 모든 범위에 기록합니다. 열린 범위가 없으면 무시합니다.
+	 */
+	static void record(String sql) {
+		SqlStatementScope scope = CURRENT.get();
+		if (scope == null) return;
+
+		scope.count++;
+		while (scope.parent != null) {
+			scope = scope.parent;
+			scope.count++;
+		}
+		if (isSelect(sql)) scope.selectShapes.merge(shapeOf(sql), 1, Integer::sum);
+	}
+
+	public void close() {
+		if (parent == null) CURRENT.remove();
+		else CURRENT.set(parent);
+	}
+
+	public String name() {
+		return name;
+	}
+
+	public int budget() {
+		return budget;
+	}
+
+	/**
+	 * 범위를 연 뒤에 이름과 최대 SQL 문 수가 정해지는 경우(요청 처리 중 핸들러가 결정되는 경우) 사용합니다.
+	 */
+	public void describe(String name, int budget) {
+		this.name = name;
+		this.budget = budget;
+	}
+
+	public int count() {
+		return count;
+	}
+
+	public boolean isRoot() {
+		return parent == null;
+	}
+
+	public boolean isOverBudget() {
+		return budget != UNLIMITED && count > budget;
+	}
+
+	/**
+	 * @return SELECT 모양별 실행 횟수 (가장 바깥 범위가 아니면 빈 Map)
+	 */
+	public Map<String, Integer> selectShapes() {
+		return selectShapes == null ? Map.of() : selectShapes;
+	}
+
+	private static boolean isSelect(String sql) {
+		String trimmed = sql.stripLeading();
+		return trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4);
+	}
+
+	static String shapeOf(String sql) {
+		String shape = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+		return PARAMETER_LIST.matcher(shape).replaceAll("(?)").toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,54 @@
+package com.knucse.common.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryBudgetVerifierTest {
+
+	@Test
+	@DisplayName("fail-on-exceed 이면 최대 SQL 문 수를 넘은 범위에서 예외를 던진다")
+	void failOnExceed() {
+		QueryBudgetVerifier verifier = verifier(true);
+		SqlStatementScope scope = scopeWith(3, 2);
+
+		assertThatThrownBy(() -> verifier.verify(scope))
+			.isInstanceOf(QueryBudgetExceededException.class)
+			.hasMessageContaining("executed 3 SQL statements (budget 2)");
+	}
+
+	@Test
+	@DisplayName("fail-on-exceed 가 아니면 최대 SQL 문 수를 넘어도 예외를 던지지 않는다")
+	void warnOnly() {
+		QueryBudgetVerifier verifier = verifier(false);
+		SqlStatementScope scope = scopeWith(3, 2);
+
+		assertThatNoException().isThrownBy(() -> verifier.verify(scope));
+	}
+
+	@Test
+	@DisplayName("최대 SQL 문 수 이내이면 예외를 던지지 않는다")
+	void withinBudget() {
+		QueryBudgetVerifier verifier = verifier(true);
+		SqlStatementScope scope = scopeWith(2, 2);
+
+		assertThatNoException().isThrownBy(() -> verifier.verify(scope));
+	}
+
+	private static QueryBudgetVerifier verifier(boolean failOnExceed) {
+		QueryBudgetProperties properties = new QueryBudgetProperties();
+		properties.setFailOnExceed(failOnExceed);
+		return new QueryBudgetVerifier(properties);
+	}
+
+	private static SqlStatementScope scopeWith(int statements, int budget) {
+		SqlStatementScope scope = SqlStatementScope.open("test", budget);
+		try {
+			for (int i = 0; i < statements; i++) SqlStatementScope.record("select " + i);
+		} finally {
+			scope.close();
+		}
+		return scope;
+	}
+}
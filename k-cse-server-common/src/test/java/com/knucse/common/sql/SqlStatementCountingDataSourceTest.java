@@ -0,0 +1,81 @@
+package com.knucse.common.sql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlStatementCountingDataSourceTest {
+	private final Connection connection = mock(Connection.class);
+	private final DataSource dataSource = new SqlStatementCountingDataSource(mock(DataSource.class));
+	private SqlStatementScope scope;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		DataSource target = ((SqlStatementCountingDataSource)dataSource).getTargetDataSource();
+		when(target.getConnection()).thenReturn(connection);
+		when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+		when(connection.prepareStatement(anyString(), any(String[].class))).thenReturn(mock(PreparedStatement.class));
+		when(connection.createStatement()).thenReturn(mock(Statement.class));
+		scope = SqlStatementScope.open("test", SqlStatementScope.UNLIMITED);
+	}
+
+	@AfterEach
+	void tearDown() {
+		scope.close();
+	}
+
+	@Test
+	@DisplayName("PreparedStatement 는 배치 실행 횟수와 관계없이 준비할 때 한 번 센다")
+	void preparedStatement() throws SQLException {
+		try (Connection counted = dataSource.getConnection()) {
+			PreparedStatement insert = counted.prepareStatement("insert into apply (student_id) values (?)", new String[] {"apply_id"});
+			insert.addBatch();
+			insert.addBatch();
+			insert.executeBatch();
+			counted.prepareStatement("select * from apply where apply_id = ?").executeQuery();
+		}
+
+		assertThat(scope.count()).isEqualTo(2);
+		assertThat(scope.selectShapes()).containsOnlyKeys("select * from apply where apply_id = ?");
+	}
+
+	@Test
+	@DisplayName("Statement 는 SQL 을 실행할 때마다 센다")
+	void statement() throws SQLException {
+		try (Connection counted = dataSource.getConnection(); Statement statement = counted.createStatement()) {
+			statement.executeQuery("select 1");
+			statement.executeUpdate("update apply set status = 'APPLY'");
+			statement.getFetchSize();
+		}
+
+		assertThat(scope.count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("SQL 문이 아닌 호출은 세지 않고 대상 커넥션에 그대로 전달한다")
+	void delegate() throws SQLException {
+		try (Connection counted = dataSource.getConnection()) {
+			counted.setAutoCommit(false);
+			counted.commit();
+
+			assertThat(counted).isEqualTo(counted).isNotEqualTo(connection);
+		}
+
+		verify(connection).setAutoCommit(false);
+		verify(connection).commit();
+		verify(connection).close();
+		assertThat(scope.count()).isZero();
+	}
+}
@@ -0,0 +1,82 @@
+package com.knucse.common.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlStatementScopeTest {
+	private SqlStatementScope root;
+
+	@AfterEach
+	void tearDown() {
+		if (root != null) root.close();
+	}
+
+	@Test
+	@DisplayName("열린 범위가 없으면 SQL 문을 무시한다")
+	void recordWithoutScope() {
+		SqlStatementScope.record("select 1");
+
+		root = SqlStatementScope.open("root", SqlStatementScope.UNLIMITED);
+		assertThat(root.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("SQL 문은 열려 있는 모든 범위에 집계된다")
+	void recordToAllOpenScopes() {
+		root = SqlStatementScope.open("request", SqlStatementScope.UNLIMITED);
+		SqlStatementScope.record("select * from apply where apply_id = ?");
+
+		SqlStatementScope service = SqlStatementScope.open("service", 1);
+		SqlStatementScope.record("update apply set status = ? where apply_id = ?");
+		SqlStatementScope.record("select * from allocate where student_id = ?");
+		service.close();
+
+		SqlStatementScope.record("select * from locker where locker_id = ?");
+
+		assertThat(service.count()).isEqualTo(2);
+		assertThat(service.isRoot()).isFalse();
+		assertThat(service.isOverBudget()).isTrue();
+		assertThat(root.count()).isEqualTo(4);
+		assertThat(root.isOverBudget()).isFalse();
+	}
+
+	@Test
+	@DisplayName("SELECT 모양은 바인딩 값과 IN 목록 길이를 빼고 가장 바깥 범위에서만 센다")
+	void selectShapes() {
+		root = SqlStatementScope.open("request", SqlStatementScope.UNLIMITED);
+		SqlStatementScope service = SqlStatementScope.open("service", SqlStatementScope.UNLIMITED);
+		SqlStatementScope.record("SELECT * FROM apply WHERE student_id IN (?, ?)");
+		SqlStatementScope.record("select *  from apply\n where student_id in (?,?,?)");
+		SqlStatementScope.record("insert into apply (student_id) values (?)");
+		service.close();
+
+		assertThat(service.selectShapes()).isEmpty();
+		assertThat(root.selectShapes()).containsExactly(
+			entry("select * from apply where student_id in (?)", 2)
+		);
+	}
+
+	@Test
+	@DisplayName("최대 SQL 문 수가 UNLIMITED 이면 초과하지 않는다")
+	void unlimited() {
+		root = SqlStatementScope.open("request", SqlStatementScope.UNLIMITED);
+		for (int i = 0; i < 100; i++) SqlStatementScope.record("select 1");
+
+		assertThat(root.isOverBudget()).isFalse();
+	}
+
+	@Test
+	@DisplayName("describe 로 연 뒤에 이름과 최대 SQL 문 수를 정할 수 있다")
+	void describe() {
+		root = SqlStatementScope.open("request", SqlStatementScope.UNLIMITED);
+		SqlStatementScope.record("select 1");
+		SqlStatementScope.record("select 2");
+		root.describe("GET /api/v1/apply", 1);
+
+		assertThat(root.name()).isEqualTo("GET /api/v1/apply");
+		assertThat(root.isOverBudget()).isTrue();
+	}
+}
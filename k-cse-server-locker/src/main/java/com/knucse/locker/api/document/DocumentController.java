@@ -1,19 +1,25 @@
 package com.knucse.locker.api.document;
 
-import java.io.StringWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
 import com.knucse.locker.domain.service.document.DocumentService;
-import com.opencsv.CSVWriter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,62 +28,67 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @PreAuthorize("hasRole('EXECUTIVE') and isAuthenticated()")
 public class DocumentController {
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	private final DocumentService documentService;
 
+	/**
+	 * 할당 내역을 CSV 로 내려받습니다.
+	 * - 응답 본문은 DB 커서에서 읽은 행을 바로 스트리밍하므로 파일 전체를 메모리에 만들지 않습니다.
+	 * - 클라이언트가 gzip 을 허용하면 gzip 으로 압축해서 보냅니다.
+	 *
+	 * @param year 연도 (없으면 활성화된 신청 폼)
+	 * @param semester 학기 (없으면 활성화된 신청 폼)
+	 * @param all true 이면 모든 학기의 할당 내역을 내보냄
+	 */
 	@GetMapping("/download/csv")
-	public ResponseEntity<byte[]> downloadAllocationsCsv() {
-		try {
-			List<AllocateReadDto> allocations = documentService.getAllStudentAllocateForm();
+	public ResponseEntity<StreamingResponseBody> downloadAllocationsCsv(
+		@RequestParam(required = false) Integer year,
+		@RequestParam(required = false) Integer semester,
+		@RequestParam(defaultValue = "false") boolean all,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+	) {
+		// 응답을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 신청 폼은 먼저 조회한다.
+		ApplyForm applyForm = all ? null : documentService.getExportApplyForm(year, semester);
+		boolean gzip = acceptsGzip(acceptEncoding);
+
+		StreamingResponseBody responseBody = outputStream -> writeCsv(applyForm, outputStream, gzip);
 
-			StringWriter stringWriter = new StringWriter();
-			CSVWriter csvWriter = new CSVWriter(stringWriter);
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=allocations.csv");
+		headers.set(HttpHeaders.CONTENT_TYPE, "text/csv");
+		headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (gzip) headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
 
-			// Write CSV header
-			String[] header = {
-				"studentName",
-				"studentNumber",
-				"lockerName",
-				"floor",
-				"height",
-				"pw",
-				"broken",
-				"applyFormYear",
-				"applyFormSemester"
-			};
-			csvWriter.writeNext(header);
+		return ResponseEntity
+			.ok()
+			.headers(headers)
+			.body(responseBody);
+	}
 
-			// Write data rows
-			for (AllocateReadDto dto : allocations) {
-				String[] row = {
-					dto.studentName(), // 또는 dto.studentName() depending on the DTO
-					dto.studentNumber(),
-					dto.lockerName(),
-					dto.floor().toString(),
-					dto.height().toString(),
-					dto.pw(),
-					dto.broken().toString(),
-					dto.applyForm().year().toString(),
-					dto.applyForm().semester().toString()
-				};
-				csvWriter.writeNext(row);
-			}
+	private void writeCsv(ApplyForm applyForm, OutputStream outputStream, boolean gzip) throws IOException {
+		GZIPOutputStream gzipOutputStream = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+		Writer writer = new BufferedWriter(
+			new OutputStreamWriter(gzip ? gzipOutputStream : outputStream, StandardCharsets.UTF_8),
+			BUFFER_SIZE
+		);
 
-			csvWriter.close();
+		documentService.writeAllocationsCsv(applyForm, writer);
 
-			byte[] csvBytes = stringWriter.toString().getBytes(StandardCharsets.UTF_8);
+		writer.flush();
+		if (gzip) gzipOutputStream.finish();
+	}
 
-			HttpHeaders headers = new HttpHeaders();
-			headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=allocations.csv");
-			headers.set(HttpHeaders.CONTENT_TYPE, "text/csv");
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) return false;
+		for (String token : acceptEncoding.split(",")) {
+			String[] parts = token.trim().split(";");
+			String coding = parts[0].trim();
+			if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) continue;
 
-			return ResponseEntity
-				.ok()
-				.headers(headers)
-				.body(csvBytes);
-		} catch (Exception e) {
-			// 로깅 추가
-			e.printStackTrace();
-			return ResponseEntity.status(500).body("An error occurred while generating the CSV.".getBytes(StandardCharsets.UTF_8));
+			boolean rejected = parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?");
+			return !rejected;
 		}
+		return false;
 	}
 }
@@ -0,0 +1,240 @@
+package com.knucse.locker.api.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knucse.common.util.api.ApiResponseUtil;
+import com.knucse.locker.api.idempotency.IdempotencyStore.Claim;
+import com.knucse.locker.api.idempotency.IdempotencyStore.IdempotencyRecord;
+import com.knucse.locker.api.idempotency.IdempotencyStore.StoredResponse;
+import com.knucse.locker.config.IdempotencyProperties;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Idempotency-Key 헤더를 가진 POST 요청을 한 번만 처리합니다.
+ * - 같은 사용자가 같은 경로에 같은 키로 다시 요청하면, 처리 중이면 결과를 기다리고 처리가 끝났으면 저장된 응답을 그대로 돌려줍니다.
+ * - 같은 키로 본문이 다른 요청을 보내면 422 로 거절합니다.
+ * - 5xx 응답과 429(대기열 미입장) 응답은 저장하지 않으므로 같은 키로 다시 시도할 수 있습니다.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+	private static final int MAX_KEY_LENGTH = 255;
+	private static final String ANONYMOUS = "anonymous";
+
+	private final IdempotencyStore idempotencyStore;
+	private final IdempotencyProperties properties;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !properties.isEnabled()
+			|| !HttpMethod.POST.matches(request.getMethod())
+			|| request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+		throws ServletException, IOException {
+
+		String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+		if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+			writeError(response, HttpStatus.BAD_REQUEST, "IDEMPOTENCY_KEY_INVALID");
+			return;
+		}
+
+		int maxRequestSize = (int)properties.getMaxRequestSize().toBytes();
+		byte[] body = request.getContentLengthLong() > maxRequestSize
+			? null
+			: request.getInputStream().readNBytes(maxRequestSize + 1);
+		if (body == null || body.length > maxRequestSize) {
+			writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "IDEMPOTENCY_REQUEST_TOO_LARGE");
+			return;
+		}
+
+		String scope = scopeOf(request, key);
+		String fingerprint = fingerprintOf(request, body);
+		HttpServletRequest cachedRequest = new CachedBodyRequest(request, body);
+
+		while (true) {
+			Claim claim = idempotencyStore.claim(scope, fingerprint);
+			if (claim.owner()) {
+				execute(cachedRequest, response, chain, scope, claim.record());
+				return;
+			}
+
+			IdempotencyRecord record = claim.record();
+			if (!record.fingerprint().equals(fingerprint)) {
+				writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_MISMATCH");
+				return;
+			}
+
+			try {
+				StoredResponse stored = record.response().get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+				replay(response, stored);
+				return;
+			} catch (ExecutionException e) {
+				/* 먼저 들어온 요청이 결과를 남기지 못함: 다시 선점을 시도 */
+			} catch (TimeoutException e) {
+				writeError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_IN_PROGRESS");
+				return;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				writeError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_IN_PROGRESS");
+				return;
+			}
+		}
+	}
+
+	private void execute(
+		HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+		String scope, IdempotencyRecord record
+	) throws ServletException, IOException {
+		ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+		boolean stored = false;
+		try {
+			chain.doFilter(request, responseWrapper);
+
+			int status = responseWrapper.getStatus();
+			byte[] responseBody = responseWrapper.getContentAsByteArray();
+			if (isStorable(status) && responseBody.length <= properties.getMaxResponseSize().toBytes()) {
+				idempotencyStore.complete(scope, record,
+					new StoredResponse(status, responseWrapper.getContentType(), responseBody));
+				stored = true;
+			}
+		} finally {
+			if (!stored) idempotencyStore.abandon(scope, record);
+			responseWrapper.copyBodyToResponse();
+		}
+	}
+
+	private static boolean isStorable(int status) {
+		return status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value();
+	}
+
+	private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+		response.setStatus(stored.status());
+		if (stored.contentType() != null) response.setContentType(stored.contentType());
+		response.setHeader(REPLAYED_HEADER, "true");
+		response.setContentLength(stored.body().length);
+		response.getOutputStream().write(stored.body());
+	}
+
+	private void writeError(HttpServletResponse response, HttpStatus status, String code) throws IOException {
+		response.setStatus(status.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), ApiResponseUtil.error(status, code));
+	}
+
+	/**
+	 * 키는 사용자와 요청 경로별로 구분합니다. (다른 사용자의 키와 겹쳐도 서로의 응답을 받지 않도록)
+	 */
+	private static String scopeOf(HttpServletRequest request, String key) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		String principal = authentication == null || authentication instanceof AnonymousAuthenticationToken
+			? ANONYMOUS
+			: authentication.getName();
+		return principal + " " + request.getRequestURI() + " " + key;
+	}
+
+	private static String fingerprintOf(HttpServletRequest request, byte[] body) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update((request.getRequestURI() + "?" + request.getQueryString() + "\n").getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest.digest(body));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 미리 읽은 본문을 다시 읽을 수 있도록 제공하는 요청
+	 */
+	private static class CachedBodyRequest extends HttpServletRequestWrapper {
+		private final byte[] body;
+
+		CachedBodyRequest(HttpServletRequest request, byte[] body) {
+			super(request);
+			this.body = body;
+		}
+
+		@Override
+		public ServletInputStream getInputStream() {
+			ByteArrayInputStream input = new ByteArrayInputStream(body);
+			return new ServletInputStream() {
+				@Override
+				public boolean isFinished() {
+					return input.available() == 0;
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				@Override
+				public void setReadListener(ReadListener readListener) {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public int read() {
+					return input.read();
+				}
+
+				@Override
+				public int read(byte[] buffer, int offset, int length) {
+					return input.read(buffer, offset, length);
+				}
+			};
+		}
+
+		@Override
+		public BufferedReader getReader() {
+			String encoding = getCharacterEncoding();
+			Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+			return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+		}
+
+		@Override
+		public int getContentLength() {
+			return body.length;
+		}
+
+		@Override
+		public long getContentLengthLong() {
+			return body.length;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.knucse.locker.api.idempotency;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.knucse.locker.config.IdempotencyProperties;
+
+/**
+ * Idempotency-Key 처리 결과 저장소 (메모리)
+ * - 처리 중인 요청과 처리가 끝난 응답을 키별로 보관합니다.
+ * - 응답 본문 크기의 합으로 용량을 제한하며, 보관 기간이 지나거나 용량을 넘으면 제거됩니다.
+ */
+@Component
+public class IdempotencyStore {
+	/* 본문 외의 항목(키, 지문, 상태 등)에 대한 대략적인 크기 */
+	private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+	private final Cache<String, IdempotencyRecord> records;
+
+	public IdempotencyStore(IdempotencyProperties properties) {
+		this.records = Caffeine.newBuilder()
+			.maximumWeight(properties.getMaxStoredSize().toBytes())
+			.weigher((String key, IdempotencyRecord record) -> ENTRY_OVERHEAD_BYTES + key.length() + record.bodySize())
+			.expireAfterWrite(properties.getTtl())
+			.build();
+	}
+
+	/**
+	 * 키를 선점합니다.
+	 *
+	 * @param scope 사용자와 요청 경로를 포함한 키
+	 * @param fingerprint 요청 지문 (같은 키로 다른 요청을 보냈는지 확인)
+	 * @return 선점에 성공하면 새로 등록된 처리 중 기록, 이미 있으면 기존 기록
+	 */
+	public Claim claim(String scope, String fingerprint) {
+		IdempotencyRecord created = new IdempotencyRecord(fingerprint, new CompletableFuture<>());
+		IdempotencyRecord existing = records.asMap().putIfAbsent(scope, created);
+		return existing == null ? new Claim(created, true) : new Claim(existing, false);
+	}
+
+	/**
+	 * 처리 결과를 저장하고, 결과를 기다리는 요청에 전달합니다.
+	 */
+	public void complete(String scope, IdempotencyRecord record, StoredResponse response) {
+		record.response().complete(response);
+		/* 본문 크기로 다시 계산되도록 완료된 기록으로 교체 */
+		records.asMap().replace(scope, record,
+			new IdempotencyRecord(record.fingerprint(), CompletableFuture.completedFuture(response)));
+	}
+
+	/**
+	 * 결과를 저장하지 않고 키를 반납합니다. 결과를 기다리던 요청은 다시 선점을 시도합니다.
+	 */
+	public void abandon(String scope, IdempotencyRecord record) {
+		records.asMap().remove(scope, record);
+		record.response().completeExceptionally(new IllegalStateException("Idempotent request was not completed"));
+	}
+
+	public record IdempotencyRecord(String fingerprint, CompletableFuture<StoredResponse> response) {
+		int bodySize() {
+			StoredResponse stored = response.getNow(null);
+			return stored == null ? 0 : stored.body().length;
+		}
+	}
+
+	public record Claim(IdempotencyRecord record, boolean owner) {
+	}
+
+	public record StoredResponse(int status, String contentType, byte[] body) {
+	}
+}
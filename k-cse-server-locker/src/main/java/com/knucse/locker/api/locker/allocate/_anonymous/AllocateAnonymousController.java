@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.knucse.common.annotation.QueryBudget;
 import com.knucse.common.util.api.ApiResponseUtil;
 import com.knucse.common.util.api.ApiSuccessResult;
 import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
@@ -27,6 +28,7 @@ public class AllocateAnonymousController {
 	private final AllocateService allocateService;
 
 	@GetMapping("/allocate/{studentNumber}")
+	@QueryBudget(3)
 	@Operation(summary = "특정 학생 배정 된 사물함 조회", description = "사용자는 특정 학번의 배정된 사물함 정보를 확인할 수 있습니다.")
 	@ApiResponses(value = {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "배정 사물함 조회 성공"),
@@ -5,17 +5,25 @@ import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.knucse.common.util.api.ApiResponseUtil;
 import com.knucse.common.util.api.ApiSuccessResult;
 import com.knucse.locker.api.locker.allocate.dto.AllocateCreateDto;
+import com.knucse.locker.api.locker.allocate.dto.AllocateJobReadDto;
+import com.knucse.locker.api.locker.allocate.dto.AllocateJobResultReadDto;
 import com.knucse.locker.api.locker.allocate.dto.AllocateRandomCreateDto;
 import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
+import com.knucse.locker.api.locker.allocate.dto.AllocateResultReadDto;
 import com.knucse.locker.domain.service.locker.allocate.AllocateService;
+import com.knucse.locker.domain.service.locker.allocate.job.AllocateJobMode;
+import com.knucse.locker.domain.service.locker.allocate.job.AllocateJobService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -30,6 +38,7 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "사물함 할당 (집행부)", description = "집행부용 사물함 할당 API")
 public class AllocateExecutiveController {
 	private final AllocateService allocateService;
+	private final AllocateJobService allocateJobService;
 
 	@PostMapping("/allocate")
 	@Operation(summary = "사물함 할당 (지정)", description = "집행부는 특정 학생을 사물함에 할당할 수 있습니다. 사물함을 직접 지정합니다.")
@@ -77,12 +86,77 @@ public class AllocateExecutiveController {
 	@ApiResponses(value = {
 		@ApiResponse(responseCode = "201", description = "사물함 할당 성공"),
 		@ApiResponse(responseCode = "404", description = "사용 가능한 사물함이 없음 (code: LOCKER_FULL_NOT_FOUND)"),
-		@ApiResponse(responseCode = "404", description = "신청을 찾을 수 없음 (code: APPLY_NOT_FOUND)")
+		@ApiResponse(responseCode = "404", description = "신청을 찾을 수 없음 (code: APPLY_NOT_FOUND)"),
+		@ApiResponse(responseCode = "409", description = "같은 신청 폼의 할당 작업이 이미 실행 중임 (code: ALLOCATE_JOB_DUPLICATED)")
 	})
 	public ResponseEntity<ApiSuccessResult<List<AllocateReadDto>>> allocateAllLockers() {
-		List<AllocateReadDto> responseBody = allocateService.allocateAllLockers();
+		List<AllocateReadDto> responseBody = allocateJobService.allocateAllLockers();
+		return ResponseEntity
+			.status(HttpStatus.CREATED)
+			.body(ApiResponseUtil.success(HttpStatus.CREATED, responseBody));
+	}
+
+	@PostMapping("/allocate/all/optimal")
+	@Operation(summary = "모든 신청자 사물함 할당 (최적 배정)", description = "집행부는 현재 신청 폼의 모든 신청자에게 지망과 학생회비 납부 여부를 고려한 최적 배정으로 사물함을 할당할 수 있습니다. 사물함이 부족하면 일부 신청은 미배정으로 남습니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "201", description = "사물함 할당 성공"),
+		@ApiResponse(responseCode = "404", description = "신청을 찾을 수 없음 (code: APPLY_NOT_FOUND)"),
+		@ApiResponse(responseCode = "409", description = "같은 신청 폼의 할당 작업이 이미 실행 중임 (code: ALLOCATE_JOB_DUPLICATED)")
+	})
+	public ResponseEntity<ApiSuccessResult<AllocateResultReadDto>> allocateAllLockersOptimal() {
+		AllocateResultReadDto responseBody = allocateJobService.allocateAllLockersOptimal();
 		return ResponseEntity
 			.status(HttpStatus.CREATED)
 			.body(ApiResponseUtil.success(HttpStatus.CREATED, responseBody));
 	}
+
+	@PostMapping("/allocate/all/jobs")
+	@Operation(summary = "모든 신청자 사물함 할당 (백그라운드 작업)", description = "집행부는 현재 신청 폼의 모든 신청자 사물함 할당을 백그라운드 작업으로 실행할 수 있습니다. 작업 ID로 진행 상황과 결과를 조회합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "202", description = "할당 작업 등록 성공"),
+		@ApiResponse(responseCode = "404", description = "활성화된 신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)"),
+		@ApiResponse(responseCode = "409", description = "같은 신청 폼의 할당 작업이 이미 실행 중임 (code: ALLOCATE_JOB_DUPLICATED)"),
+		@ApiResponse(responseCode = "429", description = "할당 작업 대기열이 가득 참 (code: ALLOCATE_JOB_REJECTED)")
+	})
+	public ResponseEntity<ApiSuccessResult<AllocateJobReadDto>> submitAllocateAllJob(
+		@RequestParam(defaultValue = "RANDOM") AllocateJobMode mode
+	) {
+		AllocateJobReadDto responseBody = allocateJobService.submitAllocateAllJob(mode);
+		return ResponseEntity
+			.status(HttpStatus.ACCEPTED)
+			.body(ApiResponseUtil.success(HttpStatus.ACCEPTED, responseBody));
+	}
+
+	@GetMapping("/allocate/all/jobs/{jobId}")
+	@Operation(summary = "사물함 할당 작업 조회", description = "집행부는 할당 작업의 상태와 진행 상황(처리 수, 예상 남은 시간)을 조회할 수 있습니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "할당 작업 조회 성공"),
+		@ApiResponse(responseCode = "404", description = "할당 작업을 찾을 수 없음 (code: ALLOCATE_JOB_NOT_FOUND)")
+	})
+	public ResponseEntity<ApiSuccessResult<AllocateJobReadDto>> getAllocateJob(
+		@PathVariable String jobId
+	) {
+		AllocateJobReadDto responseBody = allocateJobService.getAllocateJob(jobId);
+		return ResponseEntity
+			.status(HttpStatus.OK)
+			.body(ApiResponseUtil.success(HttpStatus.OK, responseBody));
+	}
+
+	@GetMapping("/allocate/all/jobs/{jobId}/result")
+	@Operation(summary = "사물함 할당 작업 결과 조회", description = "집행부는 완료된 할당 작업의 결과를 페이지 단위로 조회할 수 있습니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "할당 작업 결과 조회 성공"),
+		@ApiResponse(responseCode = "400", description = "할당 작업이 완료되지 않음 (code: ALLOCATE_JOB_NOT_COMPLETED)"),
+		@ApiResponse(responseCode = "404", description = "할당 작업을 찾을 수 없음 (code: ALLOCATE_JOB_NOT_FOUND)")
+	})
+	public ResponseEntity<ApiSuccessResult<AllocateJobResultReadDto>> getAllocateJobResult(
+		@PathVariable String jobId,
+		@RequestParam(defaultValue = "0") int page,
+		@RequestParam(defaultValue = "100") int size
+	) {
+		AllocateJobResultReadDto responseBody = allocateJobService.getAllocateJobResult(jobId, page, size);
+		return ResponseEntity
+			.status(HttpStatus.OK)
+			.body(ApiResponseUtil.success(HttpStatus.OK, responseBody));
+	}
 }
@@ -0,0 +1,33 @@
+package com.knucse.locker.api.locker.allocate.dto;
+
+import com.knucse.common.util.datetime.DateTimeUtil;
+import com.knucse.locker.domain.service.locker.allocate.job.AllocateJob;
+import com.knucse.locker.domain.service.locker.allocate.job.AllocateJobMode;
+import com.knucse.locker.domain.service.locker.allocate.job.AllocateJobStatus;
+
+import lombok.Builder;
+
+@Builder
+public record AllocateJobReadDto(
+	String jobId, Long applyFormId, AllocateJobMode mode, AllocateJobStatus status,
+	Integer total, Integer processed, Integer allocated, Integer failed, Long etaSeconds,
+	String createdAt, String startedAt, String finishedAt, String errorCode
+) {
+	public static AllocateJobReadDto fromJob(AllocateJob job) {
+		return AllocateJobReadDto.builder()
+			.jobId(job.getJobId())
+			.applyFormId(job.getApplyFormId())
+			.mode(job.getMode())
+			.status(job.getStatus())
+			.total(job.getTotal().get())
+			.processed(job.getProcessed())
+			.allocated(job.getAllocated().get())
+			.failed(job.getFailed().get())
+			.etaSeconds(job.getEtaSeconds())
+			.createdAt(DateTimeUtil.localDateTimeToString(job.getCreatedAt()))
+			.startedAt(DateTimeUtil.localDateTimeToString(job.getStartedAt()))
+			.finishedAt(DateTimeUtil.localDateTimeToString(job.getFinishedAt()))
+			.errorCode(job.getErrorCode())
+			.build();
+	}
+}
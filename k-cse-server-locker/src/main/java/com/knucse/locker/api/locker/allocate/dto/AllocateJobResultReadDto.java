@@ -0,0 +1,12 @@
+package com.knucse.locker.api.locker.allocate.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record AllocateJobResultReadDto(
+	String jobId,
+	Integer page, Integer size, Integer totalElements, Integer totalPages,
+	List<AllocateReadDto> allocates
+) {}
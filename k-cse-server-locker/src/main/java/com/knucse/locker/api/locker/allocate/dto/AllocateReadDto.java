@@ -6,7 +6,10 @@ import com.knucse.locker.domain.model.locker.Locker;
 import com.knucse.locker.domain.model.locker.LockerFloor;
 import com.knucse.locker.domain.model.locker.apply.Apply;
 import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.projection.AllocateRow;
+import com.knucse.locker.domain.persistence.projection.ApplyRow;
 import com.knucse.student.student.model.Student;
+import com.knucse.student.student.model.StudentIdentity;
 
 import lombok.Builder;
 
@@ -17,16 +20,41 @@ public record AllocateReadDto(
 	ApplyReadDto apply, ApplyFormReadDto applyForm
 ) {
 	public static AllocateReadDto fromEntity(Student student, Apply apply, ApplyForm applyForm, Locker locker) {
+		return of(student.getStudentName(), student.getStudentNumber(), ApplyReadDto.fromEntity(apply, student), applyForm, locker);
+	}
+
+	public static AllocateReadDto of(StudentIdentity student, Apply apply, ApplyForm applyForm, Locker locker) {
+		return of(student.studentName(), student.studentNumber(), ApplyReadDto.of(apply, student), applyForm, locker);
+	}
+
+	private static AllocateReadDto of(
+		String studentName, String studentNumber, ApplyReadDto apply, ApplyForm applyForm, Locker locker
+	) {
 		return AllocateReadDto.builder()
-			.studentName(student.getStudentName())
-			.studentNumber(student.getStudentNumber())
+			.studentName(studentName)
+			.studentNumber(studentNumber)
 			.lockerName(locker.getLockerName())
 			.floor(locker.getFloor())
 			.height(locker.getHeight())
 			.pw(locker.getPw())
 			.broken(locker.getBroken())
-			.apply(ApplyReadDto.fromEntity(apply, student))
+			.apply(apply)
 			.applyForm(ApplyFormReadDto.fromEntity(applyForm))
 			.build();
 	}
+
+	public static AllocateReadDto fromRow(AllocateRow row, ApplyFormReadDto applyForm) {
+		ApplyRow apply = row.apply();
+		return AllocateReadDto.builder()
+			.studentName(row.studentName())
+			.studentNumber(row.studentNumber())
+			.lockerName(row.lockerName())
+			.floor(row.floor())
+			.height(row.height())
+			.pw(row.pw())
+			.broken(row.broken())
+			.apply(apply == null ? null : ApplyReadDto.fromRow(apply))
+			.applyForm(applyForm)
+			.build();
+	}
 }
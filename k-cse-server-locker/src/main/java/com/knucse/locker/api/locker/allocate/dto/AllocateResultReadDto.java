@@ -0,0 +1,12 @@
+package com.knucse.locker.api.locker.allocate.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record AllocateResultReadDto(
+	Integer applyCount, Integer allocatedCount,
+	Integer firstChoiceCount, Integer secondChoiceCount, Integer unassignedCount,
+	List<AllocateReadDto> allocates
+) {}
@@ -39,7 +39,10 @@ public class ApplyAnonymousController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 신청 기간 (code: INVALID_APPLY_PERIOD)"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "학생을 찾을 수 없음 (code: STUDENT_NOT_FOUND)"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 신청이 존재함 (code: APPLY_DUPLICATED)"),
-		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "이미 배정 받은 사람이 신청함 (code: ALREADY_ALLOCATED)")
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "이미 배정 받은 사람이 신청함 (code: ALREADY_ALLOCATED)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "대기열에서 입장하지 않음 (code: WAITING_ROOM_NOT_ADMITTED)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "저장 대기 중인 신청이 너무 많음 (code: APPLY_PIPELINE_REJECTED)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "저장 결과를 제한 시간 안에 받지 못함 (code: APPLY_PIPELINE_TIMEOUT)")
 	})
 	public ResponseEntity<ApiSuccessResult<ApplyReadDto>> applyPrimary(
 		@Valid @RequestBody ApplyCreateDto requestBody
@@ -57,7 +60,10 @@ public class ApplyAnonymousController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 신청 기간 (code: INVALID_APPLY_PERIOD)"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "학생을 찾을 수 없음 (code: STUDENT_NOT_FOUND)"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 신청이 존재함 (code: APPLY_DUPLICATED)"),
-		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "이미 배정 받은 사람이 신청함 (code: ALREADY_ALLOCATED)")
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "이미 배정 받은 사람이 신청함 (code: ALREADY_ALLOCATED)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "대기열에서 입장하지 않음 (code: WAITING_ROOM_NOT_ADMITTED)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "저장 대기 중인 신청이 너무 많음 (code: APPLY_PIPELINE_REJECTED)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "저장 결과를 제한 시간 안에 받지 못함 (code: APPLY_PIPELINE_TIMEOUT)")
 	})
 	public ResponseEntity<ApiSuccessResult<ApplyReadDto>> applyAdditional(
 		@Valid @RequestBody ApplyCreateDto requestBody
@@ -75,7 +81,8 @@ public class ApplyAnonymousController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 신청 기간 (code: INVALID_APPLY_PERIOD)"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "학생을 찾을 수 없음 (code: STUDENT_NOT_FOUND)"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 신청이 존재함 (code: APPLY_DUPLICATED)"),
-		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "배정 받지 않은 사람이 신청함 (code: ALLOCATE_NOT_FOUND)")
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "배정 받지 않은 사람이 신청함 (code: ALLOCATE_NOT_FOUND)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "대기열에서 입장하지 않음 (code: WAITING_ROOM_NOT_ADMITTED)")
 	})
 	public ResponseEntity<ApiSuccessResult<ApplyReportReadDto>> applyReplacement(
 		@Valid @RequestBody ApplyReportCreateDto requestBody
@@ -2,6 +2,7 @@ package com.knucse.locker.api.locker.apply._executive;
 
 import java.util.List;
 
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -14,11 +15,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.knucse.common.annotation.QueryBudget;
 import com.knucse.common.util.api.ApiResponseUtil;
 import com.knucse.common.util.api.ApiSuccessResult;
 import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
+import com.knucse.locker.api.locker.apply.dto.ApplyPageReadDto;
 import com.knucse.locker.api.locker.apply.dto.ApplyReadDto;
 import com.knucse.locker.api.locker.apply.dto.ApplyReportReadDto;
+import com.knucse.locker.api.locker.apply.dto.ApplySearchDto;
 import com.knucse.locker.api.locker.apply.dto.ApplyUpdateDto;
 import com.knucse.locker.api.locker.apply.dto.ReportStatusUpdateDto;
 import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
@@ -40,33 +44,37 @@ public class ApplyExecutiveController {
 	private final AllocateService allocateService;
 
 	@GetMapping("/{year}/{semester}")
-	@Operation(summary = "신청 목록 조회", description = "집행부는 특정 연도와 학기의 신청 목록을 조회할 수 있습니다.")
+	@QueryBudget(3)
+	@Operation(summary = "신청 목록 조회", description = "집행부는 특정 연도와 학기의 신청 목록을 조회할 수 있습니다. 커서(cursor)와 페이지 크기(size, 최대 200), 상태/기간/층/높이/학번 앞자리 조건으로 나누어 조회합니다.")
 	@ApiResponses(value = {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "신청 목록 조회 성공"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)")
 	})
-	public ResponseEntity<ApiSuccessResult<List<ApplyReadDto>>> getAppliesByYearAndSemester(
+	public ResponseEntity<ApiSuccessResult<ApplyPageReadDto>> getAppliesByYearAndSemester(
 		@PathVariable Integer year,
-		@PathVariable Integer semester
+		@PathVariable Integer semester,
+		@ParameterObject ApplySearchDto search
 	) {
-		List<ApplyReadDto> applies = applyService.getAppliesByYearAndSemester(year, semester);
+		ApplyPageReadDto applies = applyService.getAppliesByYearAndSemester(year, semester, search);
 		return ResponseEntity
 			.status(HttpStatus.OK)
 			.body(ApiResponseUtil.success(HttpStatus.OK, applies));
 	}
 
 	@GetMapping("/{year}/{semester}/status/{status}")
-	@Operation(summary = "신청 목록 조회 (상태별)", description = "집행부는 특정 연도, 학기, 상태의 신청 목록을 조회할 수 있습니다.")
+	@QueryBudget(3)
+	@Operation(summary = "신청 목록 조회 (상태별)", description = "집행부는 특정 연도, 학기, 상태의 신청 목록을 조회할 수 있습니다. 커서(cursor)와 페이지 크기(size, 최대 200), 상태/기간/층/높이/학번 앞자리 조건으로 나누어 조회합니다.")
 	@ApiResponses(value = {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "신청 목록 조회 성공"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)")
 	})
-	public ResponseEntity<ApiSuccessResult<List<ApplyReadDto>>> getAppliesByYearSemesterAndStatus(
+	public ResponseEntity<ApiSuccessResult<ApplyPageReadDto>> getAppliesByYearSemesterAndStatus(
 		@PathVariable Integer year,
 		@PathVariable Integer semester,
-		@PathVariable ApplyStatus status
+		@PathVariable ApplyStatus status,
+		@ParameterObject ApplySearchDto search
 	) {
-		List<ApplyReadDto> applies = applyService.getAppliesByYearSemesterAndStatus(year, semester, status);
+		ApplyPageReadDto applies = applyService.getAppliesByYearSemesterAndStatus(year, semester, status, search);
 		return ResponseEntity
 			.status(HttpStatus.OK)
 			.body(ApiResponseUtil.success(HttpStatus.OK, applies));
@@ -74,34 +82,40 @@ public class ApplyExecutiveController {
 
 
 	@GetMapping("/now")
-	@Operation(summary = "신청 목록 조회", description = "집행부는 활성화된 폼의 신청 목록을 조회할 수 있습니다.")
+	@QueryBudget(3)
+	@Operation(summary = "신청 목록 조회", description = "집행부는 활성화된 폼의 신청 목록을 조회할 수 있습니다. 커서(cursor)와 페이지 크기(size, 최대 200), 상태/기간/층/높이/학번 앞자리 조건으로 나누어 조회합니다.")
 	@ApiResponses(value = {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "신청 목록 조회 성공"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)")
 	})
-	public ResponseEntity<ApiSuccessResult<List<ApplyReadDto>>> getAppliesNow() {
-		List<ApplyReadDto> applies = applyService.getAppliesNow();
+	public ResponseEntity<ApiSuccessResult<ApplyPageReadDto>> getAppliesNow(
+		@ParameterObject ApplySearchDto search
+	) {
+		ApplyPageReadDto applies = applyService.getAppliesNow(search);
 		return ResponseEntity
 			.status(HttpStatus.OK)
 			.body(ApiResponseUtil.success(HttpStatus.OK, applies));
 	}
 
 	@GetMapping("/now/status/{status}")
-	@Operation(summary = "신청 목록 조회 (상태별)", description = "집행부는 활성화된 폼에서 특정 상태의 신청 목록을 조회할 수 있습니다.")
+	@QueryBudget(3)
+	@Operation(summary = "신청 목록 조회 (상태별)", description = "집행부는 활성화된 폼에서 특정 상태의 신청 목록을 조회할 수 있습니다. 커서(cursor)와 페이지 크기(size, 최대 200), 상태/기간/층/높이/학번 앞자리 조건으로 나누어 조회합니다.")
 	@ApiResponses(value = {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "신청 목록 조회 성공"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)")
 	})
-	public ResponseEntity<ApiSuccessResult<List<ApplyReadDto>>> getAppliesNowByStatus(
-		@PathVariable ApplyStatus status
+	public ResponseEntity<ApiSuccessResult<ApplyPageReadDto>> getAppliesNowByStatus(
+		@PathVariable ApplyStatus status,
+		@ParameterObject ApplySearchDto search
 	) {
-		List<ApplyReadDto> applies = applyService.getAppliesNowByStatus(status);
+		ApplyPageReadDto applies = applyService.getAppliesNowByStatus(status, search);
 		return ResponseEntity
 			.status(HttpStatus.OK)
 			.body(ApiResponseUtil.success(HttpStatus.OK, applies));
 	}
 
 	@GetMapping("/report/{year}/{semester}")
+	@QueryBudget(3)
 	@Operation(summary = "신고 목록 조회 (상태별)", description = "집행부는 사물함 신고 목록을 조회할 수 있습니다.")
 	@ApiResponses(value = {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "신청 목록 조회 성공"),
@@ -119,6 +133,7 @@ public class ApplyExecutiveController {
 	}
 
 	@GetMapping("/report/now")
+	@QueryBudget(3)
 	@Operation(summary = "신고 목록 조회 (상태별)", description = "집행부는 현재 활성화 된 폼의 사물함 신고 목록을 조회할 수 있습니다.")
 	@ApiResponses(value = {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "신청 목록 조회 성공"),
@@ -0,0 +1,15 @@
+package com.knucse.locker.api.locker.apply.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 신청 목록 페이지
+ * - hasNext 가 true 이면 nextCursor 를 cursor 로 넘겨 다음 페이지를 조회합니다.
+ */
+@Builder
+public record ApplyPageReadDto(
+	List<ApplyReadDto> applies, Long nextCursor, Boolean hasNext
+) {
+}
@@ -5,7 +5,9 @@ import com.knucse.locker.domain.model.locker.apply.Apply;
 import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
 import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
 import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.persistence.projection.ApplyRow;
 import com.knucse.student.student.model.Student;
+import com.knucse.student.student.model.StudentIdentity;
 
 import lombok.Builder;
 
@@ -18,10 +20,18 @@ public record ApplyReadDto(
 	ApplyPeriod period, ApplyStatus status
 ) {
 	public static ApplyReadDto fromEntity(Apply apply, Student student) {
+		return of(apply, student.getStudentName(), student.getStudentNumber());
+	}
+
+	public static ApplyReadDto of(Apply apply, StudentIdentity student) {
+		return of(apply, student.studentName(), student.studentNumber());
+	}
+
+	private static ApplyReadDto of(Apply apply, String studentName, String studentNumber) {
 		return ApplyReadDto.builder()
 			.applyId(apply.getId())
-			.studentName(student.getStudentName())
-			.studentNumber(student.getStudentNumber())
+			.studentName(studentName)
+			.studentNumber(studentNumber)
 			.firstFloor(apply.getFirstFloor())
 			.firstHeight(apply.getFirstHeight())
 			.secondFloor(apply.getSecondFloor())
@@ -30,4 +40,18 @@ public record ApplyReadDto(
 			.status(apply.getStatus())
 			.build();
 	}
+
+	public static ApplyReadDto fromRow(ApplyRow row) {
+		return ApplyReadDto.builder()
+			.applyId(row.applyId())
+			.studentName(row.studentName())
+			.studentNumber(row.studentNumber())
+			.firstFloor(row.firstFloor())
+			.firstHeight(row.firstHeight())
+			.secondFloor(row.secondFloor())
+			.secondHeight(row.secondHeight())
+			.period(row.period())
+			.status(row.status())
+			.build();
+	}
 }
@@ -0,0 +1,47 @@
+package com.knucse.locker.api.locker.apply.dto;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.persistence.ApplySearchCondition;
+
+import lombok.Builder;
+
+/**
+ * 신청 목록 조회 요청 (쿼리 파라미터)
+ * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+ * - size: 페이지 크기 (기본 50, 최대 200)
+ * - 나머지는 선택 조건이며, studentNumberPrefix 는 학번 앞자리로 검색합니다.
+ */
+@Builder
+public record ApplySearchDto(
+	Long cursor, Integer size,
+	ApplyStatus status, ApplyPeriod period,
+	LockerFloor firstFloor, ApplyHeight firstHeight,
+	LockerFloor secondFloor, ApplyHeight secondHeight,
+	String studentNumberPrefix
+) {
+	public static final int DEFAULT_SIZE = 50;
+	public static final int MAX_SIZE = 200;
+
+	/**
+	 * 요청한 페이지 크기를 1 이상 MAX_SIZE 이하로 맞춥니다.
+	 */
+	public int pageSize() {
+		if (size == null) return DEFAULT_SIZE;
+		return Math.max(1, Math.min(size, MAX_SIZE));
+	}
+
+	public ApplySearchCondition toCondition() {
+		return ApplySearchCondition.builder()
+			.status(status)
+			.period(period)
+			.firstFloor(firstFloor)
+			.firstHeight(firstHeight)
+			.secondFloor(secondFloor)
+			.secondHeight(secondHeight)
+			.studentNumberPrefix(studentNumberPrefix == null || studentNumberPrefix.isBlank() ? null : studentNumberPrefix.strip())
+			.build();
+	}
+}
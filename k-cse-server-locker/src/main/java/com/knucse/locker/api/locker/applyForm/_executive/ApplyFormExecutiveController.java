@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.knucse.common.util.api.ApiResponseUtil;
 import com.knucse.common.util.api.ApiSuccessResult;
 import com.knucse.locker.api.locker.applyForm.dto.ApplyFormCreateDto;
+import com.knucse.locker.api.locker.applyForm.dto.ApplyFormLotteryReadDto;
 import com.knucse.locker.api.locker.applyForm.dto.ApplyFormReadDto;
 import com.knucse.locker.api.locker.applyForm.dto.ApplyFormUpdateDto;
 import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
@@ -55,6 +56,7 @@ public class ApplyFormExecutiveController {
 	@Operation(summary = "신청 폼 수정", description = "집행부는 특정 연도와 학기의 신청 폼을 수정할 수 있습니다.")
 	@ApiResponses(value = {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "신청 폼 수정 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "이미 추첨한 신청 폼의 시드 변경 (code: LOTTERY_ALREADY_DRAWN)"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)")
 	})
 	public ResponseEntity<ApiSuccessResult<ApplyFormReadDto>> updateForm(
@@ -112,6 +114,22 @@ public class ApplyFormExecutiveController {
 			.body(ApiResponseUtil.success(HttpStatus.OK, form));
 	}
 
+	@GetMapping("/{year}/{semester}/lottery")
+	@Operation(summary = "신청 폼 추첨 정보 조회", description = "집행부는 일괄 할당으로 추첨한 신청 폼의 추첨 시드를 조회하여 결과를 검증할 수 있습니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "추첨 정보 조회 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND) / 아직 추첨하지 않음 (code: LOTTERY_NOT_DRAWN)")
+	})
+	public ResponseEntity<ApiSuccessResult<ApplyFormLotteryReadDto>> getFormLottery(
+		@PathVariable Integer year,
+		@PathVariable Integer semester
+	) {
+		ApplyFormLotteryReadDto lottery = applyFormService.getApplyFormLottery(year, semester);
+		return ResponseEntity
+			.status(HttpStatus.OK)
+			.body(ApiResponseUtil.success(HttpStatus.OK, lottery));
+	}
+
 	@PatchMapping("/{year}/{semester}")
 	@Operation(summary = "신청 폼 상태 변경", description = "집행부는 특정 연도와 학기의 신청 폼 상태를 변경할 수 있습니다.")
 	@ApiResponses(value = {
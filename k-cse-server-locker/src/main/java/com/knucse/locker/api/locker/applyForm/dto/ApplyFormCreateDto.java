@@ -12,9 +12,10 @@ public record ApplyFormCreateDto(
 	@NotNull Integer semester,
 	@NotNull String firstApplyStartDate,
 	@NotNull String firstApplyEndDate,
-	@NotNull String semesterEndDate
+	@NotNull String semesterEndDate,
+	Long lotterySeed
 ) {
-	public ApplyForm toEntity() {
+	public ApplyForm toEntity(long lotterySeed) {
 		return ApplyForm.builder()
 			.year(year)
 			.semester(semester)
@@ -22,6 +23,7 @@ public record ApplyFormCreateDto(
 			.firstApplyEndDate(DateTimeUtil.stringToLocalDateTime(firstApplyEndDate))
 			.semesterEndDate(DateTimeUtil.stringToLocalDateTime(semesterEndDate))
 			.status(ApplyFormStatus.INACTIVE)
+			.lotterySeed(lotterySeed)
 			.build();
 	}
 }
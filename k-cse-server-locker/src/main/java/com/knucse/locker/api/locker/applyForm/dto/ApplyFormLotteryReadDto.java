@@ -0,0 +1,27 @@
+package com.knucse.locker.api.locker.applyForm.dto;
+
+import com.knucse.common.util.datetime.DateTimeUtil;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+
+import lombok.Builder;
+
+/**
+ * 신청 폼의 추첨 정보 (집행부 전용, 추첨 이후에만 조회 가능)
+ * - 같은 시드와 같은 신청 상태로 일괄 할당을 다시 실행하면 같은 결과가 나오므로, 추첨 결과를 검증할 때 사용합니다.
+ */
+@Builder
+public record ApplyFormLotteryReadDto(
+	Long applyFormId,
+	Integer year, Integer semester,
+	Long lotterySeed, String lotteryDrawnAt
+) {
+	public static ApplyFormLotteryReadDto fromEntity(ApplyForm applyForm) {
+		return ApplyFormLotteryReadDto.builder()
+			.applyFormId(applyForm.getId())
+			.year(applyForm.getYear())
+			.semester(applyForm.getSemester())
+			.lotterySeed(applyForm.getLotterySeed())
+			.lotteryDrawnAt(DateTimeUtil.localDateTimeToString(applyForm.getLotteryDrawnAt()))
+			.build();
+	}
+}
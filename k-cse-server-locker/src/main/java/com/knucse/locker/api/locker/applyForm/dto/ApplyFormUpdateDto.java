@@ -5,6 +5,7 @@ import lombok.Builder;
 @Builder
 public record ApplyFormUpdateDto(
 	String firstApplyStartDate, String firstApplyEndDate,
-	String semesterEndDate, String status
+	String semesterEndDate, String status,
+	Long lotterySeed
 ) {
 }
@@ -0,0 +1,53 @@
+package com.knucse.locker.api.locker.dashboard._executive;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.knucse.common.annotation.QueryBudget;
+import com.knucse.locker.domain.service.locker.dashboard.ApplyDashboardService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/dashboard")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('EXECUTIVE') and isAuthenticated()")
+@Tag(name = "실시간 신청 현황 (집행부)", description = "집행부용 실시간 신청 현황 API (Server-Sent Events)")
+public class DashboardExecutiveController {
+	private final ApplyDashboardService applyDashboardService;
+
+	@GetMapping(value = "/{year}/{semester}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@QueryBudget(5)
+	@Operation(summary = "신청 현황 구독", description = "집행부는 특정 연도와 학기의 기간/상태/1지망별 신청 수, 층별 남은 사물함 수, 처리되지 않은 고장 신고 수를 실시간으로 받을 수 있습니다. 집계가 바뀌면 최대 1초에 한 번 dashboard 이벤트로 전송됩니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "구독 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "구독자 수 초과 (code: DASHBOARD_SUBSCRIBER_LIMIT)")
+	})
+	public SseEmitter subscribe(
+		@PathVariable Integer year,
+		@PathVariable Integer semester
+	) {
+		return applyDashboardService.subscribe(year, semester);
+	}
+
+	@GetMapping(value = "/now", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@QueryBudget(5)
+	@Operation(summary = "신청 현황 구독", description = "집행부는 활성화된 폼의 신청 현황을 실시간으로 받을 수 있습니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "구독 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "구독자 수 초과 (code: DASHBOARD_SUBSCRIBER_LIMIT)")
+	})
+	public SseEmitter subscribeNow() {
+		return applyDashboardService.subscribeNow();
+	}
+}
@@ -0,0 +1,53 @@
+package com.knucse.locker.api.locker.dashboard.dto;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.service.locker.availability.LockerAvailability;
+import com.knucse.locker.domain.service.locker.dashboard.ApplyCounters;
+
+import lombok.Builder;
+
+/**
+ * 실시간 신청 현황
+ * - pendingReports 는 처리되지 않은 고장 신고(BROKEN_APPLY) 수입니다.
+ */
+@Builder
+public record ApplyDashboardReadDto(
+	Long applyFormId,
+	Map<ApplyPeriod, Long> appliesByPeriod,
+	Map<ApplyStatus, Long> appliesByStatus,
+	Map<LockerFloor, Map<ApplyHeight, Long>> appliesByFirstChoice,
+	Map<LockerFloor, Integer> freeLockersByFloor,
+	Long pendingReports
+) {
+	public static ApplyDashboardReadDto of(Long applyFormId, ApplyCounters counters, LockerAvailability availability) {
+		Map<ApplyPeriod, Long> byPeriod = new EnumMap<>(ApplyPeriod.class);
+		for (ApplyPeriod period : ApplyPeriod.values()) byPeriod.put(period, counters.period(period));
+
+		Map<ApplyStatus, Long> byStatus = new EnumMap<>(ApplyStatus.class);
+		for (ApplyStatus status : ApplyStatus.values()) byStatus.put(status, counters.status(status));
+
+		Map<LockerFloor, Map<ApplyHeight, Long>> byFirstChoice = new EnumMap<>(LockerFloor.class);
+		Map<LockerFloor, Integer> freeLockers = new EnumMap<>(LockerFloor.class);
+		for (LockerFloor floor : LockerFloor.values()) {
+			Map<ApplyHeight, Long> byHeight = new EnumMap<>(ApplyHeight.class);
+			for (ApplyHeight height : ApplyHeight.values()) byHeight.put(height, counters.firstChoice(floor, height));
+			byFirstChoice.put(floor, byHeight);
+			freeLockers.put(floor, availability.freeCount(floor));
+		}
+
+		return ApplyDashboardReadDto.builder()
+			.applyFormId(applyFormId)
+			.appliesByPeriod(byPeriod)
+			.appliesByStatus(byStatus)
+			.appliesByFirstChoice(byFirstChoice)
+			.freeLockersByFloor(freeLockers)
+			.pendingReports(counters.status(ApplyStatus.BROKEN_APPLY))
+			.build();
+	}
+}
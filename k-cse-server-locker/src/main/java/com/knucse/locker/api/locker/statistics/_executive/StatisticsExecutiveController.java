@@ -0,0 +1,78 @@
+package com.knucse.locker.api.locker.statistics._executive;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.knucse.common.annotation.QueryBudget;
+import com.knucse.common.util.api.ApiResponseUtil;
+import com.knucse.common.util.api.ApiSuccessResult;
+import com.knucse.locker.api.locker.statistics.dto.ApplyFormStatisticsReadDto;
+import com.knucse.locker.domain.service.locker.statistics.ApplyFormStatisticsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/statistics")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('EXECUTIVE') and isAuthenticated()")
+@Tag(name = "신청 통계 (집행부)", description = "집행부용 신청 통계 API")
+public class StatisticsExecutiveController {
+	private final ApplyFormStatisticsService applyFormStatisticsService;
+
+	@GetMapping("/{year}/{semester}")
+	@QueryBudget(3)
+	@Operation(summary = "신청 통계 조회", description = "집행부는 특정 연도와 학기의 기간/상태/1지망별 신청 수, 승인 비율, 학생회비 납부자 비율을 조회할 수 있습니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "신청 통계 조회 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)")
+	})
+	public ResponseEntity<ApiSuccessResult<ApplyFormStatisticsReadDto>> getStatistics(
+		@PathVariable Integer year,
+		@PathVariable Integer semester
+	) {
+		ApplyFormStatisticsReadDto statistics = applyFormStatisticsService.getStatistics(year, semester);
+		return ResponseEntity
+			.status(HttpStatus.OK)
+			.body(ApiResponseUtil.success(HttpStatus.OK, statistics));
+	}
+
+	@GetMapping("/now")
+	@QueryBudget(3)
+	@Operation(summary = "신청 통계 조회", description = "집행부는 활성화된 폼의 신청 통계를 조회할 수 있습니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "신청 통계 조회 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)")
+	})
+	public ResponseEntity<ApiSuccessResult<ApplyFormStatisticsReadDto>> getStatisticsNow() {
+		ApplyFormStatisticsReadDto statistics = applyFormStatisticsService.getStatisticsNow();
+		return ResponseEntity
+			.status(HttpStatus.OK)
+			.body(ApiResponseUtil.success(HttpStatus.OK, statistics));
+	}
+
+	@PostMapping("/{year}/{semester}/rebuild")
+	@QueryBudget(8)
+	@Operation(summary = "신청 통계 재구성", description = "집행부는 신청 목록을 다시 집계하여 특정 연도와 학기의 신청 통계를 바로잡을 수 있습니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "신청 통계 재구성 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "신청 폼을 찾을 수 없음 (code: APPLY_FORM_NOT_FOUND)")
+	})
+	public ResponseEntity<ApiSuccessResult<ApplyFormStatisticsReadDto>> rebuildStatistics(
+		@PathVariable Integer year,
+		@PathVariable Integer semester
+	) {
+		ApplyFormStatisticsReadDto statistics = applyFormStatisticsService.rebuildStatistics(year, semester);
+		return ResponseEntity
+			.status(HttpStatus.OK)
+			.body(ApiResponseUtil.success(HttpStatus.OK, statistics));
+	}
+}
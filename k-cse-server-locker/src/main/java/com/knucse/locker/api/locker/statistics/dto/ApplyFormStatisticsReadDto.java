@@ -0,0 +1,63 @@
+package com.knucse.locker.api.locker.statistics.dto;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.model.locker.statistics.ApplyFormStatistics;
+import com.knucse.locker.domain.model.locker.statistics.ApplyStatisticsCounter;
+
+import lombok.Builder;
+
+/**
+ * 신청 폼 통계
+ * - approvalRate: 전체 신청 중 승인(할당)된 비율, duesPaidRate: 전체 신청 중 학생회비 납부자의 비율 (신청이 없으면 0)
+ */
+@Builder
+public record ApplyFormStatisticsReadDto(
+	Long applyFormId,
+	Long totalApplies,
+	Map<ApplyPeriod, Long> appliesByPeriod,
+	Map<ApplyStatus, Long> appliesByStatus,
+	Map<LockerFloor, Map<ApplyHeight, Long>> appliesByFirstChoice,
+	Long duesPaidApplies,
+	Double approvalRate,
+	Double duesPaidRate
+) {
+	public static ApplyFormStatisticsReadDto fromEntity(ApplyFormStatistics statistics) {
+		Map<ApplyPeriod, Long> byPeriod = new EnumMap<>(ApplyPeriod.class);
+		for (ApplyPeriod period : ApplyPeriod.values())
+			byPeriod.put(period, statistics.count(ApplyStatisticsCounter.of(period)));
+
+		Map<ApplyStatus, Long> byStatus = new EnumMap<>(ApplyStatus.class);
+		for (ApplyStatus status : ApplyStatus.values())
+			byStatus.put(status, statistics.count(ApplyStatisticsCounter.of(status)));
+
+		Map<LockerFloor, Map<ApplyHeight, Long>> byFirstChoice = new EnumMap<>(LockerFloor.class);
+		for (LockerFloor floor : LockerFloor.values()) {
+			Map<ApplyHeight, Long> byHeight = new EnumMap<>(ApplyHeight.class);
+			for (ApplyHeight height : ApplyHeight.values())
+				byHeight.put(height, statistics.count(ApplyStatisticsCounter.ofFirstChoice(floor, height)));
+			byFirstChoice.put(floor, byHeight);
+		}
+
+		long total = statistics.getTotalCount();
+		return ApplyFormStatisticsReadDto.builder()
+			.applyFormId(statistics.getApplyFormId())
+			.totalApplies(total)
+			.appliesByPeriod(byPeriod)
+			.appliesByStatus(byStatus)
+			.appliesByFirstChoice(byFirstChoice)
+			.duesPaidApplies(statistics.getDuesPaidCount())
+			.approvalRate(ratio(statistics.getApproveCount(), total))
+			.duesPaidRate(ratio(statistics.getDuesPaidCount(), total))
+			.build();
+	}
+
+	private static double ratio(long count, long total) {
+		return total == 0 ? 0 : (double)count / total;
+	}
+}
@@ -0,0 +1,51 @@
+package com.knucse.locker.api.locker.waitingRoom;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.knucse.locker.config.WaitingRoomProperties;
+import com.knucse.locker.domain.exception.locker.waitingRoom.WaitingRoomNotAdmittedException;
+import com.knucse.locker.domain.service.locker.waitingRoom.WaitingRoomService;
+import com.knucse.locker.domain.service.locker.waitingRoom.WaitingRoomTicket;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신청 API 앞단의 입장 제어
+ * - 입장한 입장권({@value #TICKET_HEADER} 헤더)을 가진 요청만 신청 API 로 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomInterceptor implements HandlerInterceptor {
+	public static final String TICKET_HEADER = "X-Waiting-Room-Ticket";
+	private static final String TICKET_ATTRIBUTE = WaitingRoomInterceptor.class.getName() + ".ticket";
+	private static final String RETRY_AFTER_SECONDS = "1";
+
+	private final WaitingRoomService waitingRoomService;
+	private final WaitingRoomProperties waitingRoomProperties;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!waitingRoomProperties.isEnabled() || !HttpMethod.POST.matches(request.getMethod())) return true;
+
+		try {
+			WaitingRoomTicket ticket = waitingRoomService.enter(request.getHeader(TICKET_HEADER));
+			if (ticket != null) request.setAttribute(TICKET_ATTRIBUTE, ticket);
+			return true;
+		} catch (WaitingRoomNotAdmittedException e) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+			throw e;
+		}
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (request.getAttribute(TICKET_ATTRIBUTE) instanceof WaitingRoomTicket ticket) {
+			waitingRoomService.release(ticket, ex == null && response.getStatus() < 400);
+		}
+	}
+}
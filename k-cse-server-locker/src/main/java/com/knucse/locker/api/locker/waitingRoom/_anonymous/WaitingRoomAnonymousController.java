@@ -0,0 +1,57 @@
+package com.knucse.locker.api.locker.waitingRoom._anonymous;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.knucse.common.util.api.ApiResponseUtil;
+import com.knucse.common.util.api.ApiSuccessResult;
+import com.knucse.locker.api.locker.waitingRoom.dto.WaitingRoomTicketReadDto;
+import com.knucse.locker.domain.service.locker.waitingRoom.WaitingRoomService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/application/queue")
+@RequiredArgsConstructor
+@PreAuthorize("permitAll()")
+@Tag(name = "신청 대기열 (사용자)", description = "사용자용 신청 대기열 API")
+public class WaitingRoomAnonymousController {
+	private final WaitingRoomService waitingRoomService;
+
+	@PostMapping("/tickets")
+	@Operation(summary = "입장권 발급", description = "신청 대기열의 입장권을 발급합니다. 입장한 뒤 X-Waiting-Room-Ticket 헤더에 입장권 ID 를 담아 신청 API 를 호출합니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "입장권 발급 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "대기열이 가득 참 (code: WAITING_ROOM_FULL)")
+	})
+	public ResponseEntity<ApiSuccessResult<WaitingRoomTicketReadDto>> issueTicket() {
+		WaitingRoomTicketReadDto responseBody = waitingRoomService.issueTicket();
+		return ResponseEntity
+			.status(HttpStatus.CREATED)
+			.body(ApiResponseUtil.success(HttpStatus.CREATED, responseBody));
+	}
+
+	@GetMapping("/tickets/{ticketId}")
+	@Operation(summary = "입장권 순번 조회", description = "입장권의 현재 순번과 입장 여부를 조회합니다. pollAfterMillis 만큼 기다린 뒤 다시 조회합니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "입장권 조회 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "입장권을 찾을 수 없음 (code: WAITING_ROOM_TICKET_NOT_FOUND)")
+	})
+	public ResponseEntity<ApiSuccessResult<WaitingRoomTicketReadDto>> getTicket(
+		@PathVariable String ticketId
+	) {
+		WaitingRoomTicketReadDto responseBody = waitingRoomService.getTicket(ticketId);
+		return ResponseEntity
+			.status(HttpStatus.OK)
+			.body(ApiResponseUtil.success(HttpStatus.OK, responseBody));
+	}
+}
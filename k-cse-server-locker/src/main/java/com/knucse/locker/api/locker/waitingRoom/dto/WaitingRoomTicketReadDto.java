@@ -0,0 +1,15 @@
+package com.knucse.locker.api.locker.waitingRoom.dto;
+
+import lombok.Builder;
+
+/**
+ * 대기열 입장권 상태
+ * - 입장 전: position(내 앞의 대기 인원 + 1), estimatedWaitSeconds, pollAfterMillis(다음 조회까지 기다릴 시간)
+ * - 입장 후: admissionExpiresAt 까지 입장권을 헤더에 담아 신청 요청을 보내야 합니다.
+ */
+@Builder
+public record WaitingRoomTicketReadDto(
+	String ticketId, Long sequence, Boolean admitted, Long position,
+	Long estimatedWaitSeconds, Long pollAfterMillis, String admissionExpiresAt
+) {
+}
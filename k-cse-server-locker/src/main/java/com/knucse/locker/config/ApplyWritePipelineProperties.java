@@ -0,0 +1,32 @@
+package com.knucse.locker.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 신청 묶음 저장 설정
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.apply-pipeline")
+public class ApplyWritePipelineProperties {
+	/* 비활성화하면 신청마다 요청 스레드에서 바로 저장합니다. */
+	private boolean enabled = true;
+
+	/* 첫 신청이 들어온 뒤 함께 저장할 신청을 기다리는 시간 */
+	private Duration window = Duration.ofMillis(5);
+
+	/* 한 번에 저장할 최대 신청 수 */
+	private int maxBatchSize = 64;
+
+	/* 저장을 기다릴 수 있는 최대 신청 수 (가득 차면 새 신청을 거절) */
+	private int queueCapacity = 1024;
+
+	/* 요청 스레드가 저장 결과를 기다리는 최대 시간 */
+	private Duration resultTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,85 @@
+package com.knucse.locker.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 실행기 설정
+ * - spring.threads.virtual.enabled 가 true 이면 가상 스레드로, 아니면 플랫폼 스레드 풀로 실행합니다.
+ */
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+	public static final String APPLICATION_TASK_EXECUTOR = "applicationTaskExecutor";
+	public static final String ALLOCATE_JOB_EXECUTOR = "allocateJobExecutor";
+
+	private final Environment environment;
+
+	/**
+	 * 기본 실행기 (@Async, MVC 비동기 요청)
+	 * - Executor 빈을 직접 등록하면 Spring Boot 의 기본 실행기가 등록되지 않으므로 같은 이름으로 등록합니다.
+	 * - 가상 스레드 모드에서는 작업마다 가상 스레드를 만들고, 풀 크기 대신 DB 커넥션 풀이 동시성을 제한합니다.
+	 */
+	@Primary
+	@Bean(name = APPLICATION_TASK_EXECUTOR)
+	public AsyncTaskExecutor applicationTaskExecutor() {
+		if (isVirtual()) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("task-");
+			executor.setVirtualThreads(true);
+			executor.setTaskTerminationTimeout(60_000);
+			return executor;
+		}
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(8);
+		executor.setThreadNamePrefix("task-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 일괄 할당 작업 실행기
+	 * - 일괄 할당은 DB 부하가 크므로 한 번에 하나씩 실행하고, 대기열을 작게 유지하여 초과 요청은 거절합니다.
+	 * - 가상 스레드 모드에서도 동시 실행 수와 대기열 제한은 유지하고, 작업 스레드만 가상 스레드로 만듭니다.
+	 */
+	@Bean(name = ALLOCATE_JOB_EXECUTOR)
+	public Executor allocateJobExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(4);
+		executor.setThreadNamePrefix("allocate-job-");
+		if (isVirtual()) {
+			executor.setThreadFactory(new VirtualThreadTaskExecutor("allocate-job-").getVirtualThreadFactory());
+		}
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+		return executor;
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return applicationTaskExecutor();
+	}
+
+	private boolean isVirtual() {
+		return Threading.VIRTUAL.isActive(environment);
+	}
+}
@@ -0,0 +1,32 @@
+package com.knucse.locker.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 집행부 실시간 신청 현황(SSE) 설정
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.dashboard")
+public class DashboardProperties {
+	/* 집계가 바뀌었는지 확인하여 전송하는 주기 (변경이 아무리 많아도 이 주기보다 자주 보내지 않음) */
+	private Duration pushInterval = Duration.ofSeconds(1);
+
+	/* 바뀐 내용이 없을 때 연결 유지를 위해 주석(comment)을 보내는 주기 */
+	private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+	/* 구독 중인 집계를 DB 집계로 다시 맞추는 주기 (구성 중 커밋된 변경이 두 번 반영되는 경우를 바로잡음) */
+	private Duration reconcileInterval = Duration.ofMinutes(1);
+
+	/* 연결 유지 시간 (지나면 클라이언트가 다시 연결) */
+	private Duration emitterTimeout = Duration.ofMinutes(30);
+
+	/* 동시에 연결할 수 있는 최대 클라이언트 수 */
+	private int maxSubscribers = 100;
+}
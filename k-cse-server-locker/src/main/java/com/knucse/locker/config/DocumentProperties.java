@@ -0,0 +1,22 @@
+package com.knucse.locker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 문서(CSV) 내보내기 설정
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.document")
+public class DocumentProperties {
+	/*
+	 * 할당 내역을 스트리밍할 때의 JDBC fetch size
+	 * - Integer.MIN_VALUE 이면 MySQL Connector/J 가 이 조회만 한 행씩 스트리밍합니다. (useCursorFetch 없이, 다른 조회에 영향 없음)
+	 * - 음수를 받지 않는 드라이버(H2)에서는 양수로 지정합니다.
+	 */
+	private int streamFetchSize = Integer.MIN_VALUE;
+}
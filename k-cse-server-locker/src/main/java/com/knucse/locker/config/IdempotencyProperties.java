@@ -0,0 +1,36 @@
+package com.knucse.locker.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Idempotency-Key 설정
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+	/* 비활성화하면 Idempotency-Key 헤더를 무시합니다. */
+	private boolean enabled = true;
+
+	/* 처리 결과를 보관하는 시간 */
+	private Duration ttl = Duration.ofHours(1);
+
+	/* 보관하는 응답 본문의 최대 총 크기 (넘으면 오래된 결과부터 제거) */
+	private DataSize maxStoredSize = DataSize.ofMegabytes(32);
+
+	/* 보관할 수 있는 응답 본문 하나의 최대 크기 */
+	private DataSize maxResponseSize = DataSize.ofKilobytes(256);
+
+	/* Idempotency-Key 를 사용할 수 있는 요청 본문의 최대 크기 */
+	private DataSize maxRequestSize = DataSize.ofKilobytes(64);
+
+	/* 같은 키의 요청이 처리 중일 때 결과를 기다리는 시간 */
+	private Duration waitTimeout = Duration.ofSeconds(30);
+}
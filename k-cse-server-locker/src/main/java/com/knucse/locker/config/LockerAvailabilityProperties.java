@@ -0,0 +1,20 @@
+package com.knucse.locker.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 사물함 가용성 인덱스 설정
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.locker-availability")
+public class LockerAvailabilityProperties {
+	/* 사물함 목록과 고장 여부를 DB 에서 다시 읽어 반영하는 주기 (DB 에서 고장 처리한 사물함은 늦어도 이 주기 뒤부터 배정하지 않음) */
+	private Duration refreshInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,36 @@
+package com.knucse.locker.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 신청 대기열 설정
+ * - 입장 속도는 DB 커넥션 풀이 감당할 수 있는 초당 신청 처리량에 맞춥니다. (풀 크기 / 신청 1건 처리 시간)
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.waiting-room")
+public class WaitingRoomProperties {
+	/* 비활성화하면 신청 API 에 입장권 없이 요청할 수 있습니다. */
+	private boolean enabled = true;
+
+	/* 초당 입장 인원 */
+	private double admitRate = 20;
+
+	/* 한가할 때 한 번에 입장시킬 수 있는 최대 인원 */
+	private int burst = 10;
+
+	/* 대기열 최대 인원 */
+	private int maxWaiting = 20_000;
+
+	/* 입장 후 신청 요청을 보내야 하는 시간 */
+	private Duration admissionTtl = Duration.ofSeconds(60);
+
+	/* 이 시간 동안 순번을 조회하지 않은 대기자는 입장 대상에서 제외됩니다. */
+	private Duration abandonAfter = Duration.ofSeconds(30);
+}
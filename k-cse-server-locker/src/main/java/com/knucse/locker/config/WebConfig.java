@@ -0,0 +1,41 @@
+package com.knucse.locker.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knucse.locker.api.idempotency.IdempotencyFilter;
+import com.knucse.locker.api.idempotency.IdempotencyStore;
+import com.knucse.locker.api.locker.waitingRoom.WaitingRoomInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+	private final WaitingRoomInterceptor waitingRoomInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(waitingRoomInterceptor)
+			.addPathPatterns("/application/primary", "/application/additional", "/application/replacement");
+	}
+
+	/**
+	 * 사물함 모듈의 POST API 에 Idempotency-Key 를 적용합니다.
+	 * - 인증 정보로 키를 구분하므로 Spring Security 필터 뒤에 등록됩니다. (기본 순서)
+	 */
+	@Bean
+	public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+		IdempotencyStore idempotencyStore, IdempotencyProperties idempotencyProperties, ObjectMapper objectMapper
+	) {
+		FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+			new IdempotencyFilter(idempotencyStore, idempotencyProperties, objectMapper)
+		);
+		registration.addUrlPatterns("/application/*", "/forms/*");
+		return registration;
+	}
+}
@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.allocate;
+
+import com.knucse.common.exception.support.business.DuplicatedException;
+
+public class AllocateJobDuplicatedException extends DuplicatedException {
+	private static final String code = "ALLOCATE_JOB_DUPLICATED";
+
+	public AllocateJobDuplicatedException() {
+		super(code);
+	}
+}
@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.allocate;
+
+import com.knucse.common.exception.support.business.BadRequestException;
+
+public class AllocateJobNotCompletedException extends BadRequestException {
+	private static final String code = "ALLOCATE_JOB_NOT_COMPLETED";
+
+	public AllocateJobNotCompletedException() {
+		super(code);
+	}
+}
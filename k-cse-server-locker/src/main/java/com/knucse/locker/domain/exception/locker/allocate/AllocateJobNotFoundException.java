@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.allocate;
+
+import com.knucse.common.exception.support.business.NotFoundException;
+
+public class AllocateJobNotFoundException extends NotFoundException {
+	private static final String code = "ALLOCATE_JOB_NOT_FOUND";
+
+	public AllocateJobNotFoundException() {
+		super(code);
+	}
+}
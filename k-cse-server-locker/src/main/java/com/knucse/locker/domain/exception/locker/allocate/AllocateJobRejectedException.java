@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.allocate;
+
+import com.knucse.common.exception.support.business.TooManyRequestsException;
+
+public class AllocateJobRejectedException extends TooManyRequestsException {
+	private static final String code = "ALLOCATE_JOB_REJECTED";
+
+	public AllocateJobRejectedException() {
+		super(code);
+	}
+}
@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.apply;
+
+import com.knucse.common.exception.support.business.TooManyRequestsException;
+
+public class ApplyPipelineRejectedException extends TooManyRequestsException {
+	private static final String code = "APPLY_PIPELINE_REJECTED";
+
+	public ApplyPipelineRejectedException() {
+		super(code);
+	}
+}
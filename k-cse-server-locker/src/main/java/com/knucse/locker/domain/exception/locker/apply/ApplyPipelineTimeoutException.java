@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.apply;
+
+import com.knucse.common.exception.support.business.TooManyRequestsException;
+
+public class ApplyPipelineTimeoutException extends TooManyRequestsException {
+	private static final String code = "APPLY_PIPELINE_TIMEOUT";
+
+	public ApplyPipelineTimeoutException() {
+		super(code);
+	}
+}
@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.applyForm;
+
+import com.knucse.common.exception.support.business.BadRequestException;
+
+public class LotteryAlreadyDrawnException extends BadRequestException {
+	private static final String code = "LOTTERY_ALREADY_DRAWN";
+
+	public LotteryAlreadyDrawnException() {
+		super(code);
+	}
+}
@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.applyForm;
+
+import com.knucse.common.exception.support.business.NotFoundException;
+
+public class LotteryNotDrawnException extends NotFoundException {
+	private static final String code = "LOTTERY_NOT_DRAWN";
+
+	public LotteryNotDrawnException() {
+		super(code);
+	}
+}
@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.dashboard;
+
+import com.knucse.common.exception.support.business.TooManyRequestsException;
+
+public class DashboardSubscriberLimitException extends TooManyRequestsException {
+	private static final String code = "DASHBOARD_SUBSCRIBER_LIMIT";
+
+	public DashboardSubscriberLimitException() {
+		super(code);
+	}
+}
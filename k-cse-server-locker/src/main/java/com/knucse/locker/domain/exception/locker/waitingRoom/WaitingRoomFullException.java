@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.waitingRoom;
+
+import com.knucse.common.exception.support.business.TooManyRequestsException;
+
+public class WaitingRoomFullException extends TooManyRequestsException {
+	private static final String code = "WAITING_ROOM_FULL";
+
+	public WaitingRoomFullException() {
+		super(code);
+	}
+}
@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.waitingRoom;
+
+import com.knucse.common.exception.support.business.TooManyRequestsException;
+
+public class WaitingRoomNotAdmittedException extends TooManyRequestsException {
+	private static final String code = "WAITING_ROOM_NOT_ADMITTED";
+
+	public WaitingRoomNotAdmittedException() {
+		super(code);
+	}
+}
@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.exception.locker.waitingRoom;
+
+import com.knucse.common.exception.support.business.NotFoundException;
+
+public class WaitingRoomTicketNotFoundException extends NotFoundException {
+	private static final String code = "WAITING_ROOM_TICKET_NOT_FOUND";
+
+	public WaitingRoomTicketNotFoundException() {
+		super(code);
+	}
+}
@@ -14,19 +14,28 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /**
- * 한 신청에 대해서 한 할당을 차지하고, 한 사물함을 차지함, 한 사람 당 여러 개의 사물함을 가질 수 있음.
+ * 한 신청에 대해서 한 할당을 차지하고, 한 사물함을 차지함, 한 사람은 신청 폼마다 하나의 사물함을 가질 수 있음.
  */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "allocate")
+@Table(name = "allocate", uniqueConstraints = {
+	@UniqueConstraint(name = Allocate.UNIQUE_STUDENT_FORM, columnNames = {"student_id", "apply_form_id"}),
+	@UniqueConstraint(name = Allocate.UNIQUE_LOCKER_FORM, columnNames = {"locker_id", "apply_form_id"})
+})
 public class Allocate {
+	/* 한 학생은 한 신청 폼에서 하나의 사물함만 할당받습니다. */
+	public static final String UNIQUE_STUDENT_FORM = "uk_allocate_student_form";
+	/* 한 사물함은 한 신청 폼에서 한 번만 할당됩니다. (학기가 바뀌면 다시 할당될 수 있음) */
+	public static final String UNIQUE_LOCKER_FORM = "uk_allocate_locker_form";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -35,7 +44,7 @@ public class Allocate {
 	@JoinColumn(name = "apply_id")
 	private Apply apply;
 
-	@OneToOne(fetch = FetchType.LAZY)
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "locker_id")
 	private Locker locker;
 
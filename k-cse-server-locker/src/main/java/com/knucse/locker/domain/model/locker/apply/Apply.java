@@ -14,9 +14,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,8 +27,24 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "apply")
+@Table(name = "apply", uniqueConstraints = {
+	@UniqueConstraint(name = Apply.UNIQUE_PENDING_STUDENT_FORM, columnNames = {"pending_student_id", "apply_form_id"}),
+	@UniqueConstraint(name = Apply.UNIQUE_BROKEN_STUDENT_FORM, columnNames = {"broken_student_id", "apply_form_id"})
+}, indexes = {
+	@Index(name = "idx_apply_form_id", columnList = "apply_form_id, apply_id"),
+	@Index(name = "idx_apply_form_status_id", columnList = "apply_form_id, status, apply_id"),
+	@Index(name = "idx_apply_form_period_id", columnList = "apply_form_id, period, apply_id")
+})
 public class Apply extends BaseAuditEntity {
+	/*
+	 * 한 학생은 한 신청 폼에 처리되지 않은(APPLY 상태) 신청을 하나만 가질 수 있습니다. (기간과 무관)
+	 * - 승인/반려된 신청은 제약에서 빠지므로, 처리된 뒤에는 같은 기간에 다시 신청할 수 있습니다. (예: 두 번째 교체 신청)
+	 */
+	public static final String UNIQUE_PENDING_STUDENT_FORM = "uk_apply_pending_student_form";
+	/* 교체 신청(BROKEN_APPLY 상태)도 한 학생이 한 신청 폼에 처리되지 않은 것을 하나만 가질 수 있습니다. */
+	public static final String UNIQUE_BROKEN_STUDENT_FORM = "uk_apply_broken_student_form";
+	/* 신청 목록은 (신청 폼[, 상태 | 기간], 신청 ID) 인덱스를 따라 신청 ID 순으로 끊어 읽습니다. (ApplyQueryRepository) */
+
 	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "apply_id")
 	private Long id;
@@ -59,6 +77,16 @@ public class Apply extends BaseAuditEntity {
 	@Column(name = "status")
 	private ApplyStatus status;
 
+	/* APPLY 상태일 때만 학생 식별자를 갖는 생성 컬럼 (UNIQUE_PENDING_STUDENT_FORM 용, NULL 은 중복 허용) */
+	@Column(name = "pending_student_id", insertable = false, updatable = false,
+		columnDefinition = "bigint generated always as (case when status = 'APPLY' then student_id end)")
+	private Long pendingStudentId;
+
+	/* BROKEN_APPLY 상태일 때만 학생 식별자를 갖는 생성 컬럼 (UNIQUE_BROKEN_STUDENT_FORM 용) */
+	@Column(name = "broken_student_id", insertable = false, updatable = false,
+		columnDefinition = "bigint generated always as (case when status = 'BROKEN_APPLY' then student_id end)")
+	private Long brokenStudentId;
+
 	@Builder
 	public Apply(Long id, Student student, ApplyForm applyForm, LockerFloor firstFloor, ApplyHeight firstHeight,
 		LockerFloor secondFloor, ApplyHeight secondHeight, ApplyPeriod period, ApplyStatus status) {
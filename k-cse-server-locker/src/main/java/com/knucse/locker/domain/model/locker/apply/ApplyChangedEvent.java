@@ -0,0 +1,32 @@
+package com.knucse.locker.domain.model.locker.apply;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+
+/**
+ * 신청이 생성, 변경, 삭제되었음을 알리는 이벤트
+ * - 신청을 저장하는 트랜잭션 안에서 발행하며, 집계는 커밋 이후(@TransactionalEventListener)에 반영합니다.
+ * - 생성이면 before 가, 삭제면 after 가 null 입니다.
+ */
+public record ApplyChangedEvent(Long applyFormId, Long studentId, Snapshot before, Snapshot after) {
+
+	public static ApplyChangedEvent created(Apply apply) {
+		return new ApplyChangedEvent(apply.getApplyForm().getId(), apply.getStudent().getId(), null, Snapshot.of(apply));
+	}
+
+	public static ApplyChangedEvent deleted(Apply apply) {
+		return new ApplyChangedEvent(apply.getApplyForm().getId(), apply.getStudent().getId(), Snapshot.of(apply), null);
+	}
+
+	public static ApplyChangedEvent changed(Snapshot before, Apply apply) {
+		return new ApplyChangedEvent(apply.getApplyForm().getId(), apply.getStudent().getId(), before, Snapshot.of(apply));
+	}
+
+	/**
+	 * 집계에 필요한 신청 속성
+	 */
+	public record Snapshot(ApplyPeriod period, ApplyStatus status, LockerFloor firstFloor, ApplyHeight firstHeight) {
+		public static Snapshot of(Apply apply) {
+			return new Snapshot(apply.getPeriod(), apply.getStatus(), apply.getFirstFloor(), apply.getFirstHeight());
+		}
+	}
+}
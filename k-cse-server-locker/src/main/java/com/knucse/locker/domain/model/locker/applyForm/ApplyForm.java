@@ -46,10 +46,18 @@ public class ApplyForm {
 	@Column(name = "status")
 	private ApplyFormStatus status;
 
+	/* 일괄 할당 추첨 시드 (같은 시드와 같은 신청 상태로 할당을 재현할 수 있음) */
+	@Column(name = "lottery_seed")
+	private Long lotterySeed;
+
+	/* 일괄 할당으로 추첨한 시각 (추첨 이후에는 시드를 바꿀 수 없고, 집행부에게 시드를 공개함) */
+	@Column(name = "lottery_drawn_at")
+	private LocalDateTime lotteryDrawnAt;
+
 	@Builder
 	public ApplyForm(Long id, Integer year, Integer semester, LocalDateTime firstApplyStartDate,
 		LocalDateTime firstApplyEndDate,
-		LocalDateTime semesterEndDate, ApplyFormStatus status) {
+		LocalDateTime semesterEndDate, ApplyFormStatus status, Long lotterySeed, LocalDateTime lotteryDrawnAt) {
 		this.id = id;
 		this.year = year;
 		this.semester = semester;
@@ -57,6 +65,8 @@ public class ApplyForm {
 		this.firstApplyEndDate = firstApplyEndDate;
 		this.semesterEndDate = semesterEndDate;
 		this.status = status;
+		this.lotterySeed = lotterySeed;
+		this.lotteryDrawnAt = lotteryDrawnAt;
 	}
 
 	public void updateStatus(ApplyFormStatus status) {
@@ -77,4 +87,16 @@ public class ApplyForm {
 			this.status = ApplyFormStatus.valueOf(applyFormUpdateDto.status());
 		}
 	}
+
+	public void updateLotterySeed(Long lotterySeed) {
+		this.lotterySeed = lotterySeed;
+	}
+
+	public void drawLottery(LocalDateTime drawnAt) {
+		if (this.lotteryDrawnAt == null) this.lotteryDrawnAt = drawnAt;
+	}
+
+	public boolean isLotteryDrawn() {
+		return lotteryDrawnAt != null;
+	}
 }
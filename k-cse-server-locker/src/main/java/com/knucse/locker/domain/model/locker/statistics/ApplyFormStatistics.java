@@ -0,0 +1,102 @@
+package com.knucse.locker.domain.model.locker.statistics;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 신청 폼별 신청 통계
+ * - 신청 폼마다 한 행이며, 신청을 저장하는 트랜잭션 안에서 증감(UPDATE ... SET c = c + ?)으로 갱신합니다.
+ *   (ApplyFormStatisticsRecorder, ApplyFormStatisticsCounterRepository)
+ * - 엔티티는 조회 전용으로 사용합니다. 엔티티로 값을 바꿔 저장하면 동시에 커밋된 증감이 사라집니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "apply_form_statistics")
+public class ApplyFormStatistics {
+	@Id
+	@Column(name = "apply_form_id")
+	private Long applyFormId;
+
+	@Column(name = "total_count", nullable = false)
+	private long totalCount;
+
+	@Column(name = "primary_count", nullable = false)
+	private long primaryCount;
+
+	@Column(name = "additional_count", nullable = false)
+	private long additionalCount;
+
+	@Column(name = "replacement_count", nullable = false)
+	private long replacementCount;
+
+	@Column(name = "apply_count", nullable = false)
+	private long applyCount;
+
+	@Column(name = "approve_count", nullable = false)
+	private long approveCount;
+
+	@Column(name = "reject_count", nullable = false)
+	private long rejectCount;
+
+	@Column(name = "broken_apply_count", nullable = false)
+	private long brokenApplyCount;
+
+	@Column(name = "dues_paid_count", nullable = false)
+	private long duesPaidCount;
+
+	@Column(name = "first_floor_l_top_count", nullable = false)
+	private long firstFloorLTopCount;
+
+	@Column(name = "first_floor_l_middle_count", nullable = false)
+	private long firstFloorLMiddleCount;
+
+	@Column(name = "first_floor_l_bottom_count", nullable = false)
+	private long firstFloorLBottomCount;
+
+	@Column(name = "first_floor_3f_top_count", nullable = false)
+	private long firstFloor3fTopCount;
+
+	@Column(name = "first_floor_3f_middle_count", nullable = false)
+	private long firstFloor3fMiddleCount;
+
+	@Column(name = "first_floor_3f_bottom_count", nullable = false)
+	private long firstFloor3fBottomCount;
+
+	@Column(name = "first_floor_b1_top_count", nullable = false)
+	private long firstFloorB1TopCount;
+
+	@Column(name = "first_floor_b1_middle_count", nullable = false)
+	private long firstFloorB1MiddleCount;
+
+	@Column(name = "first_floor_b1_bottom_count", nullable = false)
+	private long firstFloorB1BottomCount;
+
+	public long count(ApplyStatisticsCounter counter) {
+		return switch (counter) {
+			case TOTAL -> totalCount;
+			case PRIMARY -> primaryCount;
+			case ADDITIONAL -> additionalCount;
+			case REPLACEMENT -> replacementCount;
+			case APPLY -> applyCount;
+			case APPROVE -> approveCount;
+			case REJECT -> rejectCount;
+			case BROKEN_APPLY -> brokenApplyCount;
+			case DUES_PAID -> duesPaidCount;
+			case FIRST_FLOOR_L_TOP -> firstFloorLTopCount;
+			case FIRST_FLOOR_L_MIDDLE -> firstFloorLMiddleCount;
+			case FIRST_FLOOR_L_BOTTOM -> firstFloorLBottomCount;
+			case FIRST_FLOOR_3F_TOP -> firstFloor3fTopCount;
+			case FIRST_FLOOR_3F_MIDDLE -> firstFloor3fMiddleCount;
+			case FIRST_FLOOR_3F_BOTTOM -> firstFloor3fBottomCount;
+			case FIRST_FLOOR_B1_TOP -> firstFloorB1TopCount;
+			case FIRST_FLOOR_B1_MIDDLE -> firstFloorB1MiddleCount;
+			case FIRST_FLOOR_B1_BOTTOM -> firstFloorB1BottomCount;
+		};
+	}
+}
@@ -0,0 +1,59 @@
+package com.knucse.locker.domain.model.locker.statistics;
+
+import java.util.Locale;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+
+/**
+ * 신청 폼 통계(apply_form_statistics)의 집계 항목
+ * - 각 항목은 같은 이름의 소문자 + "_count" 컬럼에 저장됩니다. (예: FIRST_FLOOR_L_TOP -> first_floor_l_top_count)
+ */
+public enum ApplyStatisticsCounter {
+	/* 전체 신청 수 */
+	TOTAL,
+	/* 1차 신청 수 */
+	PRIMARY,
+	/* 추가 신청 수 */
+	ADDITIONAL,
+	/* 교체 신청 수 */
+	REPLACEMENT,
+	/* 처리 대기 신청 수 */
+	APPLY,
+	/* 승인(할당)된 신청 수 */
+	APPROVE,
+	/* 거절된 신청 수 */
+	REJECT,
+	/* 처리되지 않은 고장 신고 수 */
+	BROKEN_APPLY,
+	/* 학생회비를 납부한 신청자의 신청 수 */
+	DUES_PAID,
+	/* 1지망 층/높이별 신청 수 */
+	FIRST_FLOOR_L_TOP,
+	FIRST_FLOOR_L_MIDDLE,
+	FIRST_FLOOR_L_BOTTOM,
+	FIRST_FLOOR_3F_TOP,
+	FIRST_FLOOR_3F_MIDDLE,
+	FIRST_FLOOR_3F_BOTTOM,
+	FIRST_FLOOR_B1_TOP,
+	FIRST_FLOOR_B1_MIDDLE,
+	FIRST_FLOOR_B1_BOTTOM;
+
+	public String column() {
+		return name().toLowerCase(Locale.ROOT) + "_count";
+	}
+
+	public static ApplyStatisticsCounter of(ApplyPeriod period) {
+		return valueOf(period.name());
+	}
+
+	public static ApplyStatisticsCounter of(ApplyStatus status) {
+		return valueOf(status.name());
+	}
+
+	public static ApplyStatisticsCounter ofFirstChoice(LockerFloor floor, ApplyHeight height) {
+		return valueOf("FIRST_" + floor.name() + "_" + height.name());
+	}
+}
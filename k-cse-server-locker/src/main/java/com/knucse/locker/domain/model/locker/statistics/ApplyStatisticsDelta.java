@@ -0,0 +1,42 @@
+package com.knucse.locker.domain.model.locker.statistics;
+
+import com.knucse.locker.domain.model.locker.apply.ApplyChangedEvent;
+
+/**
+ * 신청 폼 하나의 통계 항목별 증감
+ */
+public final class ApplyStatisticsDelta {
+	private final long[] counts = new long[ApplyStatisticsCounter.values().length];
+
+	/**
+	 * 신청 변경을 반영합니다. (이전 값은 빼고 이후 값은 더함, 학생회비 납부 여부는 제외)
+	 */
+	public void add(ApplyChangedEvent event) {
+		add(event.before(), -1);
+		add(event.after(), 1);
+	}
+
+	public void add(ApplyStatisticsCounter counter, long delta) {
+		counts[counter.ordinal()] += delta;
+	}
+
+	public long get(ApplyStatisticsCounter counter) {
+		return counts[counter.ordinal()];
+	}
+
+	public boolean isEmpty() {
+		for (long count : counts) {
+			if (count != 0) return false;
+		}
+		return true;
+	}
+
+	private void add(ApplyChangedEvent.Snapshot snapshot, long delta) {
+		if (snapshot == null) return;
+		add(ApplyStatisticsCounter.TOTAL, delta);
+		if (snapshot.period() != null) add(ApplyStatisticsCounter.of(snapshot.period()), delta);
+		if (snapshot.status() != null) add(ApplyStatisticsCounter.of(snapshot.status()), delta);
+		if (snapshot.firstFloor() != null && snapshot.firstHeight() != null)
+			add(ApplyStatisticsCounter.ofFirstChoice(snapshot.firstFloor(), snapshot.firstHeight()), delta);
+	}
+}
@@ -0,0 +1,40 @@
+package com.knucse.locker.domain.persistence;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.knucse.locker.domain.model.locker.allocate.Allocate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 할당을 위한 JDBC 배치 저장소
+ * - IDENTITY 전략에서는 Hibernate 가 INSERT 를 배치로 묶지 못하므로 JdbcTemplate 으로 직접 배치 INSERT 를 수행합니다.
+ * - 영속성 컨텍스트를 거치지 않으므로 호출 이후 같은 트랜잭션에서 Allocate 엔티티를 조회하면 DB 기준 값이 조회됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AllocateBulkRepository {
+	private static final int BATCH_SIZE = 500;
+
+	private static final String INSERT_ALLOCATE_SQL =
+		"INSERT INTO allocate (apply_id, locker_id, student_id, apply_form_id) VALUES (?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 할당 목록을 배치 INSERT 로 저장합니다.
+	 *
+	 * @param allocates 저장할 할당 목록 (id 는 무시됩니다)
+	 */
+	public void insertAll(List<Allocate> allocates) {
+		jdbcTemplate.batchUpdate(INSERT_ALLOCATE_SQL, allocates, BATCH_SIZE, (ps, allocate) -> {
+			ps.setLong(1, allocate.getApply().getId());
+			ps.setString(2, allocate.getLocker().getLockerName());
+			ps.setLong(3, allocate.getStudent().getId());
+			ps.setLong(4, allocate.getApplyForm().getId());
+		});
+	}
+}
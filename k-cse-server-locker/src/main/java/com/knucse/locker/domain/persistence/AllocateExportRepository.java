@@ -0,0 +1,53 @@
+package com.knucse.locker.domain.persistence;
+
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.stereotype.Repository;
+
+import com.knucse.locker.config.DocumentProperties;
+import com.knucse.locker.domain.model.locker.allocate.Allocate;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 할당 내역 내보내기(CSV)용 스트리밍 조회 저장소
+ * - 결과 전체를 메모리에 올리지 않도록 이 조회에만 fetch size(app.document.stream-fetch-size)를 지정합니다.
+ *   MySQL 에서는 기본값(Integer.MIN_VALUE)으로 한 행씩 스트리밍하므로, 커넥션 URL 의 useCursorFetch 가 필요 없습니다.
+ * - 스트리밍하는 동안에는 같은 커넥션으로 다른 조회를 할 수 없으므로, 학생, 학생회비, 사물함, 신청 폼을 함께 조인하여 읽습니다.
+ * - 반환된 Stream 은 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AllocateExportRepository {
+	private static final String SELECT_JPQL = "SELECT a FROM Allocate a "
+		+ "JOIN FETCH a.student s LEFT JOIN FETCH s.dues JOIN FETCH a.locker JOIN FETCH a.applyForm f";
+
+	private final EntityManager entityManager;
+	private final DocumentProperties properties;
+
+	/**
+	 * 신청 폼의 할당을 할당 ID 순으로 한 방향으로 읽습니다.
+	 */
+	public Stream<Allocate> streamAllByApplyForm(ApplyForm applyForm) {
+		return stream(entityManager.createQuery(SELECT_JPQL + " WHERE a.applyForm = :applyForm ORDER BY a.id", Allocate.class)
+			.setParameter("applyForm", applyForm));
+	}
+
+	/**
+	 * 모든 신청 폼의 할당을 신청 폼 순으로 한 방향으로 읽습니다.
+	 */
+	public Stream<Allocate> streamAll() {
+		return stream(entityManager.createQuery(SELECT_JPQL + " ORDER BY f.year, f.semester, a.id", Allocate.class));
+	}
+
+	private Stream<Allocate> stream(TypedQuery<Allocate> query) {
+		return query
+			.setHint(AvailableHints.HINT_FETCH_SIZE, properties.getStreamFetchSize())
+			.setHint(AvailableHints.HINT_READ_ONLY, true)
+			.getResultStream();
+	}
+}
@@ -1,21 +1,77 @@
 package com.knucse.locker.domain.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
+
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.knucse.locker.domain.model.locker.allocate.Allocate;
 import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.projection.AllocateRow;
 import com.knucse.student.student.model.Student;
 
+import jakarta.persistence.QueryHint;
+
 public interface AllocateRepository extends JpaRepository<Allocate, Long> {
 	boolean existsByStudentAndApplyForm(Student student, ApplyForm applyForm);
-	void deleteByStudentAndApplyForm(Student student, ApplyForm applyForm);
+
+	/**
+	 * 학생의 할당을 바로 삭제합니다.
+	 * - 삭제가 지연되면 같은 트랜잭션에서 새 할당을 저장할 때 유니크 제약에 걸리므로 벌크 연산으로 즉시 실행합니다.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM Allocate a WHERE a.student = :student AND a.applyForm = :applyForm")
+	int deleteByStudentAndApplyForm(@Param("student") Student student, @Param("applyForm") ApplyForm applyForm);
+
 	List<Allocate> findAllByApplyForm(ApplyForm applyForm);
 
 	@EntityGraph(attributePaths = {"student", "locker", "apply", "applyForm"})
 	Optional<Allocate> findByStudentAndApplyForm(Student student, ApplyForm applyForm);
-	List<Allocate> findByApplyFormAndStudentIn(ApplyForm applyForm, List<Student> students);
+
+	@Query("SELECT a.locker.lockerName FROM Allocate a WHERE a.applyForm = :applyForm")
+	List<String> findLockerNamesByApplyForm(@Param("applyForm") ApplyForm applyForm);
+
+	@Query("SELECT a.locker.lockerName FROM Allocate a WHERE a.student = :student AND a.applyForm = :applyForm")
+	Optional<String> findLockerNameByStudentAndApplyForm(
+		@Param("student") Student student,
+		@Param("applyForm") ApplyForm applyForm
+	);
+
+	@Query("SELECT a.locker.lockerName FROM Allocate a WHERE a.applyForm = :applyForm AND a.student IN :students")
+	List<String> findLockerNamesByApplyFormAndStudentIn(
+		@Param("applyForm") ApplyForm applyForm,
+		@Param("students") List<Student> students
+	);
+
+	@Query("SELECT a.student.id FROM Allocate a WHERE a.applyForm = :applyForm AND a.student.id IN :studentIds")
+	List<Long> findStudentIdsByApplyFormAndStudentIdIn(
+		@Param("applyForm") ApplyForm applyForm,
+		@Param("studentIds") Collection<Long> studentIds
+	);
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM Allocate a WHERE a.applyForm = :applyForm AND a.student IN :students")
+	int deleteAllByApplyFormAndStudentIn(
+		@Param("applyForm") ApplyForm applyForm,
+		@Param("students") List<Student> students
+	);
+
+	/**
+	 * 신청 폼의 할당 목록을 학생, 사물함, 신청 정보와 함께 한 번의 조회로 가져옵니다. (엔티티를 만들지 않음)
+	 */
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+	@Query("SELECT new com.knucse.locker.domain.persistence.projection.AllocateRow("
+		+ "s.studentName, s.studentNumber, l.lockerName, l.floor, l.height, l.pw, l.broken, "
+		+ "p.id, p.firstFloor, p.firstHeight, p.secondFloor, p.secondHeight, p.period, p.status) "
+		+ "FROM Allocate a JOIN a.student s JOIN a.locker l LEFT JOIN a.apply p "
+		+ "WHERE a.applyForm = :applyForm ORDER BY a.id")
+	List<AllocateRow> findAllRowsByApplyForm(@Param("applyForm") ApplyForm applyForm);
 }
@@ -0,0 +1,98 @@
+package com.knucse.locker.domain.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.knucse.common.util.datetime.DateTimeUtil;
+import com.knucse.locker.domain.model.locker.apply.Apply;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신청 묶음 저장을 위한 JDBC 배치 저장소
+ * - IDENTITY 전략에서는 Hibernate 가 INSERT 를 배치로 묶지 못하므로 JdbcTemplate 으로 직접 배치 INSERT 를 수행합니다.
+ * - 컬럼과 값 변환은 Apply 엔티티의 매핑을 따릅니다. (층/높이는 서수, 기간/상태는 이름, 생성/수정 시각은 저장 시각)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplyBulkRepository {
+	private static final String INSERT_SQL = "INSERT INTO apply "
+		+ "(student_id, apply_form_id, first_floor, first_height, second_floor, second_height, period, status, created_at, update_at) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 신청 목록을 배치 INSERT 로 저장하고 생성된 식별자를 받아옵니다.
+	 * - 저장된 신청은 영속성 컨텍스트에 포함되지 않습니다.
+	 *
+	 * @param applies 저장할 신청 목록 (id 는 무시됩니다)
+	 * @return 입력과 같은 순서의, 식별자가 채워진 신청 목록
+	 */
+	public List<Apply> insertAll(List<Apply> applies) {
+		if (applies.isEmpty()) return List.of();
+
+		Timestamp now = Timestamp.valueOf(DateTimeUtil.now());
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.batchUpdate(
+			connection -> connection.prepareStatement(INSERT_SQL, new String[] {"apply_id"}),
+			new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int index) throws SQLException {
+					Apply apply = applies.get(index);
+					ps.setLong(1, apply.getStudent().getId());
+					ps.setLong(2, apply.getApplyForm().getId());
+					setOrdinal(ps, 3, apply.getFirstFloor());
+					setOrdinal(ps, 4, apply.getFirstHeight());
+					setOrdinal(ps, 5, apply.getSecondFloor());
+					setOrdinal(ps, 6, apply.getSecondHeight());
+					ps.setString(7, apply.getPeriod().name());
+					ps.setString(8, apply.getStatus().name());
+					ps.setTimestamp(9, now);
+					ps.setTimestamp(10, now);
+				}
+
+				@Override
+				public int getBatchSize() {
+					return applies.size();
+				}
+			},
+			keyHolder
+		);
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		List<Apply> saved = new ArrayList<>(applies.size());
+		for (int index = 0; index < applies.size(); index++) {
+			Apply apply = applies.get(index);
+			Number id = (Number)keys.get(index).values().iterator().next();
+			saved.add(Apply.builder()
+				.id(id.longValue())
+				.student(apply.getStudent())
+				.applyForm(apply.getApplyForm())
+				.firstFloor(apply.getFirstFloor())
+				.firstHeight(apply.getFirstHeight())
+				.secondFloor(apply.getSecondFloor())
+				.secondHeight(apply.getSecondHeight())
+				.period(apply.getPeriod())
+				.status(apply.getStatus())
+				.build());
+		}
+		return saved;
+	}
+
+	private static void setOrdinal(PreparedStatement ps, int index, Enum<?> value) throws SQLException {
+		if (value == null) ps.setNull(index, Types.TINYINT);
+		else ps.setInt(index, value.ordinal());
+	}
+}
@@ -1,5 +1,6 @@
 package com.knucse.locker.domain.persistence;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,5 +12,5 @@ public interface ApplyFormRepository extends JpaRepository<ApplyForm, Long> {
 	Optional<ApplyForm> findByYearAndSemester(Integer year, Integer semester);
 	boolean existsByYearAndSemester(Integer year, Integer semester);
 	long countByStatus(ApplyFormStatus status);
-	Optional<ApplyForm> findByStatus(ApplyFormStatus status);
+	List<ApplyForm> findAllByStatus(ApplyFormStatus status);
 }
@@ -0,0 +1,105 @@
+package com.knucse.locker.domain.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.knucse.locker.domain.model.locker.statistics.ApplyStatisticsCounter;
+import com.knucse.locker.domain.model.locker.statistics.ApplyStatisticsDelta;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신청 폼 통계 행을 JDBC 로 직접 갱신하는 저장소
+ * - 동시에 여러 트랜잭션이 같은 행을 갱신하므로 읽고 쓰지 않고 "c = c + ?" 로 증감합니다. (행 잠금은 커밋까지 유지)
+ * - 컬럼 이름은 ApplyStatisticsCounter.column() 을 따릅니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplyFormStatisticsCounterRepository {
+	private static final String TABLE = "apply_form_statistics";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 통계 행에 증감을 더합니다. 행이 없으면 0 에서 시작하는 행을 만듭니다.
+	 *
+	 * @param applyFormId 신청 폼 식별자
+	 * @param delta 항목별 증감
+	 */
+	public void increment(Long applyFormId, ApplyStatisticsDelta delta) {
+		if (delta.isEmpty()) return;
+
+		List<ApplyStatisticsCounter> counters = new ArrayList<>();
+		List<Object> args = new ArrayList<>();
+		for (ApplyStatisticsCounter counter : ApplyStatisticsCounter.values()) {
+			if (delta.get(counter) == 0) continue;
+			counters.add(counter);
+			args.add(delta.get(counter));
+		}
+		args.add(applyFormId);
+
+		String sql = "UPDATE " + TABLE + " SET "
+			+ counters.stream().map(c -> c.column() + " = " + c.column() + " + ?").collect(Collectors.joining(", "))
+			+ " WHERE apply_form_id = ?";
+		if (jdbcTemplate.update(sql, args.toArray()) > 0) return;
+
+		/* 첫 신청: 행을 만든 뒤 다시 더함 (동시에 다른 트랜잭션이 만들었으면 그 행에 더함) */
+		insertZero(applyFormId);
+		jdbcTemplate.update(sql, args.toArray());
+	}
+
+	/**
+	 * 통계 행을 잠그고, 없으면 0 으로 채운 행을 만듭니다. (재구성용)
+	 */
+	public void lockOrCreate(Long applyFormId) {
+		List<Long> locked = jdbcTemplate.queryForList(
+			"SELECT apply_form_id FROM " + TABLE + " WHERE apply_form_id = ? FOR UPDATE", Long.class, applyFormId
+		);
+		if (!locked.isEmpty()) return;
+
+		insertZero(applyFormId);
+		jdbcTemplate.queryForList(
+			"SELECT apply_form_id FROM " + TABLE + " WHERE apply_form_id = ? FOR UPDATE", Long.class, applyFormId
+		);
+	}
+
+	/**
+	 * 통계 행의 모든 항목을 주어진 값으로 덮어씁니다. (재구성용, lockOrCreate 이후 호출)
+	 */
+	public void overwrite(Long applyFormId, ApplyStatisticsDelta counts) {
+		List<Object> args = new ArrayList<>();
+		for (ApplyStatisticsCounter counter : ApplyStatisticsCounter.values()) {
+			args.add(counts.get(counter));
+		}
+		args.add(applyFormId);
+
+		String sql = "UPDATE " + TABLE + " SET "
+			+ columns().stream().map(column -> column + " = ?").collect(Collectors.joining(", "))
+			+ " WHERE apply_form_id = ?";
+		jdbcTemplate.update(sql, args.toArray());
+	}
+
+	private void insertZero(Long applyFormId) {
+		List<String> columns = columns();
+		String sql = "INSERT INTO " + TABLE + " (apply_form_id, " + String.join(", ", columns) + ") VALUES (?"
+			+ ", 0".repeat(columns.size()) + ")";
+		try {
+			jdbcTemplate.update(sql, applyFormId);
+		} catch (DuplicateKeyException e) {
+			/* 다른 트랜잭션이 먼저 만든 경우 */
+		}
+	}
+
+	private static List<String> columns() {
+		List<String> columns = new ArrayList<>();
+		for (ApplyStatisticsCounter counter : ApplyStatisticsCounter.values()) {
+			columns.add(counter.column());
+		}
+		return columns;
+	}
+}
@@ -0,0 +1,8 @@
+package com.knucse.locker.domain.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.knucse.locker.domain.model.locker.statistics.ApplyFormStatistics;
+
+public interface ApplyFormStatisticsRepository extends JpaRepository<ApplyFormStatistics, Long> {
+}
@@ -0,0 +1,70 @@
+package com.knucse.locker.domain.persistence;
+
+import java.util.List;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.stereotype.Repository;
+
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.projection.ApplyRow;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신청 목록을 신청 ID 기준 커서(keyset)로 나누어 조회하는 저장소
+ * - OFFSET 대신 "신청 ID > 커서" 조건을 사용하므로 몇 번째 페이지든 읽는 행 수가 페이지 크기로 제한됩니다.
+ * - 정렬은 항상 신청 ID 오름차순이며, (apply_form_id[, status | period], apply_id) 인덱스 순서와 같습니다.
+ * - 조건이 주어진 항목만 WHERE 절에 추가합니다. ("? IS NULL OR ..." 형태는 인덱스를 타지 못할 수 있음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplyQueryRepository {
+	private static final String SELECT_JPQL = "SELECT new com.knucse.locker.domain.persistence.projection.ApplyRow("
+		+ "a.id, s.studentName, s.studentNumber, a.firstFloor, a.firstHeight, a.secondFloor, a.secondHeight, a.period, a.status) "
+		+ "FROM Apply a JOIN a.student s WHERE a.applyForm = :applyForm";
+
+	private final EntityManager entityManager;
+
+	/**
+	 * 커서 다음의 신청 목록을 학생 정보와 함께 조회합니다. (엔티티를 만들지 않음)
+	 *
+	 * @param applyForm 신청 폼
+	 * @param condition 조회 조건
+	 * @param cursor 이전 페이지의 마지막 신청 ID (첫 페이지는 null)
+	 * @param limit 최대 조회 행 수
+	 * @return 신청 ID 오름차순의 신청 목록
+	 */
+	public List<ApplyRow> findRowsAfter(ApplyForm applyForm, ApplySearchCondition condition, Long cursor, int limit) {
+		StringBuilder jpql = new StringBuilder(SELECT_JPQL);
+		if (cursor != null) jpql.append(" AND a.id > :cursor");
+		if (condition.status() != null) jpql.append(" AND a.status = :status");
+		if (condition.period() != null) jpql.append(" AND a.period = :period");
+		if (condition.firstFloor() != null) jpql.append(" AND a.firstFloor = :firstFloor");
+		if (condition.firstHeight() != null) jpql.append(" AND a.firstHeight = :firstHeight");
+		if (condition.secondFloor() != null) jpql.append(" AND a.secondFloor = :secondFloor");
+		if (condition.secondHeight() != null) jpql.append(" AND a.secondHeight = :secondHeight");
+		if (condition.studentNumberPrefix() != null) jpql.append(" AND s.studentNumber LIKE :studentNumberPrefix ESCAPE '\\'");
+		jpql.append(" ORDER BY a.id");
+
+		TypedQuery<ApplyRow> query = entityManager.createQuery(jpql.toString(), ApplyRow.class)
+			.setParameter("applyForm", applyForm)
+			.setHint(AvailableHints.HINT_READ_ONLY, true)
+			.setMaxResults(limit);
+		if (cursor != null) query.setParameter("cursor", cursor);
+		if (condition.status() != null) query.setParameter("status", condition.status());
+		if (condition.period() != null) query.setParameter("period", condition.period());
+		if (condition.firstFloor() != null) query.setParameter("firstFloor", condition.firstFloor());
+		if (condition.firstHeight() != null) query.setParameter("firstHeight", condition.firstHeight());
+		if (condition.secondFloor() != null) query.setParameter("secondFloor", condition.secondFloor());
+		if (condition.secondHeight() != null) query.setParameter("secondHeight", condition.secondHeight());
+		if (condition.studentNumberPrefix() != null)
+			query.setParameter("studentNumberPrefix", escapeLike(condition.studentNumberPrefix()) + "%");
+		return query.getResultList();
+	}
+
+	private static String escapeLike(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+}
@@ -1,30 +1,72 @@
 package com.knucse.locker.domain.persistence;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.knucse.locker.domain.model.locker.apply.Apply;
 import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
 import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.projection.ApplyCountRow;
 import com.knucse.student.student.model.Student;
 
 public interface ApplyRepository extends JpaRepository<Apply, Long> {
 	Optional<Apply> findByStudent(Student student);
 	Optional<Apply> findByStudentAndApplyFormAndStatus(Student student, ApplyForm applyForm, ApplyStatus status);
-	@EntityGraph(attributePaths = {"student"})
-	List<Apply> findAllByApplyFormAndStatus(ApplyForm applyForm, ApplyStatus status);
 	boolean existsByStudentAndApplyFormAndStatus(Student student, ApplyForm applyForm, ApplyStatus status);
-
 	@EntityGraph(attributePaths = {"student"})
-	List<Apply> findAllByApplyForm(ApplyForm applyForm);
+	List<Apply> findAllByApplyFormAndStatus(ApplyForm applyForm, ApplyStatus status);
 
 	Optional<Apply> findByStudentAndApplyForm(Student student, ApplyForm applyForm);
 
+	@Query("SELECT a.student.id FROM Apply a "
+		+ "WHERE a.applyForm = :applyForm AND a.status = :status AND a.student.id IN :studentIds")
+	List<Long> findStudentIdsByApplyFormAndStatusAndStudentIdIn(
+		@Param("applyForm") ApplyForm applyForm,
+		@Param("status") ApplyStatus status,
+		@Param("studentIds") Collection<Long> studentIds
+	);
+
 	@Query("SELECT a FROM Apply a JOIN FETCH a.student WHERE a.id = :id")
 	Optional<Apply> findByIdWithStudent(Long id);
 
+	/**
+	 * 신청을 학생과 함께 조회합니다.
+	 * Student.dues 는 mappedBy 일대일이라 지연 로딩되지 않으므로, 학생마다 추가 조회가 발생하지 않도록 함께 조회합니다.
+	 */
+	@EntityGraph(attributePaths = {"student", "student.dues"})
+	List<Apply> findAllWithDuesByApplyFormAndStatus(ApplyForm applyForm, ApplyStatus status);
+
+	/**
+	 * 신청 상태를 일괄 변경합니다. (벌크 연산이므로 수정 시각을 직접 갱신)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Apply a SET a.status = :status, a.updateAt = :updateAt WHERE a.id IN :ids")
+	int updateStatusByIdIn(
+		@Param("ids") Collection<Long> ids,
+		@Param("status") ApplyStatus status,
+		@Param("updateAt") LocalDateTime updateAt
+	);
+
+	/**
+	 * 신청 폼의 신청 수를 (기간, 상태, 1지망 층/높이) 별로 한 번의 조회로 집계합니다.
+	 */
+	@Query("SELECT new com.knucse.locker.domain.persistence.projection.ApplyCountRow("
+		+ "a.period, a.status, a.firstFloor, a.firstHeight, COUNT(a)) "
+		+ "FROM Apply a WHERE a.applyForm = :applyForm "
+		+ "GROUP BY a.period, a.status, a.firstFloor, a.firstHeight")
+	List<ApplyCountRow> countRowsByApplyForm(@Param("applyForm") ApplyForm applyForm);
+
+	/**
+	 * 신청 폼에서 학생회비를 납부한 학생의 신청 수를 조회합니다.
+	 */
+	@Query("SELECT COUNT(a) FROM Apply a JOIN a.student s JOIN s.dues d WHERE a.applyForm = :applyForm AND d.dues = true")
+	long countDuesPaidByApplyForm(@Param("applyForm") ApplyForm applyForm);
 }
@@ -0,0 +1,20 @@
+package com.knucse.locker.domain.persistence;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+
+import lombok.Builder;
+
+/**
+ * 신청 목록 조회 조건 (null 인 조건은 적용하지 않습니다)
+ */
+@Builder(toBuilder = true)
+public record ApplySearchCondition(
+	ApplyStatus status, ApplyPeriod period,
+	LockerFloor firstFloor, ApplyHeight firstHeight,
+	LockerFloor secondFloor, ApplyHeight secondHeight,
+	String studentNumberPrefix
+) {
+}
@@ -0,0 +1,33 @@
+package com.knucse.locker.domain.persistence;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 무결성 제약 위반 예외에서 위반된 제약 조건을 판별합니다.
+ * - Hibernate 가 제약 이름을 추출한 경우 그 이름을, JDBC 로 직접 실행한 경우 드라이버 메시지를 확인합니다.
+ *   (MySQL: "Duplicate entry '...' for key 'apply.uk_apply_pending_student_form'")
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConstraintViolations {
+
+	public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+		String name = constraintName.toLowerCase(Locale.ROOT);
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof org.hibernate.exception.ConstraintViolationException violation
+				&& violation.getConstraintName() != null) {
+				return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(name);
+			}
+			if (cause instanceof SQLException && cause.getMessage() != null
+				&& cause.getMessage().toLowerCase(Locale.ROOT).contains(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
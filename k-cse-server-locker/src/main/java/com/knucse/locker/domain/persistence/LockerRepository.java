@@ -9,8 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.knucse.locker.domain.model.locker.Locker;
-import com.knucse.locker.domain.model.locker.LockerFloor;
 import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.projection.LockerSlot;
 
 import jakarta.persistence.LockModeType;
 
@@ -29,37 +29,9 @@ public interface LockerRepository extends JpaRepository<Locker, String> {
 	);
 
 	/**
-	 * floor, heights, applyForm 을 기준으로 사용 가능한 Locker 조회
-	 * broken 이 false 인 사물함만 조회
-	 */
-	@Query("SELECT l FROM Locker l WHERE l.floor = :floor "
-		+ "AND l.height IN :heights AND l.broken = false "
-		+ "AND NOT EXISTS (SELECT 1 FROM Allocate a WHERE a.locker = l AND a.applyForm = :applyForm)")
-	List<Locker> findAvailableLockers(
-		@Param("floor") LockerFloor floor,
-		@Param("heights") List<Integer> heights,
-		@Param("applyForm") ApplyForm applyForm
-	);
-
-	/**
-	 * floor 와 applyForm 을 기준으로 사용 가능한 Locker 조회 (heights 조건 없음)
-	 * broken 이 false 인 사물함만 조회
+	 * 가용성 인덱스 구성을 위해 모든 사물함의 요약 정보를 이름 순으로 조회
 	 */
-	@Query("SELECT l FROM Locker l WHERE l.floor = :floor "
-		+ "AND l.broken = false "
-		+ "AND NOT EXISTS (SELECT 1 FROM Allocate a WHERE a.locker = l AND a.applyForm = :applyForm)")
-	List<Locker> findAvailableLockers(
-		@Param("floor") LockerFloor floor,
-		@Param("applyForm") ApplyForm applyForm
-	);
-
-	/**
-	 * applyForm 만을 기준으로 사용 가능한 Locker 조회 (floor, heights 조건 없음)
-	 * broken 이 false 인 사물함만 조회
-	 */
-	@Query("SELECT l FROM Locker l WHERE l.broken = false "
-		+ "AND NOT EXISTS (SELECT 1 FROM Allocate a WHERE a.locker = l AND a.applyForm = :applyForm)")
-	List<Locker> findAvailableLockers(
-		@Param("applyForm") ApplyForm applyForm
-	);
+	@Query("SELECT new com.knucse.locker.domain.persistence.projection.LockerSlot("
+		+ "l.lockerName, l.floor, l.height, l.broken) FROM Locker l ORDER BY l.lockerName")
+	List<LockerSlot> findAllSlots();
 }
@@ -1,5 +1,7 @@
 package com.knucse.locker.domain.persistence;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,4 +11,6 @@ import com.knucse.locker.domain.model.locker.report.Report;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
 	Optional<Report> findByApply(Apply apply);
+
+	List<Report> findAllByApplyIn(Collection<Apply> applies);
 }
@@ -0,0 +1,28 @@
+package com.knucse.locker.domain.persistence.projection;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+
+/**
+ * 할당 목록 조회를 위한 할당 요약 정보 (할당, 학생, 사물함, 신청을 한 번에 조회)
+ * - 신청이 없는 할당이면 신청 관련 필드는 null 입니다.
+ */
+public record AllocateRow(
+	String studentName, String studentNumber,
+	String lockerName, LockerFloor floor, Integer height, String pw, Boolean broken,
+	Long applyId,
+	LockerFloor firstFloor, ApplyHeight firstHeight,
+	LockerFloor secondFloor, ApplyHeight secondHeight,
+	ApplyPeriod period, ApplyStatus status
+) {
+	public ApplyRow apply() {
+		if (applyId == null) return null;
+		return new ApplyRow(
+			applyId, studentName, studentNumber,
+			firstFloor, firstHeight, secondFloor, secondHeight,
+			period, status
+		);
+	}
+}
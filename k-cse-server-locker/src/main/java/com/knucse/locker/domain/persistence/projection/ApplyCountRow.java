@@ -0,0 +1,16 @@
+package com.knucse.locker.domain.persistence.projection;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+
+/**
+ * 신청 집계를 구성하기 위한 (기간, 상태, 1지망 층/높이) 별 신청 수
+ */
+public record ApplyCountRow(
+	ApplyPeriod period, ApplyStatus status,
+	LockerFloor firstFloor, ApplyHeight firstHeight,
+	Long count
+) {
+}
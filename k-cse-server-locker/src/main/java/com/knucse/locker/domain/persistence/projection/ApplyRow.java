@@ -0,0 +1,18 @@
+package com.knucse.locker.domain.persistence.projection;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+
+/**
+ * 신청 목록 조회를 위한 신청 요약 정보 (신청과 학생을 한 번에 조회)
+ */
+public record ApplyRow(
+	Long applyId,
+	String studentName, String studentNumber,
+	LockerFloor firstFloor, ApplyHeight firstHeight,
+	LockerFloor secondFloor, ApplyHeight secondHeight,
+	ApplyPeriod period, ApplyStatus status
+) {
+}
@@ -0,0 +1,11 @@
+package com.knucse.locker.domain.persistence.projection;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+
+/**
+ * 사물함 가용성 인덱스 구성을 위한 사물함 요약 정보 (엔티티 대신 조회)
+ */
+public record LockerSlot(
+	String lockerName, LockerFloor floor, Integer height, Boolean broken
+) {
+}
@@ -1,46 +1,126 @@
 package com.knucse.locker.domain.service.document;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
+import com.knucse.locker.api.locker.applyForm.dto.ApplyFormReadDto;
+import com.knucse.locker.domain.exception.locker.applyForm.ApplyFormNotFoundException;
+import com.knucse.locker.domain.model.locker.Locker;
 import com.knucse.locker.domain.model.locker.allocate.Allocate;
 import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
 import com.knucse.student.student.model.Student;
+import com.knucse.locker.domain.persistence.AllocateExportRepository;
 import com.knucse.locker.domain.persistence.AllocateRepository;
 import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
-import com.knucse.student.student.service.StudentService;
+import com.opencsv.CSVWriter;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DocumentService {
-	private final StudentService studentService;
+	private static final int CLEAR_INTERVAL = 1000;
+	private static final String[] CSV_HEADER = {
+		"studentName",
+		"studentNumber",
+		"lockerName",
+		"floor",
+		"height",
+		"pw",
+		"broken",
+		"applyFormYear",
+		"applyFormSemester"
+	};
+
 	private final ApplyFormService applyFormService;
 	private final AllocateRepository allocateRepository;
+	private final AllocateExportRepository allocateExportRepository;
+	private final EntityManager entityManager;
 
+	/**
+	 * 활성화된 신청 폼의 모든 할당을 조회합니다.
+	 * - 할당, 학생, 사물함, 신청을 하나의 조인 쿼리로 DTO 행으로 조회하므로 엔티티를 만들지 않습니다.
+	 *
+	 * @return 할당 DTO 리스트
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 */
 	public List<AllocateReadDto> getAllStudentAllocateForm() {
-		// 모든 학생을 한 번에 조회
-		List<Student> students = studentService.findAllStudents();
-
-		// 활성화된 ApplyForm을 루프 외부에서 한 번만 조회
 		ApplyForm applyForm = applyFormService.getActiveApplyForm();
+		ApplyFormReadDto applyFormReadDto = ApplyFormReadDto.fromEntity(applyForm);
 
-		// 학생 리스트로부터 Allocate를 한 번에 조회
-		List<Allocate> allocates = allocateRepository.findByApplyFormAndStudentIn(applyForm, students);
-
-		// Allocate를 DTO로 변환하여 반환
-		return allocates.stream()
-			.map(allocate -> AllocateReadDto.fromEntity(
-				allocate.getStudent(),
-				allocate.getApply(),
-				applyForm,
-				allocate.getLocker()))
+		return allocateRepository.findAllRowsByApplyForm(applyForm).stream()
+			.map(row -> AllocateReadDto.fromRow(row, applyFormReadDto))
 			.collect(Collectors.toList());
 	}
+
+	/**
+	 * 할당 내역을 내보낼 신청 폼을 조회합니다.
+	 * - 연도와 학기를 모두 지정하지 않으면 활성화된 신청 폼을 반환합니다.
+	 *
+	 * @param year 연도 (nullable)
+	 * @param semester 학기 (nullable)
+	 * @return 신청 폼 엔티티
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 */
+	public ApplyForm getExportApplyForm(Integer year, Integer semester) {
+		if (year == null && semester == null)
+			return applyFormService.getActiveApplyForm();
+		return applyFormService.getApplyFormByYearAndSemester(year, semester);
+	}
+
+	/**
+	 * 할당 내역을 CSV 로 씁니다.
+	 * - 할당을 스트리밍 조회로 한 행씩 읽어 바로 쓰고, 영속성 컨텍스트를 주기적으로 비우므로
+	 *   내보내는 행 수와 무관하게 일정한 메모리만 사용합니다.
+	 *
+	 * @param applyForm 내보낼 신청 폼 (null 이면 모든 신청 폼)
+	 * @param writer CSV 를 쓸 Writer (닫지 않음)
+	 * @return 쓴 할당 행 수
+	 */
+	public int writeAllocationsCsv(ApplyForm applyForm, Writer writer) throws IOException {
+		CSVWriter csvWriter = new CSVWriter(writer);
+		csvWriter.writeNext(CSV_HEADER);
+
+		int count = 0;
+		try (Stream<Allocate> allocates = applyForm == null
+			? allocateExportRepository.streamAll()
+			: allocateExportRepository.streamAllByApplyForm(applyForm)) {
+			Iterator<Allocate> iterator = allocates.iterator();
+			while (iterator.hasNext()) {
+				csvWriter.writeNext(toCsvRow(iterator.next()));
+				if (++count % CLEAR_INTERVAL == 0) entityManager.clear();
+			}
+		}
+		csvWriter.flush();
+		return count;
+	}
+
+	private static String[] toCsvRow(Allocate allocate) {
+		Student student = allocate.getStudent();
+		Locker locker = allocate.getLocker();
+		ApplyForm applyForm = allocate.getApplyForm();
+		return new String[] {
+			student.getStudentName(),
+			student.getStudentNumber(),
+			locker.getLockerName(),
+			String.valueOf(locker.getFloor()),
+			String.valueOf(locker.getHeight()),
+			locker.getPw(),
+			String.valueOf(locker.getBroken()),
+			String.valueOf(applyForm.getYear()),
+			String.valueOf(applyForm.getSemester())
+		};
+	}
 }
@@ -1,82 +1,196 @@
 package com.knucse.locker.domain.service.locker;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.knucse.locker.domain.exception.locker.LockerFullNotFoundException;
 import com.knucse.locker.domain.exception.locker.LockerNotFoundException;
+import com.knucse.locker.domain.exception.locker.allocate.AllocateDuplicatedException;
 import com.knucse.locker.domain.model.locker.Locker;
 import com.knucse.locker.domain.model.locker.apply.Apply;
 import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
 import com.knucse.locker.domain.persistence.LockerRepository;
+import com.knucse.locker.domain.service.locker.availability.LockerAssignmentSolver;
+import com.knucse.locker.domain.service.locker.availability.LockerAvailability;
+import com.knucse.locker.domain.service.locker.availability.LockerAvailabilityIndex;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class LockerService {
 	private final LockerRepository lockerRepository;
+	private final LockerAvailabilityIndex lockerAvailabilityIndex;
 
 	/**
-	 * 특정 이름과 신청 폼에 해당하는 사물함을 조회합니다.
+	 * 특정 이름과 신청 폼에 해당하는 사물함을 조회하고 가용성 인덱스에 할당 상태로 표시합니다.
 	 *
 	 * @param lockerName 사물함 이름
 	 * @param applyForm 신청 폼 엔티티
 	 * @return 조회된 사물함 엔티티
 	 * @throws LockerNotFoundException "LOCKER_NOT_FOUND"
 	 */
-	@Transactional(isolation = Isolation.REPEATABLE_READ)
+	@Transactional
 	public Locker getLockerByLockerName(String lockerName, ApplyForm applyForm) {
-		return lockerRepository.findAvailableLockerByLockerName(lockerName, applyForm)
+		Locker locker = lockerRepository.findAvailableLockerByLockerName(lockerName, applyForm)
 			.orElseThrow(LockerNotFoundException::new);
+		lockerAvailabilityIndex.reserve(applyForm, lockerName);
+		return locker;
 	}
 
 	/**
 	 * 신청에 따라 랜덤한 사물함을 할당합니다.
+	 * - 선택된 사물함은 가용성 인덱스에서 즉시 할당 상태가 되며, 트랜잭션이 롤백되면 되돌아갑니다.
 	 *
 	 * @param apply 신청 엔티티
 	 * @return 할당된 사물함 엔티티
 	 * @throws LockerFullNotFoundException "LOCKER_FULL_NOT_FOUND"
 	 */
-	@Transactional(isolation = Isolation.REPEATABLE_READ)
+	@Transactional
 	public Locker getRandomLocker(Apply apply) {
-		List<Locker> lockers = getLockerByApplyWithoutAllocate(apply, apply.getApplyForm());
-		if (lockers.isEmpty()) throw new LockerFullNotFoundException();
-
-		/* 랜덤하게 Locker 선택 */
-		Random random = new Random();
-		return lockers.get(random.nextInt(lockers.size()));
+		String lockerName = reserveLockerByApply(apply, apply.getApplyForm());
+		return lockerRepository.findById(lockerName)
+			.orElseThrow(LockerNotFoundException::new);
 	}
 
 	/**
-	 * 신청과 신청 폼에 따라 사물함을 조회하되, 할당되지 않은 사물함만 반환합니다.
+	 * 신청과 신청 폼에 따라 할당되지 않은 사물함 하나를 선택하고, 가용성 인덱스에 할당 상태로 표시합니다.
+	 * - 1지망 층/높이, 2지망 층/높이, 1지망 층, 전체 순으로 비어 있지 않은 첫 구간에서 균등 확률로 선택합니다.
+	 * - 선택과 표시를 한 번에 하므로 동시에 요청해도 같은 사물함이 선택되지 않으며, 트랜잭션이 롤백되면 표시를 되돌립니다.
+	 *   할당 엔티티 저장은 호출한 쪽에서 같은 트랜잭션 안에 해야 합니다.
 	 *
 	 * @param apply 신청 엔티티
 	 * @param applyForm 신청 폼 엔티티
-	 * @return 사용 가능한 사물함 리스트
+	 * @return 선택된 사물함 이름
 	 * @throws LockerFullNotFoundException "LOCKER_FULL_NOT_FOUND"
 	 */
-	@Transactional(isolation = Isolation.REPEATABLE_READ)
-	public List<Locker> getLockerByApplyWithoutAllocate(Apply apply, ApplyForm applyForm) {
-		List<Integer> firstLockerHeight = apply.getFirstHeight().getLockerHeight(apply.getFirstFloor());
-		List<Locker> firstLockers = lockerRepository.findAvailableLockers(apply.getFirstFloor(), firstLockerHeight, applyForm);
-		if (!firstLockers.isEmpty()) return firstLockers;
+	public String reserveLockerByApply(Apply apply, ApplyForm applyForm) {
+		LockerAvailability availability = lockerAvailabilityIndex.get(applyForm);
+		String lockerName = reserveRandomLocker(availability, apply, ThreadLocalRandom.current());
+		if (lockerName == null) throw new LockerFullNotFoundException();
+
+		lockerAvailabilityIndex.releaseOnRollback(availability, lockerName);
+		return lockerName;
+	}
+
+	/**
+	 * 신청 목록의 순서대로 할당되지 않은 사물함을 하나씩 선택합니다.
+	 * - 선택 규칙은 {@link #reserveLockerByApply(Apply, ApplyForm)} 와 같습니다.
+	 * - 할당 이력과 무관한 가용성 스냅샷에서 주어진 난수 생성기로 선택하므로, 같은 시드와 같은 상태면 같은 결과가 나옵니다.
+	 * - 한 신청이라도 사물함을 선택하지 못하면 예외를 던집니다.
+	 *
+	 * @param applies 우선순위 순으로 정렬된 신청 목록
+	 * @param applyForm 신청 폼 엔티티
+	 * @param random 사물함 선택에 사용할 난수 생성기
+	 * @return 신청 목록과 같은 순서의 사물함 이름 목록
+	 * @throws LockerFullNotFoundException "LOCKER_FULL_NOT_FOUND"
+	 * @throws AllocateDuplicatedException "ALLOCATE_DUPLICATED"
+	 */
+	public List<String> getLockersByAppliesWithoutAllocate(
+		List<Apply> applies, ApplyForm applyForm, RandomGenerator random
+	) {
+		LockerAvailability availability = lockerAvailabilityIndex.get(applyForm);
+		LockerAvailability snapshot = availability.snapshot();
+
+		List<String> lockerNames = new ArrayList<>(applies.size());
+		for (Apply apply : applies) {
+			String lockerName = reserveRandomLocker(snapshot, apply, random);
+			if (lockerName == null) throw new LockerFullNotFoundException();
+			lockerNames.add(lockerName);
+		}
 
-		List<Integer> secondLockerHeight = apply.getSecondHeight().getLockerHeight(apply.getSecondFloor());
-		List<Locker> secondLockers = lockerRepository.findAvailableLockers(apply.getSecondFloor(), secondLockerHeight, applyForm);
-		if (!secondLockers.isEmpty()) return secondLockers;
+		reserveAll(availability, lockerNames);
+		return lockerNames;
+	}
 
-		List<Locker> floorLockers = lockerRepository.findAvailableLockers(apply.getFirstFloor(), applyForm);
-		if (!floorLockers.isEmpty()) return floorLockers;
+	/**
+	 * 신청 목록 전체에 대해 지망과 우선순위를 비용으로 하는 최소 비용 배정을 계산하여 사물함을 선택합니다.
+	 * - 사물함이 부족하면 일부 신청은 배정되지 않으며, 우선순위 신청이 먼저 배정됩니다.
+	 * - 할당 이력과 무관한 가용성 스냅샷에서 계산하므로, 같은 시드와 같은 상태면 같은 결과가 나옵니다.
+	 *
+	 * @param applies 신청 목록
+	 * @param applyForm 신청 폼 엔티티
+	 * @param priority 우선순위 신청 여부
+	 * @param random 버킷 안에서 사물함을 고를 난수 생성기
+	 * @return 신청 목록과 같은 순서의 사물함 이름 목록 (미배정이면 null)
+	 * @throws AllocateDuplicatedException "ALLOCATE_DUPLICATED"
+	 */
+	public List<String> getOptimalLockersByAppliesWithoutAllocate(
+		List<Apply> applies, ApplyForm applyForm, Predicate<Apply> priority, RandomGenerator random
+	) {
+		LockerAvailability availability = lockerAvailabilityIndex.get(applyForm);
+		List<String> lockerNames = LockerAssignmentSolver.solve(availability.snapshot(), applies, priority, random);
 
-		List<Locker> remainLockers = lockerRepository.findAvailableLockers(applyForm);
-		if (!remainLockers.isEmpty()) return remainLockers;
+		reserveAll(availability, lockerNames);
+		return lockerNames;
+	}
 
-		throw new LockerFullNotFoundException();
+	/**
+	 * 사물함 이름 목록에 해당하는 사물함을 한 번에 조회합니다.
+	 *
+	 * @param lockerNames 사물함 이름 목록
+	 * @return 사물함 이름을 키로 하는 사물함 엔티티 맵
+	 */
+	public Map<String, Locker> getLockersByLockerNames(Collection<String> lockerNames) {
+		return lockerRepository.findAllById(lockerNames).stream()
+			.collect(Collectors.toMap(Locker::getLockerName, Function.identity()));
+	}
+
+	/**
+	 * 스냅샷에서 선택한 사물함들을 가용성 비트맵에 할당 상태로 표시하고, 트랜잭션이 롤백되면 되돌리도록 등록합니다.
+	 * - 그 사이 다른 요청이 같은 사물함을 할당했다면 표시한 사물함을 모두 되돌리고 예외를 던집니다.
+	 */
+	private void reserveAll(LockerAvailability availability, List<String> lockerNames) {
+		List<String> reserved = new ArrayList<>(lockerNames.size());
+		for (String lockerName : lockerNames) {
+			if (lockerName == null) continue;
+			if (!availability.reserve(lockerName)) {
+				reserved.forEach(availability::release);
+				throw new AllocateDuplicatedException();
+			}
+			reserved.add(lockerName);
+		}
+		lockerAvailabilityIndex.releaseOnRollback(availability, reserved);
+	}
+
+	/**
+	 * 1지망 층/높이, 2지망 층/높이, 1지망 층, 전체 순으로 비어 있지 않은 첫 구간에서 사물함을 선택합니다.
+	 *
+	 * @return 선택된 사물함 이름, 사용 가능한 사물함이 없으면 null
+	 */
+	private String reserveRandomLocker(LockerAvailability availability, Apply apply, RandomGenerator random) {
+		List<Integer> firstLockerHeight = apply.getFirstHeight().getLockerHeight(apply.getFirstFloor());
+		String lockerName = availability.reserveRandom(apply.getFirstFloor(), firstLockerHeight, random);
+
+		if (lockerName == null) {
+			List<Integer> secondLockerHeight = apply.getSecondHeight().getLockerHeight(apply.getSecondFloor());
+			lockerName = availability.reserveRandom(apply.getSecondFloor(), secondLockerHeight, random);
+		}
+		if (lockerName == null) lockerName = availability.reserveRandom(apply.getFirstFloor(), random);
+		if (lockerName == null) lockerName = availability.reserveRandom(random);
+		return lockerName;
+	}
+
+	/**
+	 * 할당이 해제된 사물함을 가용성 인덱스에 반영합니다. (트랜잭션 커밋 이후 반영)
+	 *
+	 * @param applyForm 신청 폼 엔티티
+	 * @param lockerName 사물함 이름
+	 */
+	public void releaseLocker(ApplyForm applyForm, String lockerName) {
+		lockerAvailabilityIndex.release(applyForm, lockerName);
 	}
 }
@@ -0,0 +1,24 @@
+package com.knucse.locker.domain.service.locker.allocate;
+
+/**
+ * 일괄 할당 진행 상황을 전달받는 리스너
+ * - 할당 트랜잭션 안에서 호출되므로 가볍게 구현해야 합니다.
+ */
+public interface AllocateProgressListener {
+	AllocateProgressListener NONE = new AllocateProgressListener() { };
+
+	/**
+	 * 처리할 신청 수가 정해졌을 때 호출됩니다.
+	 */
+	default void onStart(int total) { }
+
+	/**
+	 * 신청이 사물함에 할당되어 저장되었을 때 호출됩니다.
+	 */
+	default void onAllocated(int count) { }
+
+	/**
+	 * 신청이 사물함을 배정받지 못했을 때 호출됩니다.
+	 */
+	default void onFailed(int count) { }
+}
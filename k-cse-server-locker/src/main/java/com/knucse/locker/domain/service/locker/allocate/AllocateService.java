@@ -1,15 +1,17 @@
 package com.knucse.locker.domain.service.locker.allocate;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.knucse.common.annotation.QueryBudget;
 import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
+import com.knucse.locker.api.locker.allocate.dto.AllocateResultReadDto;
 import com.knucse.locker.api.locker.apply.dto.ReportStatusUpdateDto;
+import com.knucse.locker.domain.exception.locker.allocate.AllocateDuplicatedException;
 import com.knucse.locker.domain.exception.locker.allocate.AllocateNotFoundException;
 import com.knucse.locker.domain.model.locker.Locker;
 import com.knucse.locker.domain.model.locker.allocate.Allocate;
@@ -17,18 +19,21 @@ import com.knucse.locker.domain.model.locker.apply.Apply;
 import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
 import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
 import com.knucse.student.student.model.Student;
+import com.knucse.student.student.model.StudentIdentity;
 import com.knucse.locker.domain.persistence.AllocateRepository;
+import com.knucse.locker.domain.persistence.ConstraintViolations;
 import com.knucse.locker.domain.service.locker.LockerService;
 import com.knucse.locker.domain.service.locker.apply.ApplyService;
 import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
 import com.knucse.student.student.service.StudentService;
-import com.knucse.student.dues.service.DuesService;
 
+import io.micrometer.core.annotation.Timed;
 import knu.univ.cse.server.core.domain.exception.locker.LockerFullNotFoundException;
 import knu.univ.cse.server.core.domain.exception.locker.apply.ApplyNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class AllocateService {
@@ -40,7 +45,7 @@ public class AllocateService {
 	private final ApplyService applyService;
 	private final LockerService lockerService;
 	private final ApplyFormService applyFormService;
-	private final DuesService duesService;
+	private final BulkAllocationEngine bulkAllocationEngine;
 
 	/**
 	 * 학번으로 받은 학생의 신청을 특정 사물함에 할당합니다.
@@ -53,10 +58,12 @@ public class AllocateService {
 	 * @throws LockerNotFoundException "LOCKER_NOT_FOUND"
 	 * @throws AllocateDuplicatedException "ALLOCATE_DUPLICATED"
 	 */
-	@Transactional(isolation = Isolation.SERIALIZABLE)
+	@Transactional
+	@QueryBudget(10)
 	public AllocateReadDto allocateLockerByStudentNumber(String studentNumber, String lockerName) {
 		// 1. 학번으로 학생을 찾는다.
-		Student student = studentService.findStudentByStudentNumber(studentNumber);
+		StudentIdentity identity = studentService.findStudentByStudentNumber(studentNumber);
+		Student student = studentService.getStudentReference(identity);
 
 		// 2. 현재 활성화된 신청폼을 찾는다.
 		ApplyForm applyForm = applyFormService.getActiveApplyForm();
@@ -79,13 +86,13 @@ public class AllocateService {
 			.apply(targetApply)
 			.build();
 
-		allocateRepository.save(allocate);
+		saveAllocate(allocate);
 
 		// 6. 신청 상태를 승인으로 변경한다.
 		applyService.updateApplyStatus(targetApply, ApplyStatus.APPROVE);
 
 		// 7. AllocateReadDto 를 반환한다.
-		return AllocateReadDto.fromEntity(student, targetApply, applyForm, targetLocker);
+		return AllocateReadDto.of(identity, targetApply, applyForm, targetLocker);
 	}
 
 	/**
@@ -98,10 +105,12 @@ public class AllocateService {
 	 * @throws LockerFullNotFoundException "LOCKER_FULL_NOT_FOUND"
 	 * @throws AllocateDuplicatedException "ALLOCATE_DUPLICATED"
 	 */
-	@Transactional(isolation = Isolation.SERIALIZABLE)
+	@Transactional
+	@QueryBudget(10)
 	public AllocateReadDto allocateRandomLockerByStudentNumber(String studentNumber) {
 		// 1. 학번으로 학생을 찾는다.
-		Student student = studentService.findStudentByStudentNumber(studentNumber);
+		StudentIdentity identity = studentService.findStudentByStudentNumber(studentNumber);
+		Student student = studentService.getStudentReference(identity);
 
 		// 2. 현재 활성화된 신청폼을 찾는다.
 		ApplyForm applyForm = applyFormService.getActiveApplyForm();
@@ -124,13 +133,13 @@ public class AllocateService {
 			.apply(targetApply)
 			.build();
 
-		allocateRepository.save(allocate);
+		saveAllocate(allocate);
 
 		// 6. 신청 상태를 승인으로 변경한다.
 		applyService.updateApplyStatus(targetApply, ApplyStatus.APPROVE);
 
 		// 7. AllocateReadDto 를 반환한다.
-		return AllocateReadDto.fromEntity(student, targetApply, applyForm, targetLocker);
+		return AllocateReadDto.of(identity, targetApply, applyForm, targetLocker);
 	}
 
 	/**
@@ -143,7 +152,8 @@ public class AllocateService {
 	 * @throws LockerFullNotFoundException "LOCKER_FULL_NOT_FOUND"
 	 * @throws AllocateDuplicatedException "ALLOCATE_DUPLICATED"
 	 */
-	@Transactional(isolation = Isolation.SERIALIZABLE)
+	@Transactional
+	@QueryBudget(10)
 	public AllocateReadDto allocateRandomLockerWhenReport(ReportStatusUpdateDto requestBody) {
 		// 1. 신고 ID로 신청을 찾는다.
 		Apply targetApply = applyService.getApplyByIdWithStudent(requestBody.reportId());
@@ -168,7 +178,7 @@ public class AllocateService {
 			.apply(targetApply)
 			.build();
 
-		allocateRepository.save(allocate);
+		saveAllocate(allocate);
 
 		// 6. 신청 상태를 승인으로 변경한다.
 		applyService.updateApplyStatus(targetApply, ApplyStatus.APPROVE);
@@ -179,96 +189,95 @@ public class AllocateService {
 
 	/**
 	 * 현재 활성화된 신청 폼의 모든 신청에 대해 랜덤 사물함을 할당합니다.
+	 * - 조회, 사물함 선택, 저장을 일괄로 처리하므로 범위 잠금이 필요한 SERIALIZABLE 대신 READ_COMMITTED 로 실행합니다.
 	 *
 	 * @return 할당된 모든 사물함의 DTO 리스트
 	 * @throws LockerFullNotFoundException "LOCKER_FULL_NOT_FOUND"
 	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
 	 */
-	@Transactional(isolation = Isolation.SERIALIZABLE)
+	@Transactional(isolation = Isolation.READ_COMMITTED)
 	public List<AllocateReadDto> allocateAllLockers() {
+		return allocateAllLockers(AllocateProgressListener.NONE);
+	}
+
+	/**
+	 * 현재 활성화된 신청 폼의 모든 신청에 대해 랜덤 사물함을 할당하며 진행 상황을 리스너에 전달합니다.
+	 *
+	 * @param listener 진행 상황 리스너
+	 * @return 할당된 모든 사물함의 DTO 리스트
+	 * @throws LockerFullNotFoundException "LOCKER_FULL_NOT_FOUND"
+	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
+	 */
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public List<AllocateReadDto> allocateAllLockers(AllocateProgressListener listener) {
 		// 1. 현재 활성화된 신청폼을 찾는다.
 		ApplyForm applyForm = applyFormService.getActiveApplyForm();
 
-		// 2. 현재 활성화된 신청폼에서 모든 미처리된 신청을 찾는다.
-		List<Apply> applies = applyService.getAppliesByApplyFormAndStatus(applyForm, ApplyStatus.APPLY);
-		if (applies.isEmpty()) throw new ApplyNotFoundException();
-
-		// 3. 신청별 가중치를 계산하여 Pair 리스트로 저장
-		List<ApplyWithWeight> applyWithWeights = new ArrayList<>();
-		for (Apply apply : applies) {
-			long studentId = apply.getStudent().getId();
-			int weight = 0;
-
-			// 회비 납부 여부에 따른 가중치 부여
-			if (duesService.isDues(studentId)) {
-				weight += 100;
-			}
-
-			// todo: 추가적인 가중치 부여 로직
-
-			applyWithWeights.add(new ApplyWithWeight(apply, weight));
-		}
-
-		// 4. 가중치가 높은 순으로 정렬
-		applyWithWeights.sort(Comparator.comparingInt(ApplyWithWeight::weight).reversed());
-
-		// 5. 정렬된 신청 리스트로부터 AllocateReadDto 리스트 생성
-		List<AllocateReadDto> allocateReadDtos = new ArrayList<>();
-
-		for (ApplyWithWeight applyWithWeight : applyWithWeights) {
-			Apply apply = applyWithWeight.apply();
-
-			try {
-				// 5.1. 학생에게 부여할 랜덤 사물함을 찾고 고장 및 유효성 검사를 한다.
-				Locker targetLocker = lockerService.getRandomLocker(apply);
-
-				// 이미 할당된 사물함이 있는 경우, 기존 할당을 삭제한다.
-				deleteAllocate(apply.getStudent(), applyForm);
-
-				// 5.2. Allocate 객체를 생성하고 저장한다.
-				Allocate allocate = Allocate.builder()
-					.applyForm(applyForm)
-					.student(apply.getStudent())
-					.locker(targetLocker)
-					.apply(apply)
-					.build();
-
-				allocateRepository.save(allocate);
-
-				// 5.3. 신청 상태를 승인으로 변경한다.
-				applyService.updateApplyStatus(apply, ApplyStatus.APPROVE);
-
-				// 5.4. AllocateReadDto 를 생성하여 리스트에 추가한다.
-				AllocateReadDto dto = AllocateReadDto.fromEntity(apply.getStudent(), apply, applyForm, targetLocker);
-				allocateReadDtos.add(dto);
-			} catch (LockerFullNotFoundException e) {
-				// 모든 Locker 가 할당되어 있거나 고장 상태인 경우, 더 이상 할당 불가
-				throw new LockerFullNotFoundException();
-			}
-		}
-
-		return allocateReadDtos;
+		// 2. 모든 미처리된 신청을 일괄 할당한다.
+		return bulkAllocationEngine.allocateAll(applyForm, listener);
 	}
 
 	/**
-	 * 신청과 가중치를 함께 저장하기 위한 내부 클래스
+	 * 현재 활성화된 신청 폼의 모든 신청에 대해 지망과 학생회비 납부 여부를 고려한 최소 비용 배정으로 사물함을 할당합니다.
+	 *
+	 * @return 할당 결과 DTO (1지망/2지망 배정 수, 미배정 수 포함)
+	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
 	 */
-	private record ApplyWithWeight(Apply apply, int weight) { }
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public AllocateResultReadDto allocateAllLockersOptimal() {
+		return allocateAllLockersOptimal(AllocateProgressListener.NONE);
+	}
 
+	/**
+	 * 최소 비용 배정으로 사물함을 할당하며 진행 상황을 리스너에 전달합니다.
+	 *
+	 * @param listener 진행 상황 리스너
+	 * @return 할당 결과 DTO (1지망/2지망 배정 수, 미배정 수 포함)
+	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
+	 */
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public AllocateResultReadDto allocateAllLockersOptimal(AllocateProgressListener listener) {
+		ApplyForm applyForm = applyFormService.getActiveApplyForm();
+		return bulkAllocationEngine.allocateAllOptimal(applyForm, listener);
+	}
 
-	@Transactional(isolation = Isolation.SERIALIZABLE)
+	@Transactional
 	public void deleteAllocate(Student student, ApplyForm applyForm) {
-		if (allocateRepository.existsByStudentAndApplyForm(student, applyForm)) {
-			allocateRepository.deleteByStudentAndApplyForm(student, applyForm);
+		allocateRepository.findLockerNameByStudentAndApplyForm(student, applyForm)
+			.ifPresent(lockerName -> {
+				allocateRepository.deleteByStudentAndApplyForm(student, applyForm);
+				lockerService.releaseLocker(applyForm, lockerName);
+			});
+	}
+
+	/**
+	 * 할당을 저장하고 바로 반영하여, 유니크 제약 위반을 할당 중복 예외로 바꿉니다.
+	 * - 같은 학생 또는 같은 사물함에 대한 동시 할당은 먼저 커밋된 할당만 남습니다.
+	 *
+	 * @param allocate 저장할 할당 엔티티
+	 * @throws AllocateDuplicatedException "ALLOCATE_DUPLICATED"
+	 */
+	private void saveAllocate(Allocate allocate) {
+		try {
+			allocateRepository.saveAndFlush(allocate);
+		} catch (DataIntegrityViolationException e) {
+			if (isAllocateViolation(e)) throw new AllocateDuplicatedException();
+			throw e;
 		}
 	}
 
+	static boolean isAllocateViolation(DataIntegrityViolationException e) {
+		return ConstraintViolations.isViolationOf(e, Allocate.UNIQUE_STUDENT_FORM)
+			|| ConstraintViolations.isViolationOf(e, Allocate.UNIQUE_LOCKER_FORM);
+	}
+
 	public AllocateReadDto getAllocateForm(String studentNumber) {
-		Student student = studentService.findStudentByStudentNumber(studentNumber);
+		StudentIdentity identity = studentService.findStudentByStudentNumber(studentNumber);
+		Student student = studentService.getStudentReference(identity);
 		ApplyForm applyForm = applyFormService.getActiveApplyForm();
 		Allocate allocate = allocateRepository.findByStudentAndApplyForm(student, applyForm)
 			.orElseThrow(AllocateNotFoundException::new);
 
-		return AllocateReadDto.fromEntity(student, allocate.getApply(), applyForm, allocate.getLocker());
+		return AllocateReadDto.of(identity, allocate.getApply(), applyForm, allocate.getLocker());
 	}
 }
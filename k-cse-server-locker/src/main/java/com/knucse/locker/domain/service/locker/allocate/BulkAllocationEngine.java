@@ -0,0 +1,278 @@
+package com.knucse.locker.domain.service.locker.allocate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.knucse.common.util.datetime.DateTimeUtil;
+import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
+import com.knucse.locker.api.locker.allocate.dto.AllocateResultReadDto;
+import com.knucse.locker.api.locker.apply.dto.ApplyReadDto;
+import com.knucse.locker.domain.exception.locker.LockerFullNotFoundException;
+import com.knucse.locker.domain.exception.locker.allocate.AllocateDuplicatedException;
+import com.knucse.locker.domain.exception.locker.apply.ApplyNotFoundException;
+import com.knucse.locker.domain.model.locker.Locker;
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.allocate.Allocate;
+import com.knucse.locker.domain.model.locker.apply.Apply;
+import com.knucse.locker.domain.model.locker.apply.ApplyChangedEvent;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.AllocateBulkRepository;
+import com.knucse.locker.domain.persistence.AllocateRepository;
+import com.knucse.locker.domain.persistence.ApplyRepository;
+import com.knucse.locker.domain.service.locker.LockerService;
+import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
+import com.knucse.locker.domain.service.locker.lottery.Lottery;
+import com.knucse.student.dues.model.DuesPaidStudents;
+import com.knucse.student.student.model.Student;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 신청 폼의 모든 미처리 신청을 한 번에 할당하는 엔진
+ * - 신청(학생, 학생회비 포함), 기존 할당, 사용 가능한 사물함을 각각 한 번씩만 조회합니다.
+ * - 순차 랜덤 할당(allocateAll)과 최소 비용 배정(allocateAllOptimal) 두 가지 방식을 제공합니다.
+ * - 신청 순서와 사물함 선택은 신청 폼의 추첨 시드로 결정되므로, 같은 시드와 같은 상태면 결과를 그대로 재현할 수 있습니다.
+ * - 전체 할당 결과를 메모리에서 계산한 뒤 배치 INSERT 와 한 번의 상태 UPDATE 로 저장합니다.
+ * - 호출하는 쪽의 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BulkAllocationEngine {
+	private static final int DUES_WEIGHT = 100;
+	private static final int PROGRESS_CHUNK_SIZE = 1000;
+
+	private final ApplyRepository applyRepository;
+	private final AllocateRepository allocateRepository;
+	private final AllocateBulkRepository allocateBulkRepository;
+	private final LockerService lockerService;
+	private final ApplyFormService applyFormService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 신청 폼의 모든 미처리 신청에 랜덤 사물함을 할당합니다.
+	 * - 가중치가 높은 신청부터 1지망, 2지망, 1지망 층, 전체 순으로 사물함을 선택합니다.
+	 *
+	 * @param applyForm 신청 폼 엔티티
+	 * @return 할당된 모든 사물함의 DTO 리스트 (할당 순서)
+	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
+	 * @throws LockerFullNotFoundException "LOCKER_FULL_NOT_FOUND"
+	 * @throws AllocateDuplicatedException "ALLOCATE_DUPLICATED"
+	 */
+	public List<AllocateReadDto> allocateAll(ApplyForm applyForm) {
+		return allocateAll(applyForm, AllocateProgressListener.NONE);
+	}
+
+	/**
+	 * 신청 폼의 모든 미처리 신청에 랜덤 사물함을 할당하며 진행 상황을 리스너에 전달합니다.
+	 *
+	 * @see #allocateAll(ApplyForm)
+	 */
+	public List<AllocateReadDto> allocateAll(ApplyForm applyForm, AllocateProgressListener listener) {
+		// 1. 미처리 신청을 조회하고 기존 할당을 삭제한 뒤 가중치 순으로 추첨한다.
+		SplittableRandom random = new SplittableRandom(getLotterySeed(applyForm));
+		List<Apply> pendingApplies = getPendingApplies(applyForm);
+		List<Apply> applies = draw(pendingApplies, getDuesPaidStudents(pendingApplies), random.split());
+		listener.onStart(applies.size());
+
+		// 2. 메모리의 가용성 인덱스에서 추첨 순서대로 사물함을 선택한다.
+		List<String> lockerNames = lockerService.getLockersByAppliesWithoutAllocate(
+			applies, applyForm, random.split()
+		);
+
+		// 3. 할당을 저장하고 DTO 를 생성한다.
+		return saveAllocates(applyForm, applies, lockerNames, listener);
+	}
+
+	/**
+	 * 신청 폼의 모든 미처리 신청에 대해 지망과 학생회비 납부 여부를 비용으로 하는 최소 비용 배정으로 사물함을 할당합니다.
+	 * - 사물함이 부족하면 예외 대신 일부 신청을 미처리 상태로 남기고, 그 개수를 결과에 포함합니다.
+	 *
+	 * @param applyForm 신청 폼 엔티티
+	 * @return 할당 결과 DTO (1지망/2지망 배정 수, 미배정 수 포함)
+	 * @throws AllocateDuplicatedException "ALLOCATE_DUPLICATED"
+	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
+	 */
+	public AllocateResultReadDto allocateAllOptimal(ApplyForm applyForm) {
+		return allocateAllOptimal(applyForm, AllocateProgressListener.NONE);
+	}
+
+	/**
+	 * 최소 비용 배정으로 사물함을 할당하며 진행 상황을 리스너에 전달합니다.
+	 *
+	 * @see #allocateAllOptimal(ApplyForm)
+	 */
+	public AllocateResultReadDto allocateAllOptimal(ApplyForm applyForm, AllocateProgressListener listener) {
+		// 1. 미처리 신청을 조회하고 기존 할당을 삭제한 뒤 가중치 순으로 추첨한다. (같은 그룹 안의 배정 순서)
+		SplittableRandom random = new SplittableRandom(getLotterySeed(applyForm));
+		List<Apply> pendingApplies = getPendingApplies(applyForm);
+		DuesPaidStudents duesPaidStudents = getDuesPaidStudents(pendingApplies);
+		List<Apply> applies = draw(pendingApplies, duesPaidStudents, random.split());
+		listener.onStart(applies.size());
+
+		// 2. 모든 신청과 사용 가능한 사물함에 대한 최소 비용 배정을 계산한다.
+		List<String> lockerNames = lockerService.getOptimalLockersByAppliesWithoutAllocate(
+			applies, applyForm, apply -> weightOf(apply, duesPaidStudents) > 0, random.split()
+		);
+
+		// 3. 배정된 신청만 골라 할당을 저장한다.
+		List<Apply> assignedApplies = new ArrayList<>(applies.size());
+		List<String> assignedLockerNames = new ArrayList<>(applies.size());
+		for (int i = 0; i < applies.size(); i++) {
+			if (lockerNames.get(i) == null) continue;
+			assignedApplies.add(applies.get(i));
+			assignedLockerNames.add(lockerNames.get(i));
+		}
+		listener.onFailed(applies.size() - assignedApplies.size());
+		List<AllocateReadDto> allocateReadDtos = saveAllocates(applyForm, assignedApplies, assignedLockerNames, listener);
+
+		// 4. 1지망, 2지망 배정 수를 집계한다.
+		int firstChoiceCount = 0;
+		int secondChoiceCount = 0;
+		for (AllocateReadDto allocateReadDto : allocateReadDtos) {
+			ApplyReadDto apply = allocateReadDto.apply();
+			if (isChoice(apply.firstFloor(), apply.firstHeight(), allocateReadDto)) firstChoiceCount++;
+			else if (isChoice(apply.secondFloor(), apply.secondHeight(), allocateReadDto)) secondChoiceCount++;
+		}
+
+		return AllocateResultReadDto.builder()
+			.applyCount(applies.size())
+			.allocatedCount(allocateReadDtos.size())
+			.firstChoiceCount(firstChoiceCount)
+			.secondChoiceCount(secondChoiceCount)
+			.unassignedCount(applies.size() - allocateReadDtos.size())
+			.allocates(allocateReadDtos)
+			.build();
+	}
+
+	/**
+	 * 미처리 신청을 학생과 함께 한 번에 조회하고, 신청자들의 기존 할당을 삭제합니다.
+	 */
+	private List<Apply> getPendingApplies(ApplyForm applyForm) {
+		List<Apply> applies = new ArrayList<>(
+			applyRepository.findAllWithDuesByApplyFormAndStatus(applyForm, ApplyStatus.APPLY)
+		);
+		if (applies.isEmpty()) throw new ApplyNotFoundException();
+
+		List<Student> students = applies.stream().map(Apply::getStudent).toList();
+		removeExistingAllocates(applyForm, students);
+		return applies;
+	}
+
+	/**
+	 * 신청과 사물함 이름 목록으로 할당을 배치 INSERT 로 저장하고, 신청 상태를 한 번의 UPDATE 로 승인 처리합니다.
+	 */
+	private List<AllocateReadDto> saveAllocates(
+		ApplyForm applyForm, List<Apply> applies, List<String> lockerNames, AllocateProgressListener listener
+	) {
+		if (applies.isEmpty()) return List.of();
+		Map<String, Locker> lockers = lockerService.getLockersByLockerNames(lockerNames);
+
+		List<Allocate> allocates = new ArrayList<>(applies.size());
+		for (int i = 0; i < applies.size(); i++) {
+			Apply apply = applies.get(i);
+			allocates.add(Allocate.builder()
+				.applyForm(applyForm)
+				.student(apply.getStudent())
+				.locker(lockers.get(lockerNames.get(i)))
+				.apply(apply)
+				.build());
+		}
+		try {
+			for (int from = 0; from < allocates.size(); from += PROGRESS_CHUNK_SIZE) {
+				List<Allocate> chunk = allocates.subList(from, Math.min(allocates.size(), from + PROGRESS_CHUNK_SIZE));
+				allocateBulkRepository.insertAll(chunk);
+				listener.onAllocated(chunk.size());
+			}
+		} catch (DataIntegrityViolationException e) {
+			// 일괄 할당 도중 다른 요청이 같은 학생이나 사물함을 할당한 경우
+			if (AllocateService.isAllocateViolation(e)) throw new AllocateDuplicatedException();
+			throw e;
+		}
+
+		// 영속성 컨텍스트는 비워지므로 이후에는 준영속 상태의 신청을 사용한다.
+		List<Long> applyIds = applies.stream().map(Apply::getId).toList();
+		applyRepository.updateStatusByIdIn(applyIds, ApplyStatus.APPROVE, DateTimeUtil.now());
+
+		log.info("Bulk allocated {} lockers for apply form {}", allocates.size(), applyForm.getId());
+
+		List<AllocateReadDto> allocateReadDtos = new ArrayList<>(allocates.size());
+		for (Allocate allocate : allocates) {
+			Apply apply = allocate.getApply();
+			ApplyChangedEvent.Snapshot before = ApplyChangedEvent.Snapshot.of(apply);
+			apply.updateStatus(ApplyStatus.APPROVE);
+			eventPublisher.publishEvent(ApplyChangedEvent.changed(before, apply));
+			allocateReadDtos.add(
+				AllocateReadDto.fromEntity(allocate.getStudent(), apply, applyForm, allocate.getLocker())
+			);
+		}
+		return allocateReadDtos;
+	}
+
+	private void removeExistingAllocates(ApplyForm applyForm, List<Student> students) {
+		List<String> allocatedLockerNames = allocateRepository.findLockerNamesByApplyFormAndStudentIn(applyForm, students);
+		if (allocatedLockerNames.isEmpty()) return;
+
+		allocateRepository.deleteAllByApplyFormAndStudentIn(applyForm, students);
+		allocatedLockerNames.forEach(lockerName -> lockerService.releaseLocker(applyForm, lockerName));
+	}
+
+	private static boolean isChoice(LockerFloor floor, ApplyHeight height, AllocateReadDto allocate) {
+		return allocate.floor() == floor && height.getLockerHeight(floor).contains(allocate.height());
+	}
+
+	/**
+	 * 신청자들의 학생회비 납부 여부를 모읍니다.
+	 * - 학생회비는 신청 조회 시 학생과 함께 조회되므로(findAllWithDuesByApplyFormAndStatus) 추가 조회 없이 확인합니다.
+	 */
+	private static DuesPaidStudents getDuesPaidStudents(List<Apply> applies) {
+		long[] paidStudentIds = applies.stream()
+			.map(Apply::getStudent)
+			.filter(student -> student.getDues() != null && student.getDues().isDues())
+			.mapToLong(Student::getId)
+			.toArray();
+		return DuesPaidStudents.of(paidStudentIds);
+	}
+
+	/**
+	 * 신청 폼의 추첨 시드를 반환하고, 처음 추첨하는 신청 폼이면 추첨 완료로 표시합니다. (이후 시드 변경 불가)
+	 */
+	private long getLotterySeed(ApplyForm applyForm) {
+		long lotterySeed = applyForm.isLotteryDrawn() && applyForm.getLotterySeed() != null
+			? applyForm.getLotterySeed()
+			: applyFormService.drawLottery(applyForm.getId());
+		log.info("Drawing lottery for apply form {} with seed {}", applyForm.getId(), lotterySeed);
+		return lotterySeed;
+	}
+
+	/**
+	 * 가중치가 높은 순으로, 같은 가중치 안에서는 시드 기반 추첨 순으로 정렬합니다.
+	 */
+	private static List<Apply> draw(List<Apply> applies, DuesPaidStudents duesPaidStudents, SplittableRandom random) {
+		return Lottery.draw(
+			applies, Apply::getId, apply -> weightOf(apply, duesPaidStudents), apply -> 1.0, random
+		);
+	}
+
+	private static int weightOf(Apply apply, DuesPaidStudents duesPaidStudents) {
+		int weight = 0;
+
+		// 회비 납부 여부에 따른 가중치 부여
+		if (duesPaidStudents.contains(apply.getStudent().getId())) {
+			weight += DUES_WEIGHT;
+		}
+
+		// todo: 추가적인 가중치 부여 로직
+
+		return weight;
+	}
+}
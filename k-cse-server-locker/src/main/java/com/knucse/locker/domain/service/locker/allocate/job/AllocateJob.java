@@ -0,0 +1,105 @@
+package com.knucse.locker.domain.service.locker.allocate.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.knucse.common.util.datetime.DateTimeUtil;
+import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
+import com.knucse.locker.domain.service.locker.allocate.AllocateProgressListener;
+
+import lombok.Getter;
+
+/**
+ * 백그라운드에서 실행되는 일괄 할당 작업
+ * - 진행 상황은 할당 스레드가 갱신하고 조회 요청 스레드가 읽으므로 원자 변수와 volatile 필드로 관리합니다.
+ * - 할당은 한 트랜잭션으로 저장되므로, 실행 중에는 저장한(커밋 전) 수를 written 으로 세고
+ *   allocated 는 커밋된 뒤 작업이 완료될 때 반영합니다.
+ */
+@Getter
+public class AllocateJob implements AllocateProgressListener {
+	private final String jobId = UUID.randomUUID().toString();
+	private final Long applyFormId;
+	private final AllocateJobMode mode;
+	private final LocalDateTime createdAt = DateTimeUtil.now();
+
+	private volatile AllocateJobStatus status = AllocateJobStatus.PENDING;
+	private volatile LocalDateTime startedAt;
+	private volatile LocalDateTime finishedAt;
+	private volatile String errorCode;
+	private volatile List<AllocateReadDto> result = List.of();
+
+	private final AtomicInteger total = new AtomicInteger();
+	private final AtomicInteger written = new AtomicInteger();
+	private final AtomicInteger allocated = new AtomicInteger();
+	private final AtomicInteger failed = new AtomicInteger();
+
+	AllocateJob(Long applyFormId, AllocateJobMode mode) {
+		this.applyFormId = applyFormId;
+		this.mode = mode;
+	}
+
+	@Override
+	public void onStart(int total) {
+		this.total.set(total);
+	}
+
+	@Override
+	public void onAllocated(int count) {
+		written.addAndGet(count);
+	}
+
+	@Override
+	public void onFailed(int count) {
+		failed.addAndGet(count);
+	}
+
+	/**
+	 * 처리한 신청 수 (커밋 전 저장분과 미배정 포함, 진행률과 남은 시간 계산용)
+	 */
+	public int getProcessed() {
+		return written.get() + failed.get();
+	}
+
+	public boolean isFinished() {
+		return status == AllocateJobStatus.COMPLETED || status == AllocateJobStatus.FAILED;
+	}
+
+	/**
+	 * 지금까지의 처리 속도로 계산한 남은 시간(초)을 반환합니다.
+	 *
+	 * @return 남은 시간(초), 실행 중이 아니거나 아직 처리된 신청이 없으면 null
+	 */
+	public Long getEtaSeconds() {
+		int processed = getProcessed();
+		if (status != AllocateJobStatus.RUNNING || processed == 0) return null;
+
+		long elapsedMillis = Duration.between(startedAt, DateTimeUtil.now()).toMillis();
+		long remaining = Math.max(0, total.get() - processed);
+		return elapsedMillis * remaining / processed / 1000;
+	}
+
+	void start() {
+		startedAt = DateTimeUtil.now();
+		status = AllocateJobStatus.RUNNING;
+	}
+
+	void complete(List<AllocateReadDto> result) {
+		this.result = List.copyOf(result);
+		allocated.set(result.size());
+		finishedAt = DateTimeUtil.now();
+		status = AllocateJobStatus.COMPLETED;
+	}
+
+	void fail(String errorCode) {
+		/* 트랜잭션이 롤백되었으므로 저장된 할당은 없음 */
+		failed.set(total.get());
+		written.set(0);
+		allocated.set(0);
+		this.errorCode = errorCode;
+		finishedAt = DateTimeUtil.now();
+		status = AllocateJobStatus.FAILED;
+	}
+}
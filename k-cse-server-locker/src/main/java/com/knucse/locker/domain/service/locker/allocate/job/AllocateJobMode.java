@@ -0,0 +1,8 @@
+package com.knucse.locker.domain.service.locker.allocate.job;
+
+public enum AllocateJobMode {
+	/* 가중치 순 랜덤 할당 (사물함이 부족하면 전체 실패) */
+	RANDOM,
+	/* 최소 비용 배정 (사물함이 부족하면 일부 미배정) */
+	OPTIMAL
+}
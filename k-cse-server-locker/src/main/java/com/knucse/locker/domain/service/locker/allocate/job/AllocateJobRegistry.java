@@ -0,0 +1,75 @@
+package com.knucse.locker.domain.service.locker.allocate.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.knucse.common.util.datetime.DateTimeUtil;
+import com.knucse.locker.domain.exception.locker.allocate.AllocateJobDuplicatedException;
+
+/**
+ * 일괄 할당 작업 저장소 (메모리)
+ * - 한 신청 폼에는 백그라운드 작업과 동기 일괄 할당을 합쳐 동시에 하나만 실행할 수 있습니다.
+ * - 끝난 작업은 보관 기간이 지나면 다음 등록/조회 시 제거됩니다.
+ */
+@Component
+public class AllocateJobRegistry {
+	private static final Duration RETENTION = Duration.ofHours(6);
+
+	private final Map<String, AllocateJob> jobs = new ConcurrentHashMap<>();
+	/* 동기 일괄 할당이 실행 중인 신청 폼 (this 로 보호) */
+	private final Set<Long> synchronousRuns = new HashSet<>();
+
+	/**
+	 * 작업을 등록합니다.
+	 *
+	 * @throws AllocateJobDuplicatedException "ALLOCATE_JOB_DUPLICATED"
+	 */
+	public synchronized void register(AllocateJob job) {
+		evictExpired();
+		if (isRunning(job.getApplyFormId())) throw new AllocateJobDuplicatedException();
+
+		jobs.put(job.getJobId(), job);
+	}
+
+	/**
+	 * 동기 일괄 할당의 실행을 등록합니다. 끝나면 반드시 {@link #release(Long)} 를 호출해야 합니다.
+	 *
+	 * @throws AllocateJobDuplicatedException "ALLOCATE_JOB_DUPLICATED"
+	 */
+	public synchronized void acquire(Long applyFormId) {
+		evictExpired();
+		if (isRunning(applyFormId)) throw new AllocateJobDuplicatedException();
+
+		synchronousRuns.add(applyFormId);
+	}
+
+	public synchronized void release(Long applyFormId) {
+		synchronousRuns.remove(applyFormId);
+	}
+
+	public Optional<AllocateJob> find(String jobId) {
+		evictExpired();
+		return Optional.ofNullable(jobs.get(jobId));
+	}
+
+	public void remove(AllocateJob job) {
+		jobs.remove(job.getJobId());
+	}
+
+	private boolean isRunning(Long applyFormId) {
+		return synchronousRuns.contains(applyFormId) || jobs.values().stream()
+			.anyMatch(registered -> !registered.isFinished() && registered.getApplyFormId().equals(applyFormId));
+	}
+
+	private void evictExpired() {
+		LocalDateTime threshold = DateTimeUtil.now().minus(RETENTION);
+		jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+	}
+}
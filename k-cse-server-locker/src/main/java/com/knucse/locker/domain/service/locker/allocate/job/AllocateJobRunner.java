@@ -0,0 +1,47 @@
+package com.knucse.locker.domain.service.locker.allocate.job;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.knucse.common.exception.support.custom._CustomException;
+import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
+import com.knucse.locker.config.AsyncConfig;
+import com.knucse.locker.domain.service.locker.allocate.AllocateService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 일괄 할당 작업을 백그라운드 실행기에서 실행합니다.
+ * - @Async 프록시가 적용되도록 작업 서비스와 별도의 빈으로 분리합니다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AllocateJobRunner {
+	private final AllocateService allocateService;
+
+	@Async(AsyncConfig.ALLOCATE_JOB_EXECUTOR)
+	public void run(AllocateJob job) {
+		job.start();
+		log.info("Allocate job {} started (mode: {}, apply form: {})", job.getJobId(), job.getMode(), job.getApplyFormId());
+
+		try {
+			List<AllocateReadDto> result = switch (job.getMode()) {
+				case RANDOM -> allocateService.allocateAllLockers(job);
+				case OPTIMAL -> allocateService.allocateAllLockersOptimal(job).allocates();
+			};
+			job.complete(result);
+			log.info("Allocate job {} completed ({} allocated, {} failed)",
+				job.getJobId(), job.getAllocated().get(), job.getFailed().get());
+		} catch (_CustomException e) {
+			job.fail(e.getErrorCode());
+			log.info("Allocate job {} failed: {}", job.getJobId(), e.getErrorCode());
+		} catch (RuntimeException e) {
+			job.fail("INTERNAL_SERVER_ERROR");
+			log.error("Allocate job {} failed", job.getJobId(), e);
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.knucse.locker.domain.service.locker.allocate.job;
+
+import java.util.List;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import com.knucse.locker.api.locker.allocate.dto.AllocateJobReadDto;
+import com.knucse.locker.api.locker.allocate.dto.AllocateJobResultReadDto;
+import com.knucse.locker.api.locker.allocate.dto.AllocateReadDto;
+import com.knucse.locker.api.locker.allocate.dto.AllocateResultReadDto;
+import com.knucse.locker.domain.exception.locker.LockerFullNotFoundException;
+import com.knucse.locker.domain.exception.locker.allocate.AllocateJobDuplicatedException;
+import com.knucse.locker.domain.exception.locker.allocate.AllocateJobNotCompletedException;
+import com.knucse.locker.domain.exception.locker.allocate.AllocateJobNotFoundException;
+import com.knucse.locker.domain.exception.locker.allocate.AllocateJobRejectedException;
+import com.knucse.locker.domain.exception.locker.apply.ApplyNotFoundException;
+import com.knucse.locker.domain.exception.locker.applyForm.ApplyFormNotFoundException;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.service.locker.allocate.AllocateService;
+import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class AllocateJobService {
+	private static final int MAX_PAGE_SIZE = 500;
+
+	private final AllocateJobRegistry allocateJobRegistry;
+	private final AllocateJobRunner allocateJobRunner;
+	private final AllocateService allocateService;
+	private final ApplyFormService applyFormService;
+
+	/**
+	 * 현재 활성화된 신청 폼의 모든 신청에 랜덤 사물함을 바로 할당합니다.
+	 * - 같은 신청 폼의 할당 작업이나 다른 일괄 할당이 실행 중이면 거절합니다.
+	 *
+	 * @return 할당된 모든 사물함의 DTO 리스트
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 * @throws AllocateJobDuplicatedException "ALLOCATE_JOB_DUPLICATED"
+	 * @throws LockerFullNotFoundException "LOCKER_FULL_NOT_FOUND"
+	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
+	 */
+	public List<AllocateReadDto> allocateAllLockers() {
+		Long applyFormId = applyFormService.getActiveApplyForm().getId();
+		allocateJobRegistry.acquire(applyFormId);
+		try {
+			return allocateService.allocateAllLockers();
+		} finally {
+			allocateJobRegistry.release(applyFormId);
+		}
+	}
+
+	/**
+	 * 현재 활성화된 신청 폼의 모든 신청에 최소 비용 배정으로 사물함을 바로 할당합니다.
+	 * - 같은 신청 폼의 할당 작업이나 다른 일괄 할당이 실행 중이면 거절합니다.
+	 *
+	 * @return 할당 결과 DTO
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 * @throws AllocateJobDuplicatedException "ALLOCATE_JOB_DUPLICATED"
+	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
+	 */
+	public AllocateResultReadDto allocateAllLockersOptimal() {
+		Long applyFormId = applyFormService.getActiveApplyForm().getId();
+		allocateJobRegistry.acquire(applyFormId);
+		try {
+			return allocateService.allocateAllLockersOptimal();
+		} finally {
+			allocateJobRegistry.release(applyFormId);
+		}
+	}
+
+	/**
+	 * 현재 활성화된 신청 폼에 대한 일괄 할당 작업을 등록하고 백그라운드에서 실행합니다.
+	 *
+	 * @param mode 할당 방식
+	 * @return 등록된 작업 DTO
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 * @throws AllocateJobDuplicatedException "ALLOCATE_JOB_DUPLICATED"
+	 * @throws AllocateJobRejectedException "ALLOCATE_JOB_REJECTED"
+	 */
+	public AllocateJobReadDto submitAllocateAllJob(AllocateJobMode mode) {
+		ApplyForm applyForm = applyFormService.getActiveApplyForm();
+
+		AllocateJob job = new AllocateJob(applyForm.getId(), mode);
+		allocateJobRegistry.register(job);
+
+		try {
+			allocateJobRunner.run(job);
+		} catch (TaskRejectedException e) {
+			allocateJobRegistry.remove(job);
+			throw new AllocateJobRejectedException();
+		}
+		return AllocateJobReadDto.fromJob(job);
+	}
+
+	/**
+	 * 작업의 진행 상황을 조회합니다.
+	 *
+	 * @param jobId 작업 ID
+	 * @return 작업 DTO
+	 * @throws AllocateJobNotFoundException "ALLOCATE_JOB_NOT_FOUND"
+	 */
+	public AllocateJobReadDto getAllocateJob(String jobId) {
+		return AllocateJobReadDto.fromJob(findJob(jobId));
+	}
+
+	/**
+	 * 완료된 작업의 할당 결과를 페이지 단위로 조회합니다.
+	 *
+	 * @param jobId 작업 ID
+	 * @param page 페이지 번호 (0부터 시작)
+	 * @param size 페이지 크기 (최대 500)
+	 * @return 할당 결과 페이지 DTO
+	 * @throws AllocateJobNotFoundException "ALLOCATE_JOB_NOT_FOUND"
+	 * @throws AllocateJobNotCompletedException "ALLOCATE_JOB_NOT_COMPLETED"
+	 */
+	public AllocateJobResultReadDto getAllocateJobResult(String jobId, int page, int size) {
+		AllocateJob job = findJob(jobId);
+		if (job.getStatus() != AllocateJobStatus.COMPLETED) throw new AllocateJobNotCompletedException();
+
+		int pageNumber = Math.max(0, page);
+		int pageSize = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+
+		List<AllocateReadDto> result = job.getResult();
+		int from = (int) Math.min((long) pageNumber * pageSize, result.size());
+		int to = Math.min(from + pageSize, result.size());
+
+		return AllocateJobResultReadDto.builder()
+			.jobId(jobId)
+			.page(pageNumber)
+			.size(pageSize)
+			.totalElements(result.size())
+			.totalPages((result.size() + pageSize - 1) / pageSize)
+			.allocates(result.subList(from, to))
+			.build();
+	}
+
+	private AllocateJob findJob(String jobId) {
+		return allocateJobRegistry.find(jobId)
+			.orElseThrow(AllocateJobNotFoundException::new);
+	}
+}
@@ -0,0 +1,5 @@
+package com.knucse.locker.domain.service.locker.allocate.job;
+
+public enum AllocateJobStatus {
+	PENDING, RUNNING, COMPLETED, FAILED
+}
@@ -2,49 +2,67 @@ package com.knucse.locker.domain.service.locker.apply;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.knucse.common.util.datetime.DateTimeUtil;
 import com.knucse.locker.api.locker.apply.dto.ApplyCreateDto;
+import com.knucse.locker.api.locker.apply.dto.ApplyPageReadDto;
 import com.knucse.locker.api.locker.apply.dto.ApplyReadDto;
 import com.knucse.locker.api.locker.apply.dto.ApplyReportCreateDto;
 import com.knucse.locker.api.locker.apply.dto.ApplyReportReadDto;
+import com.knucse.locker.api.locker.apply.dto.ApplySearchDto;
 import com.knucse.locker.api.locker.apply.dto.ApplyUpdateDto;
 import com.knucse.locker.api.locker.apply.dto.ReportStatusUpdateDto;
 import com.knucse.locker.domain.exception.locker.allocate.AllocateNotFoundException;
 import com.knucse.locker.domain.exception.locker.allocate.AlreadyAllocatedException;
 import com.knucse.locker.domain.exception.locker.apply.ApplyDuplicatedException;
 import com.knucse.locker.domain.exception.locker.apply.ApplyNotFoundException;
+import com.knucse.locker.domain.exception.locker.apply.ApplyPipelineRejectedException;
+import com.knucse.locker.domain.exception.locker.apply.ApplyPipelineTimeoutException;
 import com.knucse.locker.domain.exception.locker.applyForm.ApplyFormNotFoundException;
 import com.knucse.locker.domain.exception.locker.report.ReportNotFoundException;
 import com.knucse.student._exception.StudentNotFoundException;
 import com.knucse.locker.domain.model.locker.apply.Apply;
+import com.knucse.locker.domain.model.locker.apply.ApplyChangedEvent;
 import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
 import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
 import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
 import com.knucse.locker.domain.model.locker.report.Report;
 import com.knucse.student.student.model.Student;
+import com.knucse.student.student.model.StudentIdentity;
 import com.knucse.locker.domain.persistence.AllocateRepository;
+import com.knucse.locker.domain.persistence.ApplyQueryRepository;
 import com.knucse.locker.domain.persistence.ApplyRepository;
+import com.knucse.locker.domain.persistence.ApplySearchCondition;
+import com.knucse.locker.domain.persistence.ConstraintViolations;
+import com.knucse.locker.domain.persistence.projection.ApplyRow;
 import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
 import com.knucse.locker.domain.service.locker.report.ReportService;
 import com.knucse.student.student.service.StudentService;
 
+import io.micrometer.core.annotation.Timed;
 import knu.univ.cse.server.core.domain.exception.locker.apply.InvalidApplyPeriodException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 @Service
+@Timed(value = "service.method", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ApplyService {
 	/* Internal Dependencies */
 	private final ApplyRepository applyRepository;
+	private final ApplyQueryRepository applyQueryRepository;
+	private final ApplyWritePipeline applyWritePipeline;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/* External Dependencies */
 	private final AllocateRepository allocateRepository;
@@ -60,10 +78,13 @@ public class ApplyService {
 	 * @throws ApplyDuplicatedException "APPLY_DUPLICATED"
 	 * @throws InvalidApplyPeriodException "INVALID_APPLY_PERIOD"
 	 * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
+	 * @throws AlreadyAllocatedException "ALREADY_ALLOCATED"
+	 * @throws ApplyPipelineRejectedException "APPLY_PIPELINE_REJECTED"
+	 * @throws ApplyPipelineTimeoutException "APPLY_PIPELINE_TIMEOUT"
 	 */
-	@Transactional(isolation = Isolation.REPEATABLE_READ)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public ApplyReadDto handlePrimaryApply(ApplyCreateDto createDto) {
-		return processApplication(createDto, ApplyPeriod.PRIMARY, ApplyStatus.APPLY);
+		return submitApplication(createDto, ApplyPeriod.PRIMARY);
 	}
 
 	/**
@@ -74,10 +95,13 @@ public class ApplyService {
 	 * @throws ApplyDuplicatedException "APPLY_DUPLICATED"
 	 * @throws InvalidApplyPeriodException "INVALID_APPLY_PERIOD"
 	 * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
+	 * @throws AlreadyAllocatedException "ALREADY_ALLOCATED"
+	 * @throws ApplyPipelineRejectedException "APPLY_PIPELINE_REJECTED"
+	 * @throws ApplyPipelineTimeoutException "APPLY_PIPELINE_TIMEOUT"
 	 */
-	@Transactional(isolation = Isolation.REPEATABLE_READ)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public ApplyReadDto handleAdditionalApply(ApplyCreateDto createDto) {
-		return processApplication(createDto, ApplyPeriod.ADDITIONAL, ApplyStatus.APPLY);
+		return submitApplication(createDto, ApplyPeriod.ADDITIONAL);
 	}
 
 	/**
@@ -90,18 +114,41 @@ public class ApplyService {
 	 * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
 	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
 	 */
-	@Transactional(isolation = Isolation.REPEATABLE_READ)
+	@Transactional
 	public ApplyReportReadDto handleReplacementApply(ApplyReportCreateDto createDto) {
 		ApplyReadDto applyReadDto = processApplication(createDto.apply(), ApplyPeriod.REPLACEMENT, ApplyStatus.BROKEN_APPLY);
 		Report report = attachReport(createDto.content(), applyReadDto.applyId());
 		return ApplyReportReadDto.of(applyReadDto, report);
 	}
 
+	/**
+	 * 신청을 검증한 뒤 묶음 저장기로 저장합니다.
+	 * - 요청 스레드가 결과를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 호출합니다.
+	 *
+	 * @param createDto 신청 생성 DTO
+	 * @param period 신청 기간 (1차 또는 추가 신청)
+	 * @return 생성된 신청을 나타내는 DTO
+	 * @throws ApplyDuplicatedException "APPLY_DUPLICATED"
+	 * @throws InvalidApplyPeriodException "INVALID_APPLY_PERIOD"
+	 * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
+	 * @throws AlreadyAllocatedException "ALREADY_ALLOCATED"
+	 */
+	private ApplyReadDto submitApplication(ApplyCreateDto createDto, ApplyPeriod period) {
+		ApplyForm activeApplyForm = applyFormService.getActiveApplyForm();
+		validateApplicationPeriod(activeApplyForm, period);
+
+		StudentIdentity identity = retrieveStudent(createDto);
+		Student student = studentService.getStudentReference(identity);
+		return applyWritePipeline.write(createDto.toEntity(student, period, activeApplyForm), identity);
+	}
+
 	/**
 	 * 신청을 처리합니다.
+	 * - 처리되지 않은 신청이 이미 있으면 중복 신청입니다. 동시에 들어온 신청은 저장 시 유니크 제약 위반으로 판별합니다.
 	 *
 	 * @param createDto 신청 생성 DTO
 	 * @param period 신청 기간
+	 * @param applyStatus 중복을 확인할 처리되지 않은 신청 상태 (교체 신청은 BROKEN_APPLY)
 	 * @return 생성된 신청을 나타내는 DTO
 	 * @throws ApplyDuplicatedException "APPLY_DUPLICATED"
 	 * @throws InvalidApplyPeriodException "INVALID_APPLY_PERIOD"
@@ -113,20 +160,40 @@ public class ApplyService {
 		ApplyForm activeApplyForm = applyFormService.getActiveApplyForm();
 		validateApplicationPeriod(activeApplyForm, period);
 
-		Student student = retrieveStudent(createDto);
-		if (existsApplyByStatus(student, activeApplyForm, applyStatus)) {
+		StudentIdentity identity = retrieveStudent(createDto);
+		Student student = studentService.getStudentReference(identity);
+		if (applyRepository.existsByStudentAndApplyFormAndStatus(student, activeApplyForm, applyStatus)) {
 			throw new ApplyDuplicatedException();
 		}
-
 		if (period == ApplyPeriod.REPLACEMENT && !allocateRepository.existsByStudentAndApplyForm(student, activeApplyForm)) {
 			throw new AllocateNotFoundException();
 		} else if (period != ApplyPeriod.REPLACEMENT && allocateRepository.existsByStudentAndApplyForm(student, activeApplyForm)) {
 			throw new AlreadyAllocatedException();
 		}
 
-		Apply apply = applyRepository.save(createDto.toEntity(student, period, activeApplyForm));
+		Apply apply = saveApply(createDto.toEntity(student, period, activeApplyForm));
+		eventPublisher.publishEvent(ApplyChangedEvent.created(apply));
 
-		return ApplyReadDto.fromEntity(apply, student);
+		return ApplyReadDto.of(apply, identity);
+	}
+
+	/**
+	 * 신청을 저장하고 바로 반영하여, 유니크 제약 위반을 중복 신청 예외로 바꿉니다.
+	 *
+	 * @param apply 저장할 신청 엔티티
+	 * @return 저장된 신청 엔티티
+	 * @throws ApplyDuplicatedException "APPLY_DUPLICATED"
+	 */
+	private Apply saveApply(Apply apply) {
+		try {
+			return applyRepository.saveAndFlush(apply);
+		} catch (DataIntegrityViolationException e) {
+			if (ConstraintViolations.isViolationOf(e, Apply.UNIQUE_PENDING_STUDENT_FORM)
+				|| ConstraintViolations.isViolationOf(e, Apply.UNIQUE_BROKEN_STUDENT_FORM)) {
+				throw new ApplyDuplicatedException();
+			}
+			throw e;
+		}
 	}
 
 	/**
@@ -161,10 +228,10 @@ public class ApplyService {
 	 * 신청 생성 DTO를 기반으로 학생을 조회합니다.
 	 *
 	 * @param createDto 신청 생성 DTO
-	 * @return 조회된 학생 엔티티
+	 * @return 조회된 학생 식별 정보
 	 * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
 	 */
-	private Student retrieveStudent(ApplyCreateDto createDto) {
+	private StudentIdentity retrieveStudent(ApplyCreateDto createDto) {
 		return studentService.findStudentByNameAndNumber(
 			createDto.studentName(),
 			createDto.studentNumber()
@@ -180,10 +247,10 @@ public class ApplyService {
 	 * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
 	 */
 	public ApplyReadDto getApplyByStudentNumber(String studentNumber) {
-		Student student = studentService.findStudentByStudentNumber(studentNumber);
-		Apply apply = applyRepository.findByStudent(student)
+		StudentIdentity identity = studentService.findStudentByStudentNumber(studentNumber);
+		Apply apply = applyRepository.findByStudent(studentService.getStudentReference(identity))
 			.orElseThrow(ApplyNotFoundException::new);
-		return ApplyReadDto.fromEntity(apply, student);
+		return ApplyReadDto.of(apply, identity);
 	}
 
 	/**
@@ -194,8 +261,10 @@ public class ApplyService {
 	 */
 	@Transactional
 	public void updateApplyStatus(Apply apply, ApplyStatus status) {
+		ApplyChangedEvent.Snapshot before = ApplyChangedEvent.Snapshot.of(apply);
 		apply.updateStatus(status);
 		applyRepository.save(apply);
+		eventPublisher.publishEvent(ApplyChangedEvent.changed(before, apply));
 	}
 
 	/**
@@ -208,9 +277,6 @@ public class ApplyService {
 	 * @throws ApplyDuplicatedException "APPLY_DUPLICATED"
 	 */
 	public Apply getApplyByStudentNumberAndApplyFormWhenStatusIsApply(Student student, ApplyForm applyForm) {
-		if (!existsApplyByStatus(student, applyForm, ApplyStatus.APPLY))
-			throw new ApplyNotFoundException();
-
 		return applyRepository.findByStudentAndApplyFormAndStatus(student, applyForm, ApplyStatus.APPLY)
 			.orElseThrow(ApplyNotFoundException::new);
 	}
@@ -230,64 +296,76 @@ public class ApplyService {
 	}
 
 	/**
-	 * 특정 학생과 신청 폼에 대한 APPLY 상태의 신청이 있는지 확인합니다.
+	 * 특정 년도와 학기에 해당하는 신청을 페이지 단위로 조회합니다.
 	 *
-	 * @param student 학생 엔티티
-	 * @param applyForm 신청 폼 엔티티
-	 * @return APPLY 상태의 신청 수
+	 * @param year 년도
+	 * @param semester 학기
+	 * @param search 커서, 페이지 크기와 조회 조건
+	 * @return 조회된 신청 페이지
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
 	 */
-	private boolean existsApplyByStatus(Student student, ApplyForm applyForm, ApplyStatus applyStatus) {
-		return applyRepository.existsByStudentAndApplyFormAndStatus(student, applyForm, applyStatus);
-	}
-
-	public List<ApplyReadDto> getAppliesByYearAndSemester(Integer year, Integer semester) {
+	public ApplyPageReadDto getAppliesByYearAndSemester(Integer year, Integer semester, ApplySearchDto search) {
 		ApplyForm applyForm = applyFormService.getApplyFormByYearAndSemester(year, semester);
-		return getApplies(applyForm);
+		return getApplies(applyForm, search, search.toCondition());
 	}
 
-	public List<ApplyReadDto> getAppliesNow() {
+	/**
+	 * 현재 활성화된 신청 폼의 신청을 페이지 단위로 조회합니다.
+	 *
+	 * @param search 커서, 페이지 크기와 조회 조건
+	 * @return 조회된 신청 페이지
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 */
+	public ApplyPageReadDto getAppliesNow(ApplySearchDto search) {
 		ApplyForm applyForm = applyFormService.getActiveApplyForm();
-		return getApplies(applyForm);
-	}
-
-	private List<ApplyReadDto> getApplies(ApplyForm applyForm) {
-		List<Apply> applies = applyRepository.findAllByApplyForm(applyForm);
-		return applies.stream()
-			.map(apply -> ApplyReadDto.fromEntity(apply, apply.getStudent()))
-			.collect(Collectors.toList());
+		return getApplies(applyForm, search, search.toCondition());
 	}
 
 	/**
-	 * 특정 년도와 학기, 상태에 해당하는 신청을 조회합니다.
+	 * 특정 년도와 학기, 상태에 해당하는 신청을 페이지 단위로 조회합니다.
 	 *
 	 * @param year 년도
 	 * @param semester 학기
-	 * @param status 신청 상태
-	 * @return 조회된 신청 리스트
+	 * @param status 신청 상태 (조회 조건의 상태보다 우선합니다)
+	 * @param search 커서, 페이지 크기와 조회 조건
+	 * @return 조회된 신청 페이지
 	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
 	 */
-	public List<ApplyReadDto> getAppliesByYearSemesterAndStatus(Integer year, Integer semester, ApplyStatus status) {
+	public ApplyPageReadDto getAppliesByYearSemesterAndStatus(
+		Integer year, Integer semester, ApplyStatus status, ApplySearchDto search
+	) {
 		ApplyForm applyForm = applyFormService.getApplyFormByYearAndSemester(year, semester);
-		return getAppliesByStatus(applyForm, status);
+		return getApplies(applyForm, search, search.toCondition().toBuilder().status(status).build());
 	}
 
 	/**
-	 * 특정 년도와 학기, 상태에 해당하는 신청을 조회합니다.
+	 * 현재 활성화된 신청 폼에서 특정 상태에 해당하는 신청을 페이지 단위로 조회합니다.
 	 *
-	 * @param status 신청 상태
-	 * @return 조회된 신청 리스트
+	 * @param status 신청 상태 (조회 조건의 상태보다 우선합니다)
+	 * @param search 커서, 페이지 크기와 조회 조건
+	 * @return 조회된 신청 페이지
 	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
 	 */
-	public List<ApplyReadDto> getAppliesNowByStatus(ApplyStatus status) {
+	public ApplyPageReadDto getAppliesNowByStatus(ApplyStatus status, ApplySearchDto search) {
 		ApplyForm applyForm = applyFormService.getActiveApplyForm();
-		return getAppliesByStatus(applyForm, status);
+		return getApplies(applyForm, search, search.toCondition().toBuilder().status(status).build());
 	}
 
-	private List<ApplyReadDto> getAppliesByStatus(ApplyForm applyForm, ApplyStatus status) {
-		List<Apply> applies = applyRepository.findAllByApplyFormAndStatus(applyForm, status);
-		return applies.stream()
-			.map(apply -> ApplyReadDto.fromEntity(apply, apply.getStudent()))
-			.collect(Collectors.toList());
+	/**
+	 * 커서 다음의 신청을 페이지 크기보다 하나 더 조회하여, 다음 페이지가 있는지 함께 판단합니다.
+	 */
+	private ApplyPageReadDto getApplies(ApplyForm applyForm, ApplySearchDto search, ApplySearchCondition condition) {
+		int size = search.pageSize();
+		List<ApplyRow> rows = applyQueryRepository.findRowsAfter(applyForm, condition, search.cursor(), size + 1);
+
+		boolean hasNext = rows.size() > size;
+		if (hasNext) rows = rows.subList(0, size);
+
+		return ApplyPageReadDto.builder()
+			.applies(rows.stream().map(ApplyReadDto::fromRow).collect(Collectors.toList()))
+			.nextCursor(hasNext ? rows.get(rows.size() - 1).applyId() : null)
+			.hasNext(hasNext)
+			.build();
 	}
 
 
@@ -319,11 +397,19 @@ public class ApplyService {
 	}
 
 
+	/**
+	 * 신청 폼의 고장 신고 신청과 보고서를 조회합니다.
+	 * - 신청(학생, 학생회비 포함)과 보고서를 각각 한 번의 쿼리로 조회하여 신청마다 추가 조회가 발생하지 않도록 합니다.
+	 *
+	 * @throws ReportNotFoundException "REPORT_NOT_FOUND"
+	 */
 	private List<ApplyReportReadDto> getAppliesAndReportsByApplyForm(ApplyForm applyForm) {
-		List<Apply> applies = applyRepository.findAllByApplyFormAndStatus(applyForm, ApplyStatus.BROKEN_APPLY);
+		List<Apply> applies = applyRepository.findAllWithDuesByApplyFormAndStatus(applyForm, ApplyStatus.BROKEN_APPLY);
+		Map<Long, Report> reports = reportService.getReportsByApplies(applies);
 		return applies.stream()
 			.map(apply -> {
-				Report report = reportService.getReportByApply(apply);
+				Report report = reports.get(apply.getId());
+				if (report == null) throw new ReportNotFoundException();
 				return ApplyReportReadDto.of(ApplyReadDto.fromEntity(apply, apply.getStudent()), report);
 			})
 			.collect(Collectors.toList());
@@ -336,10 +422,12 @@ public class ApplyService {
 		if (apply.getStatus() != ApplyStatus.BROKEN_APPLY)
 			throw new ApplyNotFoundException();
 
+		ApplyChangedEvent.Snapshot before = ApplyChangedEvent.Snapshot.of(apply);
 		apply.updateStatus(
 			updateDto.isApproved() ? ApplyStatus.APPROVE : ApplyStatus.REJECT
 		);
 		applyRepository.save(apply);
+		eventPublisher.publishEvent(ApplyChangedEvent.changed(before, apply));
 
 		return apply.getStatus();
 	}
@@ -355,19 +443,22 @@ public class ApplyService {
 	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
 	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
 	 * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
+	 * @throws ApplyDuplicatedException "APPLY_DUPLICATED"
 	 */
 	@Transactional
 	public ApplyReadDto updateApplyByStudentNumber(Integer year, Integer semester, String studentNumber, ApplyUpdateDto requestBody) {
 		ApplyForm applyForm = applyFormService.getApplyFormByYearAndSemester(year, semester);
-		Student student = studentService.findStudentByStudentNumber(studentNumber);
+		StudentIdentity identity = studentService.findStudentByStudentNumber(studentNumber);
 
-		Apply apply = applyRepository.findByStudentAndApplyForm(student, applyForm)
+		Apply apply = applyRepository.findByStudentAndApplyForm(studentService.getStudentReference(identity), applyForm)
 			.orElseThrow(ApplyNotFoundException::new);
 
+		ApplyChangedEvent.Snapshot before = ApplyChangedEvent.Snapshot.of(apply);
 		apply.update(requestBody);
-		applyRepository.save(apply);
+		saveApply(apply);
+		eventPublisher.publishEvent(ApplyChangedEvent.changed(before, apply));
 
-		return ApplyReadDto.fromEntity(apply, student);
+		return ApplyReadDto.of(apply, identity);
 	}
 
 	/**
@@ -382,12 +473,13 @@ public class ApplyService {
 	@Transactional
 	public void deleteApplyByStudentNumber(Integer year, Integer semester, String studentNumber) {
 		ApplyForm applyForm = applyFormService.getApplyFormByYearAndSemester(year, semester);
-		Student student = studentService.findStudentByStudentNumber(studentNumber);
+		StudentIdentity identity = studentService.findStudentByStudentNumber(studentNumber);
 
-		Apply apply = applyRepository.findByStudentAndApplyForm(student, applyForm)
+		Apply apply = applyRepository.findByStudentAndApplyForm(studentService.getStudentReference(identity), applyForm)
 			.orElseThrow(ApplyNotFoundException::new);
 
 		applyRepository.delete(apply);
+		eventPublisher.publishEvent(ApplyChangedEvent.deleted(apply));
 	}
 
 	/**
@@ -397,13 +489,16 @@ public class ApplyService {
 	 * @param requestBody 업데이트할 신청 DTO
 	 * @return 업데이트된 신청을 나타내는 DTO
 	 * @throws ApplyNotFoundException "APPLY_NOT_FOUND"
+	 * @throws ApplyDuplicatedException "APPLY_DUPLICATED"
 	 */
 	@Transactional
 	public ApplyReadDto updateApplyById(Long applyId, ApplyUpdateDto requestBody) {
 		Apply apply = getApplyById(applyId);
 
+		ApplyChangedEvent.Snapshot before = ApplyChangedEvent.Snapshot.of(apply);
 		apply.update(requestBody);
-		applyRepository.save(apply);
+		saveApply(apply);
+		eventPublisher.publishEvent(ApplyChangedEvent.changed(before, apply));
 
 		return ApplyReadDto.fromEntity(apply, apply.getStudent());
 	}
@@ -419,6 +514,7 @@ public class ApplyService {
 		Apply apply = getApplyById(applyId);
 
 		applyRepository.delete(apply);
+		eventPublisher.publishEvent(ApplyChangedEvent.deleted(apply));
 	}
 
 	public Apply getApplyById(Long applyId) {
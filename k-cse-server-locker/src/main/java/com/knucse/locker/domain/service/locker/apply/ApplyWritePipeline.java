@@ -0,0 +1,289 @@
+package com.knucse.locker.domain.service.locker.apply;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.knucse.common.sql.QueryBudgetExceededException;
+import com.knucse.common.sql.QueryBudgetProperties;
+import com.knucse.common.sql.QueryBudgetVerifier;
+import com.knucse.common.sql.SqlStatementScope;
+import com.knucse.locker.api.locker.apply.dto.ApplyReadDto;
+import com.knucse.locker.config.ApplyWritePipelineProperties;
+import com.knucse.locker.domain.exception.locker.allocate.AlreadyAllocatedException;
+import com.knucse.locker.domain.exception.locker.apply.ApplyDuplicatedException;
+import com.knucse.locker.domain.exception.locker.apply.ApplyPipelineRejectedException;
+import com.knucse.locker.domain.exception.locker.apply.ApplyPipelineTimeoutException;
+import com.knucse.locker.domain.model.locker.apply.Apply;
+import com.knucse.locker.domain.model.locker.apply.ApplyChangedEvent;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.AllocateRepository;
+import com.knucse.locker.domain.persistence.ApplyBulkRepository;
+import com.knucse.locker.domain.persistence.ApplyRepository;
+import com.knucse.locker.domain.persistence.ConstraintViolations;
+import com.knucse.student.student.model.StudentIdentity;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 신청 묶음 저장기 (group commit)
+ * - 요청 스레드가 넘긴 신청을 짧은 시간(window) 동안 또는 최대 개수까지 모아, 한 트랜잭션에서 배정 여부를 한 번에 검사하고
+ *   JDBC 배치로 저장합니다. 처리되지 않은 신청이 이미 있는 학생도 같은 조회로 걸러내므로, 한 신청의 중복으로 묶음 전체가
+ *   롤백되지 않습니다. (동시에 다른 경로로 저장된 신청은 신청 테이블의 유니크 제약으로 판별) 신청마다 트랜잭션과 INSERT 왕복이 생기지 않으므로 같은 DB 에서 처리량이 늘어납니다.
+ * - 요청 스레드는 자신의 신청 결과(DTO 또는 예외)를 트랜잭션 커밋 후에 받습니다.
+ * - 대기열은 queue-capacity 로 제한하여, 가득 차면 신청을 바로 거절합니다. 결과는 result-timeout 까지만 기다리며,
+ *   시간이 지나면 거절하지만 이미 대기열에 들어간 신청은 이후에 저장될 수 있습니다. (다시 신청하면 중복 신청으로 확인 가능)
+ * - 종료할 때는 대기열에 남은 신청을 마저 저장하고, 그 뒤에 들어온 신청은 거절합니다.
+ * - 저장한 신청마다 ApplyChangedEvent 를 발행하며, 묶음이 롤백되면 이벤트도 함께 버려집니다.
+ * - 배치 저장이 실패하면 남은 신청을 하나씩 별도 트랜잭션으로 다시 저장하여, 한 신청의 실패가 다른 신청에 영향을 주지 않도록 합니다.
+ * - 저장기 스레드의 SQL 문은 요청의 @QueryBudget 에 포함되지 않으므로, 묶음마다 범위를 열어 신청 폼 수에 비례하는 최대 SQL 문 수로
+ *   검사합니다. (하나씩 다시 저장하는 경우는 제한하지 않음)
+ * - APPLY 상태의 신청(1차/추가 신청)만 다룹니다. 교체 신청은 보고서와 함께 저장해야 하므로 기존 경로를 사용합니다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ApplyWritePipeline {
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+	private static final String FLUSH_SCOPE = "ApplyWritePipeline.flush";
+	/* 신청 폼마다 처리되지 않은 신청 조회, 배정 조회, 배치 INSERT, 통계 갱신(첫 신청이면 행 생성 포함 3) */
+	private static final int STATEMENTS_PER_APPLY_FORM = 6;
+	/* 묶음마다 학생회비 납부 조회 */
+	private static final int STATEMENTS_PER_BATCH = 1;
+
+	private final ApplyBulkRepository applyBulkRepository;
+	private final ApplyRepository applyRepository;
+	private final AllocateRepository allocateRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ApplyWritePipelineProperties properties;
+	private final QueryBudgetVerifier queryBudgetVerifier;
+	private final QueryBudgetProperties queryBudgetProperties;
+
+	private BlockingQueue<PendingApply> queue;
+	private TransactionTemplate batchTransaction;
+	private TransactionTemplate singleTransaction;
+	private Thread flusher;
+	private volatile boolean running;
+
+	@PostConstruct
+	void start() {
+		batchTransaction = new TransactionTemplate(transactionManager);
+		singleTransaction = new TransactionTemplate(transactionManager);
+		singleTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		if (!properties.isEnabled()) return;
+		queue = new LinkedBlockingQueue<>(properties.getQueueCapacity());
+		running = true;
+		flusher = new Thread(this::runFlusher, "apply-write-pipeline");
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		if (flusher == null) return;
+		running = false;
+		flusher.interrupt();
+		flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+
+		/* 저장하지 못하고 남은 신청은 거절 (종료 시간 초과 또는 종료 중에 들어온 신청) */
+		List<PendingApply> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		remaining.forEach(pending -> pending.result().completeExceptionally(new ApplyPipelineRejectedException()));
+	}
+
+	/**
+	 * 신청을 저장하고 결과를 기다립니다.
+	 * - 학생과 신청 기간은 호출 전에 검증되어 있어야 합니다.
+	 *
+	 * @param apply 저장할 신청 (APPLY 상태)
+	 * @param student 신청한 학생의 식별 정보 (결과 DTO 구성용)
+	 * @return 저장된 신청을 나타내는 DTO
+	 * @throws ApplyDuplicatedException "APPLY_DUPLICATED"
+	 * @throws AlreadyAllocatedException "ALREADY_ALLOCATED"
+	 * @throws ApplyPipelineRejectedException "APPLY_PIPELINE_REJECTED"
+	 * @throws ApplyPipelineTimeoutException "APPLY_PIPELINE_TIMEOUT"
+	 */
+	public ApplyReadDto write(Apply apply, StudentIdentity student) {
+		if (apply.getStatus() != ApplyStatus.APPLY) {
+			throw new IllegalArgumentException("Only applies with status APPLY can be written through the pipeline");
+		}
+
+		PendingApply pending = new PendingApply(apply, student, new CompletableFuture<>());
+		if (queue == null) flush(List.of(pending));
+		else enqueue(pending);
+
+		try {
+			return pending.result().get(properties.getResultTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) throw cause;
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			throw new ApplyPipelineTimeoutException();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ApplyPipelineTimeoutException();
+		}
+	}
+
+	/**
+	 * 신청을 대기열에 넣습니다. 대기열이 가득 찼거나 종료 중이면 거절합니다.
+	 * - 넣은 뒤 종료가 시작되었다면, 저장기나 종료 처리가 가져가지 않은 경우에만 직접 꺼내어 거절합니다.
+	 *   (가져간 신청은 저장기가 저장하거나 종료 처리가 거절하므로 결과가 항상 완료됩니다.)
+	 *
+	 * @throws ApplyPipelineRejectedException "APPLY_PIPELINE_REJECTED"
+	 */
+	private void enqueue(PendingApply pending) {
+		if (!running || !queue.offer(pending)) throw new ApplyPipelineRejectedException();
+		if (!running && queue.remove(pending)) throw new ApplyPipelineRejectedException();
+	}
+
+	private void runFlusher() {
+		List<PendingApply> batch = new ArrayList<>(properties.getMaxBatchSize());
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingApply first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) continue;
+				batch.add(first);
+
+				long deadline = System.nanoTime() + properties.getWindow().toNanos();
+				while (batch.size() < properties.getMaxBatchSize()) {
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) break;
+					PendingApply next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+					if (next == null) break;
+					batch.add(next);
+				}
+			} catch (InterruptedException e) {
+				/* 종료 요청: 남은 신청을 마저 저장한 뒤 종료 */
+			}
+
+			if (!batch.isEmpty()) {
+				flush(batch);
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * 신청 묶음을 한 트랜잭션으로 저장하고, 실패하면 하나씩 다시 저장합니다.
+	 * - 최대 SQL 문 수를 넘은 묶음은 fail-on-exceed 이면 저장된 신청도 예외로 완료합니다. (요청 단위 검사와 같은 동작)
+	 */
+	private void flush(List<PendingApply> batch) {
+		SqlStatementScope scope = queryBudgetProperties.isEnabled() ? SqlStatementScope.open(FLUSH_SCOPE, budgetOf(batch)) : null;
+		List<Completion> completions;
+		try {
+			completions = batchTransaction.execute(status -> writeBatch(batch));
+		} catch (RuntimeException e) {
+			log.warn("Group commit of {} applies failed, retrying one by one", batch.size(), e);
+			if (scope != null) scope.describe(FLUSH_SCOPE, SqlStatementScope.UNLIMITED);
+			batch.stream()
+				.filter(pending -> !pending.result().isDone())
+				.forEach(this::writeSingle);
+			completions = List.of();
+		} finally {
+			if (scope != null) scope.close();
+		}
+
+		try {
+			if (scope != null) queryBudgetVerifier.verify(scope);
+		} catch (QueryBudgetExceededException e) {
+			completions.forEach(completion -> completion.pending().result().completeExceptionally(e));
+			return;
+		}
+		completions.forEach(Completion::complete);
+	}
+
+	private static int budgetOf(List<PendingApply> batch) {
+		long applyForms = batch.stream().map(pending -> pending.apply().getApplyForm().getId()).distinct().count();
+		return (int)applyForms * STATEMENTS_PER_APPLY_FORM + STATEMENTS_PER_BATCH;
+	}
+
+	/**
+	 * 신청 폼별로 처리되지 않은 신청과 배정 여부를 한 번에 검사하고, 통과한 신청을 배치로 저장합니다.
+	 * - 검사에 실패한 신청은 바로 예외로 완료하고, 저장된 신청은 커밋 후 완료할 수 있도록 반환합니다.
+	 */
+	private List<Completion> writeBatch(List<PendingApply> batch) {
+		Map<Long, List<PendingApply>> byApplyForm = new LinkedHashMap<>();
+		for (PendingApply pending : batch) {
+			byApplyForm.computeIfAbsent(pending.apply().getApplyForm().getId(), id -> new ArrayList<>()).add(pending);
+		}
+
+		List<Completion> completions = new ArrayList<>(batch.size());
+		for (List<PendingApply> group : byApplyForm.values()) {
+			ApplyForm applyForm = group.get(0).apply().getApplyForm();
+			Set<Long> studentIds = new HashSet<>();
+			group.forEach(pending -> studentIds.add(pending.studentId()));
+
+			/* 이미 처리되지 않은 신청이 있는 학생 (같은 묶음에서 먼저 들어온 신청도 추가) */
+			Set<Long> applied = new HashSet<>(applyRepository.findStudentIdsByApplyFormAndStatusAndStudentIdIn(
+				applyForm, ApplyStatus.APPLY, studentIds));
+			Set<Long> allocated = new HashSet<>(allocateRepository.findStudentIdsByApplyFormAndStudentIdIn(
+				applyForm, studentIds));
+
+			List<PendingApply> accepted = new ArrayList<>(group.size());
+			for (PendingApply pending : group) {
+				if (!applied.add(pending.studentId())) {
+					pending.result().completeExceptionally(new ApplyDuplicatedException());
+				} else if (allocated.contains(pending.studentId())) {
+					pending.result().completeExceptionally(new AlreadyAllocatedException());
+				} else {
+					accepted.add(pending);
+				}
+			}
+
+			List<Apply> saved = applyBulkRepository.insertAll(accepted.stream().map(PendingApply::apply).toList());
+			for (int index = 0; index < accepted.size(); index++) {
+				completions.add(new Completion(accepted.get(index), saved.get(index)));
+				eventPublisher.publishEvent(ApplyChangedEvent.created(saved.get(index)));
+			}
+		}
+		return completions;
+	}
+
+	private void writeSingle(PendingApply pending) {
+		try {
+			List<Completion> completions = singleTransaction.execute(status -> writeBatch(List.of(pending)));
+			completions.forEach(Completion::complete);
+		} catch (DataIntegrityViolationException e) {
+			pending.result().completeExceptionally(
+				ConstraintViolations.isViolationOf(e, Apply.UNIQUE_PENDING_STUDENT_FORM) ? new ApplyDuplicatedException() : e
+			);
+		} catch (RuntimeException e) {
+			pending.result().completeExceptionally(e);
+		}
+	}
+
+	private record PendingApply(Apply apply, StudentIdentity student, CompletableFuture<ApplyReadDto> result) {
+		Long studentId() {
+			return apply.getStudent().getId();
+		}
+	}
+
+	private record Completion(PendingApply pending, Apply saved) {
+		void complete() {
+			pending.result().complete(ApplyReadDto.of(saved, pending.student()));
+		}
+	}
+}
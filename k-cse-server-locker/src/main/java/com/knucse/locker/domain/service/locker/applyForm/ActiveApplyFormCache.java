@@ -0,0 +1,125 @@
+package com.knucse.locker.domain.service.locker.applyForm;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * 활성화된 신청 폼 캐시
+ * - 거의 모든 요청이 활성화된 신청 폼을 조회하므로, 조회 결과(활성화된 신청 폼이 없는 경우 포함)를 짧은 시간 동안 보관합니다.
+ * - 신청 폼이 변경되면 세대(generation)를 올려 무효화합니다. 트랜잭션 안에서 변경했다면 트랜잭션이 끝난 뒤 한 번 더 올려,
+ *   커밋 전에 다른 요청이 읽어 간 이전 값이 캐시에 남지 않도록 합니다.
+ * - 캐시가 비어 있으면 한 요청만 DB 를 조회하고 나머지는 그 결과를 기다립니다. (신청 폼 전환 직후 조회 폭주 방지)
+ * - 캐시된 신청 폼은 영속성 컨텍스트와 분리된 사본이므로 조회/참조 용도로만 사용하고 변경하지 않아야 합니다.
+ */
+@Component
+public class ActiveApplyFormCache {
+	private static final Duration TTL = Duration.ofSeconds(5);
+	private static final String METRIC_NAME = "locker.apply_form.active.cache";
+
+	private final ReentrantLock loadLock = new ReentrantLock();
+	private final AtomicLong generation = new AtomicLong();
+	private volatile Entry entry;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public ActiveApplyFormCache(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+		this.hitCounter = Counter.builder(METRIC_NAME).tag("result", "hit")
+			.description("활성화된 신청 폼 캐시 적중 수")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder(METRIC_NAME).tag("result", "miss")
+			.description("활성화된 신청 폼 캐시 미스 수 (DB 조회 수)")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 캐시된 활성화된 신청 폼을 반환합니다. 캐시가 비었거나 만료되었으면 loader 로 조회하여 캐시합니다.
+	 *
+	 * @param loader 활성화된 신청 폼을 DB 에서 조회하는 함수
+	 * @return 활성화된 신청 폼 사본 (없으면 empty)
+	 */
+	public Optional<ApplyForm> get(Supplier<Optional<ApplyForm>> loader) {
+		Entry cached = entry;
+		if (isValid(cached)) {
+			hitCounter.increment();
+			return cached.applyForm();
+		}
+
+		loadLock.lock();
+		try {
+			/* 대기하는 동안 다른 요청이 이미 조회했으면 그 결과를 사용 */
+			cached = entry;
+			if (isValid(cached)) {
+				hitCounter.increment();
+				return cached.applyForm();
+			}
+
+			missCounter.increment();
+			long loadGeneration = generation.get();
+			Optional<ApplyForm> loaded = loader.get().map(ActiveApplyFormCache::copyOf);
+
+			/* 조회하는 동안 무효화되었으면 캐시하지 않음 */
+			if (generation.get() == loadGeneration) {
+				entry = new Entry(loaded, loadGeneration, System.nanoTime() + TTL.toNanos());
+			}
+			return loaded;
+		} finally {
+			loadLock.unlock();
+		}
+	}
+
+	/**
+	 * 캐시를 무효화합니다. 트랜잭션 안에서 호출하면 트랜잭션이 끝난 뒤에도 한 번 더 무효화합니다.
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+		entry = null;
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					generation.incrementAndGet();
+					entry = null;
+				}
+			});
+		}
+	}
+
+	private boolean isValid(Entry cached) {
+		return cached != null
+			&& cached.generation() == generation.get()
+			&& System.nanoTime() - cached.expiresAt() < 0;
+	}
+
+	private static ApplyForm copyOf(ApplyForm applyForm) {
+		return ApplyForm.builder()
+			.id(applyForm.getId())
+			.year(applyForm.getYear())
+			.semester(applyForm.getSemester())
+			.firstApplyStartDate(applyForm.getFirstApplyStartDate())
+			.firstApplyEndDate(applyForm.getFirstApplyEndDate())
+			.semesterEndDate(applyForm.getSemesterEndDate())
+			.status(applyForm.getStatus())
+			.lotterySeed(applyForm.getLotterySeed())
+			.lotteryDrawnAt(applyForm.getLotteryDrawnAt())
+			.build();
+	}
+
+	private record Entry(Optional<ApplyForm> applyForm, long generation, long expiresAt) { }
+}
@@ -2,6 +2,7 @@ package com.knucse.locker.domain.service.locker.applyForm;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -10,26 +11,36 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.knucse.common.util.datetime.DateTimeUtil;
 import com.knucse.locker.api.locker.applyForm.dto.ApplyFormCreateDto;
+import com.knucse.locker.api.locker.applyForm.dto.ApplyFormLotteryReadDto;
 import com.knucse.locker.api.locker.applyForm.dto.ApplyFormReadDto;
 import com.knucse.locker.api.locker.applyForm.dto.ApplyFormUpdateDto;
 import com.knucse.locker.domain.exception.locker.applyForm.ApplyFormDuplicatedException;
 import com.knucse.locker.domain.exception.locker.applyForm.ApplyFormNotFoundException;
 import com.knucse.locker.domain.exception.locker.applyForm.InvalidApplyFormDateException;
+import com.knucse.locker.domain.exception.locker.applyForm.LotteryAlreadyDrawnException;
+import com.knucse.locker.domain.exception.locker.applyForm.LotteryNotDrawnException;
 import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
 import com.knucse.locker.domain.model.locker.applyForm.ApplyFormStatus;
 import com.knucse.locker.domain.persistence.ApplyFormRepository;
+import com.knucse.locker.domain.service.locker.availability.LockerAvailabilityIndex;
+import com.knucse.locker.domain.service.locker.lottery.Lottery;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ApplyFormService {
 	/* internal dependency */
 	private final ApplyFormRepository applyFormRepository;
+	private final ActiveApplyFormCache activeApplyFormCache;
+	private final LockerAvailabilityIndex lockerAvailabilityIndex;
 
 	/**
 	 * 새로운 신청 폼을 생성합니다.
+	 * - 추첨 시드를 지정하지 않으면 새 시드를 발급합니다.
 	 *
 	 * @param requestBody 신청 폼 생성 DTO
 	 * @return 생성된 신청 폼을 나타내는 DTO
@@ -46,7 +57,9 @@ public class ApplyFormService {
 		validateApplyFormDates(requestBody);
 
 		/* Save the apply entity */
-		ApplyForm applyForm = applyFormRepository.save(requestBody.toEntity());
+		long lotterySeed = requestBody.lotterySeed() != null ? requestBody.lotterySeed() : Lottery.newSeed();
+		ApplyForm applyForm = applyFormRepository.save(requestBody.toEntity(lotterySeed));
+		activeApplyFormCache.invalidate();
 
 		/* Return the created apply entity */
 		return ApplyFormReadDto.fromEntity(applyForm);
@@ -54,6 +67,7 @@ public class ApplyFormService {
 
 	/**
 	 * 기존 신청 폼을 업데이트합니다.
+	 * - 추첨 시드는 일괄 할당으로 추첨하기 전까지만 바꿀 수 있습니다.
 	 *
 	 * @param year 연도
 	 * @param semester 학기
@@ -61,6 +75,7 @@ public class ApplyFormService {
 	 * @return 업데이트된 신청 폼을 나타내는 DTO
 	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
 	 * @throws InvalidApplyFormDateException "INVALID_APPLY_FORM_DATE"
+	 * @throws LotteryAlreadyDrawnException "LOTTERY_ALREADY_DRAWN"
 	 */
 	@Transactional(isolation = Isolation.SERIALIZABLE)
 	public ApplyFormReadDto updateApplyForm(Integer year, Integer semester, ApplyFormUpdateDto requestBody) {
@@ -73,9 +88,16 @@ public class ApplyFormService {
 			validateApplyFormDates(applyForm, requestBody);
 		}
 
+		/* The lottery seed is fixed once a bulk allocation has drawn with it */
+		if (requestBody.lotterySeed() != null) {
+			if (applyForm.isLotteryDrawn()) throw new LotteryAlreadyDrawnException();
+			applyForm.updateLotterySeed(requestBody.lotterySeed());
+		}
+
 		/* Update the apply entity */
 		applyForm.update(requestBody);
 		applyFormRepository.save(applyForm);
+		activeApplyFormCache.invalidate();
 
 		/* Return the updated apply entity */
 		return ApplyFormReadDto.fromEntity(applyForm);
@@ -96,6 +118,8 @@ public class ApplyFormService {
 
 		/* Delete the apply entity */
 		applyFormRepository.delete(applyForm);
+		activeApplyFormCache.invalidate();
+		lockerAvailabilityIndex.invalidate(applyForm);
 	}
 
 	/**
@@ -151,6 +175,7 @@ public class ApplyFormService {
 		}
 
 		applyFormRepository.save(applyForm);
+		activeApplyFormCache.invalidate();
 
 		/* Return the updated apply entity */
 		return ApplyFormReadDto.fromEntity(applyForm);
@@ -179,17 +204,53 @@ public class ApplyFormService {
 
 	/**
 	 * 활성화된 신청 폼을 조회합니다.
+	 * - 캐시된 사본을 반환하므로 조회/참조 용도로만 사용하고, 변경이 필요하면 ID 로 다시 조회해야 합니다.
 	 *
-	 * @return 활성화된 신청 폼 엔티티
+	 * @return 활성화된 신청 폼 엔티티 (영속성 컨텍스트와 분리된 사본)
 	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
 	 */
 	public ApplyForm getActiveApplyForm() {
-		if (!isActiveApplyForm())
-			throw new ApplyFormNotFoundException();
-		return applyFormRepository.findByStatus(ApplyFormStatus.ACTIVE)
+		return activeApplyFormCache.get(this::findActiveApplyForm)
 			.orElseThrow(ApplyFormNotFoundException::new);
 	}
 
+	/**
+	 * 신청 폼의 추첨 정보를 조회합니다. 일괄 할당으로 추첨한 이후에만 시드를 공개합니다.
+	 *
+	 * @param year 연도
+	 * @param semester 학기
+	 * @return 추첨 정보 DTO
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 * @throws LotteryNotDrawnException "LOTTERY_NOT_DRAWN"
+	 */
+	public ApplyFormLotteryReadDto getApplyFormLottery(Integer year, Integer semester) {
+		ApplyForm applyForm = getApplyFormByYearAndSemester(year, semester);
+		if (!applyForm.isLotteryDrawn()) throw new LotteryNotDrawnException();
+
+		return ApplyFormLotteryReadDto.fromEntity(applyForm);
+	}
+
+	/**
+	 * 신청 폼을 추첨 완료로 표시하고 추첨 시드를 반환합니다. 시드가 없는 기존 신청 폼은 새 시드를 발급하여 저장합니다.
+	 * - 호출한 일괄 할당이 롤백되면 추첨 표시도 함께 취소됩니다.
+	 *
+	 * @param applyFormId 신청 폼 ID
+	 * @return 추첨 시드
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 */
+	@Transactional
+	public long drawLottery(Long applyFormId) {
+		ApplyForm applyForm = applyFormRepository.findById(applyFormId)
+			.orElseThrow(ApplyFormNotFoundException::new);
+
+		if (applyForm.getLotterySeed() == null) applyForm.updateLotterySeed(Lottery.newSeed());
+		if (!applyForm.isLotteryDrawn()) {
+			applyForm.drawLottery(DateTimeUtil.now());
+			activeApplyFormCache.invalidate();
+		}
+		return applyForm.getLotterySeed();
+	}
+
 	/**
 	 * 특정 연도와 학기의 신청 폼을 조회합니다.
 	 *
@@ -203,6 +264,14 @@ public class ApplyFormService {
 			.orElseThrow(ApplyFormNotFoundException::new);
 	}
 
+	/**
+	 * 활성화된 신청 폼을 한 번의 쿼리로 조회합니다. 활성화된 신청 폼이 정확히 하나일 때만 반환합니다.
+	 */
+	private Optional<ApplyForm> findActiveApplyForm() {
+		List<ApplyForm> applyForms = applyFormRepository.findAllByStatus(ApplyFormStatus.ACTIVE);
+		return applyForms.size() == 1 ? Optional.of(applyForms.get(0)) : Optional.empty();
+	}
+
 	/**
 	 * 신청 폼의 날짜 유효성을 검증합니다.
 	 *
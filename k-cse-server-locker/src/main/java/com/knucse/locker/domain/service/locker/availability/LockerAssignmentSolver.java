@@ -0,0 +1,151 @@
+package com.knucse.locker.domain.service.locker.availability;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.Apply;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모든 신청과 사용 가능한 사물함을 한 번에 고려하는 최소 비용 배정기
+ * - 같은 지망(1지망/2지망 층, 높이)과 우선순위를 가진 신청을 하나의 그룹으로, 같은 (층, 높이)의 사물함을 하나의 버킷으로 묶어
+ *   그룹 -> 버킷 용량 그래프에서 최소 비용 유량을 구합니다. 노드 수가 신청자 수와 무관하므로 수만 명도 빠르게 처리됩니다.
+ * - 비용은 1지망 0, 2지망 1, 1지망 층 2, 그 외 3 이며 우선순위(학생회비 납부) 신청은 2배로 계산합니다.
+ * - 미배정 비용은 어떤 배정 비용보다 크며, 우선순위 신청의 미배정 비용이 더 크므로 사물함이 부족하면 우선순위 신청부터 배정됩니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LockerAssignmentSolver {
+	private static final int FIRST_CHOICE_COST = 0;
+	private static final int SECOND_CHOICE_COST = 1;
+	private static final int FIRST_FLOOR_COST = 2;
+	private static final int ANY_COST = 3;
+
+	private static final int PRIORITY_FACTOR = 2;
+	private static final int UNASSIGNED_COST = 10;
+	private static final int PRIORITY_UNASSIGNED_COST = 20;
+
+	/**
+	 * 신청 목록에 대한 최소 비용 배정을 계산하고, 배정된 사물함을 가용성 비트맵에서 할당 상태로 표시합니다.
+	 * - 같은 그룹 안에서는 신청 목록의 앞쪽 신청이 더 낮은 비용의 버킷을 먼저 받습니다.
+	 *
+	 * @param availability 신청 폼의 가용성 비트맵
+	 * @param applies 신청 목록
+	 * @param priority 우선순위 신청 여부
+	 * @param random 버킷 안에서 사물함을 고를 난수 생성기
+	 * @return 신청 목록과 같은 순서의 사물함 이름 목록 (미배정이면 null)
+	 */
+	public static List<String> solve(
+		LockerAvailability availability, List<Apply> applies, Predicate<Apply> priority, RandomGenerator random
+	) {
+		LockerCatalog catalog = availability.catalog();
+		int[] freeCounts = availability.freeCounts();
+
+		// 1. 같은 지망과 우선순위를 가진 신청을 그룹으로 묶는다.
+		Map<ApplicantGroup, List<Integer>> members = new LinkedHashMap<>();
+		for (int index = 0; index < applies.size(); index++) {
+			Apply apply = applies.get(index);
+			members.computeIfAbsent(ApplicantGroup.of(apply, priority.test(apply)), key -> new ArrayList<>())
+				.add(index);
+		}
+		List<ApplicantGroup> groups = new ArrayList<>(members.keySet());
+
+		// 2. source -> 그룹 -> 버킷 -> sink 그래프를 구성한다. (그룹 -> sink 는 미배정)
+		int source = 0;
+		int sink = 1;
+		int groupBase = 2;
+		int bucketBase = groupBase + groups.size();
+		MinCostFlow flow = new MinCostFlow(bucketBase + freeCounts.length);
+
+		int[][] costs = new int[groups.size()][];
+		int[][] edges = new int[groups.size()][freeCounts.length];
+		for (int group = 0; group < groups.size(); group++) {
+			ApplicantGroup applicantGroup = groups.get(group);
+			int supply = members.get(applicantGroup).size();
+			costs[group] = applicantGroup.costs(catalog);
+
+			flow.addEdge(source, groupBase + group, supply, 0);
+			for (int bucket = 0; bucket < freeCounts.length; bucket++) {
+				edges[group][bucket] = freeCounts[bucket] > 0
+					? flow.addEdge(groupBase + group, bucketBase + bucket, supply, costs[group][bucket])
+					: -1;
+			}
+			flow.addEdge(groupBase + group, sink, supply, applicantGroup.unassignedCost());
+		}
+		for (int bucket = 0; bucket < freeCounts.length; bucket++) {
+			if (freeCounts[bucket] > 0) flow.addEdge(bucketBase + bucket, sink, freeCounts[bucket], 0);
+		}
+		flow.solve(source, sink);
+
+		// 3. 그룹별 버킷 유량을 개별 신청과 사물함으로 분해한다.
+		String[] lockerNames = new String[applies.size()];
+		for (int group = 0; group < groups.size(); group++) {
+			List<Integer> indexes = members.get(groups.get(group));
+			int[] groupCosts = costs[group];
+			int cursor = 0;
+
+			int[] bucketOrder = IntStream.range(0, freeCounts.length).boxed()
+				.sorted(Comparator.comparingInt(bucket -> groupCosts[bucket]))
+				.mapToInt(Integer::intValue)
+				.toArray();
+			for (int bucket : bucketOrder) {
+				if (edges[group][bucket] < 0) continue;
+				for (long count = flow.flow(edges[group][bucket]); count > 0; count--) {
+					lockerNames[indexes.get(cursor++)] = availability.reserveRandomInBucket(bucket, random);
+				}
+			}
+		}
+		return Arrays.asList(lockerNames);
+	}
+
+	/**
+	 * 배정 비용이 같은 신청들의 그룹
+	 */
+	private record ApplicantGroup(
+		LockerFloor firstFloor, ApplyHeight firstHeight,
+		LockerFloor secondFloor, ApplyHeight secondHeight,
+		boolean priority
+	) {
+		static ApplicantGroup of(Apply apply, boolean priority) {
+			return new ApplicantGroup(
+				apply.getFirstFloor(), apply.getFirstHeight(),
+				apply.getSecondFloor(), apply.getSecondHeight(),
+				priority
+			);
+		}
+
+		int[] costs(LockerCatalog catalog) {
+			List<Integer> firstHeights = firstHeight.getLockerHeight(firstFloor);
+			List<Integer> secondHeights = secondHeight.getLockerHeight(secondFloor);
+
+			int[] costs = new int[catalog.bucketCount()];
+			for (int bucket = 0; bucket < costs.length; bucket++) {
+				LockerFloor floor = catalog.floorOfBucket(bucket);
+				int height = catalog.heightOfBucket(bucket);
+
+				int cost;
+				if (floor == firstFloor && firstHeights.contains(height)) cost = FIRST_CHOICE_COST;
+				else if (floor == secondFloor && secondHeights.contains(height)) cost = SECOND_CHOICE_COST;
+				else if (floor == firstFloor) cost = FIRST_FLOOR_COST;
+				else cost = ANY_COST;
+
+				costs[bucket] = priority ? cost * PRIORITY_FACTOR : cost;
+			}
+			return costs;
+		}
+
+		int unassignedCost() {
+			return priority ? PRIORITY_UNASSIGNED_COST : UNASSIGNED_COST;
+		}
+	}
+}
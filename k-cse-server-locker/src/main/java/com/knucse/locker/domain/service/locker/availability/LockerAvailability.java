@@ -0,0 +1,239 @@
+package com.knucse.locker.domain.service.locker.availability;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.random.RandomGenerator;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+
+/**
+ * 한 신청 폼에 대한 사물함 가용성 비트맵
+ * - 할당 여부와 고장 여부를 사물함 서수 기준 BitSet 으로 관리합니다.
+ * - 사용 가능한 사물함은 (층, 높이) 버킷별 dense 배열에 보관하여 개수 조회, 랜덤 선택, 제거를 O(1) 로 처리합니다.
+ */
+public final class LockerAvailability {
+	private final LockerCatalog catalog;
+	private final BitSet allocated;
+	private final BitSet broken;
+
+	/* 버킷별 사용 가능한 사물함 서수 (앞에서부터 sizes[bucket] 개가 유효) */
+	private final int[][] members;
+	private final int[] sizes;
+
+	/* 사물함 서수 -> 버킷 내 위치 (사용 불가능하면 -1) */
+	private final int[] positions;
+
+	LockerAvailability(LockerCatalog catalog, BitSet allocated, BitSet broken) {
+		this.catalog = catalog;
+		this.allocated = (BitSet) allocated.clone();
+		this.broken = (BitSet) broken.clone();
+		this.members = new int[catalog.bucketCount()][];
+		this.sizes = new int[catalog.bucketCount()];
+		this.positions = new int[catalog.size()];
+
+		int[] capacities = new int[catalog.bucketCount()];
+		for (int ordinal = 0; ordinal < catalog.size(); ordinal++) {
+			capacities[catalog.bucketOf(ordinal)]++;
+		}
+		for (int bucket = 0; bucket < members.length; bucket++) {
+			members[bucket] = new int[capacities[bucket]];
+		}
+		for (int ordinal = 0; ordinal < catalog.size(); ordinal++) {
+			positions[ordinal] = -1;
+			if (isFree(ordinal)) add(ordinal);
+		}
+	}
+
+	/**
+	 * 카탈로그와 할당된 사물함 이름 목록으로 가용성 비트맵을 생성합니다.
+	 *
+	 * @param catalog 사물함 카탈로그
+	 * @param allocatedLockerNames 이미 할당된 사물함 이름 목록
+	 * @param broken 고장 사물함 서수 비트맵
+	 * @return 생성된 가용성 비트맵
+	 */
+	public static LockerAvailability of(LockerCatalog catalog, Collection<String> allocatedLockerNames, BitSet broken) {
+		BitSet allocated = new BitSet(catalog.size());
+		for (String lockerName : allocatedLockerNames) {
+			int ordinal = catalog.ordinalOf(lockerName);
+			if (ordinal >= 0) allocated.set(ordinal);
+		}
+		return new LockerAvailability(catalog, allocated, broken);
+	}
+
+	/**
+	 * 현재 할당/고장 상태를 복사한 새 가용성 비트맵을 반환합니다.
+	 * - 버킷 배열이 사물함 서수 순으로 다시 구성되므로, 같은 상태면 할당/해제 이력과 무관하게 항상 같은 배열이 됩니다.
+	 *   시드 기반 선택을 재현할 때 사용합니다.
+	 */
+	public synchronized LockerAvailability snapshot() {
+		return new LockerAvailability(catalog, allocated, broken);
+	}
+
+	public LockerCatalog catalog() {
+		return catalog;
+	}
+
+	public synchronized int freeCount() {
+		int count = 0;
+		for (int size : sizes) count += size;
+		return count;
+	}
+
+	public synchronized int freeCount(LockerFloor floor) {
+		return sum(floorBuckets(floor));
+	}
+
+	public synchronized int freeCount(LockerFloor floor, Collection<Integer> heights) {
+		return sum(heightBuckets(floor, heights));
+	}
+
+	/**
+	 * 버킷별 사용 가능한 사물함 개수의 스냅샷을 반환합니다.
+	 *
+	 * @return 버킷 번호를 인덱스로 하는 사용 가능한 사물함 개수 배열
+	 */
+	public synchronized int[] freeCounts() {
+		return sizes.clone();
+	}
+
+	/**
+	 * 지정한 버킷의 사용 가능한 사물함 하나를 균등 확률로 선택하여 할당 상태로 표시합니다.
+	 *
+	 * @return 선택된 사물함 이름, 없으면 null
+	 */
+	public synchronized String reserveRandomInBucket(int bucket, RandomGenerator random) {
+		return reserveRandom(new int[] {bucket}, random);
+	}
+
+	/**
+	 * 지정한 층과 높이 중 사용 가능한 사물함 하나를 균등 확률로 선택하여 할당 상태로 표시합니다.
+	 *
+	 * @return 선택된 사물함 이름, 없으면 null
+	 */
+	public synchronized String reserveRandom(LockerFloor floor, Collection<Integer> heights, RandomGenerator random) {
+		return reserveRandom(heightBuckets(floor, heights), random);
+	}
+
+	/**
+	 * 지정한 층의 사용 가능한 사물함 하나를 균등 확률로 선택하여 할당 상태로 표시합니다.
+	 *
+	 * @return 선택된 사물함 이름, 없으면 null
+	 */
+	public synchronized String reserveRandom(LockerFloor floor, RandomGenerator random) {
+		return reserveRandom(floorBuckets(floor), random);
+	}
+
+	/**
+	 * 사용 가능한 사물함 하나를 균등 확률로 선택하여 할당 상태로 표시합니다.
+	 *
+	 * @return 선택된 사물함 이름, 없으면 null
+	 */
+	public synchronized String reserveRandom(RandomGenerator random) {
+		int[] buckets = new int[sizes.length];
+		for (int bucket = 0; bucket < buckets.length; bucket++) buckets[bucket] = bucket;
+		return reserveRandom(buckets, random);
+	}
+
+	/**
+	 * 특정 사물함을 할당 상태로 표시합니다.
+	 *
+	 * @return 사용 가능한 상태였으면 true
+	 */
+	public synchronized boolean reserve(String lockerName) {
+		int ordinal = catalog.ordinalOf(lockerName);
+		if (ordinal < 0) return false;
+
+		boolean wasFree = isFree(ordinal);
+		allocated.set(ordinal);
+		if (wasFree) remove(ordinal);
+		return wasFree;
+	}
+
+	/**
+	 * 특정 사물함의 할당 상태를 해제합니다.
+	 */
+	public synchronized void release(String lockerName) {
+		int ordinal = catalog.ordinalOf(lockerName);
+		if (ordinal < 0 || !allocated.get(ordinal)) return;
+
+		allocated.clear(ordinal);
+		if (isFree(ordinal)) add(ordinal);
+	}
+
+	/**
+	 * 고장 사물함 비트맵을 바꿉니다.
+	 * - 새로 고장 난 사물함은 선택 대상에서 빼고, 고쳐진 사물함은 할당되지 않았으면 다시 넣습니다. (할당 표시는 그대로)
+	 *
+	 * @param broken 같은 카탈로그 기준의 고장 사물함 서수 비트맵
+	 */
+	public synchronized void updateBroken(BitSet broken) {
+		BitSet changed = (BitSet) this.broken.clone();
+		changed.xor(broken);
+		for (int ordinal = changed.nextSetBit(0); ordinal >= 0; ordinal = changed.nextSetBit(ordinal + 1)) {
+			boolean wasFree = isFree(ordinal);
+			this.broken.set(ordinal, broken.get(ordinal));
+			if (wasFree && !isFree(ordinal)) remove(ordinal);
+			else if (!wasFree && isFree(ordinal)) add(ordinal);
+		}
+	}
+
+	private String reserveRandom(int[] buckets, RandomGenerator random) {
+		int total = sum(buckets);
+		if (total == 0) return null;
+
+		int target = random.nextInt(total);
+		for (int bucket : buckets) {
+			if (target < sizes[bucket]) {
+				int ordinal = members[bucket][target];
+				allocated.set(ordinal);
+				remove(ordinal);
+				return catalog.nameOf(ordinal);
+			}
+			target -= sizes[bucket];
+		}
+		throw new IllegalStateException("Locker availability bucket sizes are inconsistent");
+	}
+
+	private boolean isFree(int ordinal) {
+		return !allocated.get(ordinal) && !broken.get(ordinal);
+	}
+
+	private void add(int ordinal) {
+		int bucket = catalog.bucketOf(ordinal);
+		members[bucket][sizes[bucket]] = ordinal;
+		positions[ordinal] = sizes[bucket]++;
+	}
+
+	private void remove(int ordinal) {
+		int bucket = catalog.bucketOf(ordinal);
+		int position = positions[ordinal];
+		int last = members[bucket][--sizes[bucket]];
+
+		members[bucket][position] = last;
+		positions[last] = position;
+		positions[ordinal] = -1;
+	}
+
+	private int sum(int[] buckets) {
+		int total = 0;
+		for (int bucket : buckets) total += sizes[bucket];
+		return total;
+	}
+
+	private int[] floorBuckets(LockerFloor floor) {
+		int[] buckets = new int[catalog.heightSlots()];
+		for (int height = 0; height < buckets.length; height++) {
+			buckets[height] = catalog.bucket(floor, height);
+		}
+		return buckets;
+	}
+
+	private int[] heightBuckets(LockerFloor floor, Collection<Integer> heights) {
+		return heights.stream()
+			.distinct()
+			.mapToInt(height -> catalog.bucket(floor, height))
+			.filter(bucket -> bucket >= 0)
+			.toArray();
+	}
+}
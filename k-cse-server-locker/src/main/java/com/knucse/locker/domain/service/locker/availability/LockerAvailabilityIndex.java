@@ -0,0 +1,219 @@
+package com.knucse.locker.domain.service.locker.availability;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.knucse.locker.config.LockerAvailabilityProperties;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.AllocateRepository;
+import com.knucse.locker.domain.persistence.LockerRepository;
+import com.knucse.locker.domain.persistence.projection.LockerSlot;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 신청 폼별 사물함 가용성 인덱스
+ * - 신청 폼을 처음 사용할 때 사물함 요약 정보와 할당된 사물함 이름만 조회하여 비트맵을 구성합니다.
+ * - 할당(reserve)은 즉시 반영하고 트랜잭션이 롤백되면 되돌리며, 할당 해제(release)는 커밋 이후에 반영합니다.
+ * - 사물함 목록과 고장 여부는 DB 에서 직접 관리하므로, refresh-interval 마다 다시 읽어 구성된 비트맵에 반영합니다.
+ *   고장 여부만 바뀌면 비트맵을 그대로 두고 고장 표시만 바꾸며, 사물함이 추가/삭제되면 카탈로그를 다시 구성합니다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class LockerAvailabilityIndex {
+	private final LockerRepository lockerRepository;
+	private final AllocateRepository allocateRepository;
+	private final LockerAvailabilityProperties properties;
+
+	private final Map<Long, LockerAvailability> availabilities = new ConcurrentHashMap<>();
+
+	/*
+	 * 카탈로그와 고장 비트맵은 인덱스 잠금으로 보호
+	 * - 잠금을 잡은 채 DB 를 조회하므로, 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock 을 사용
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+	private LockerCatalog catalog;
+	private BitSet brokenLockers;
+	private ScheduledExecutorService refresher;
+
+	@PostConstruct
+	void start() {
+		refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "locker-availability-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = properties.getRefreshInterval().toMillis();
+		refresher.scheduleWithFixedDelay(this::refreshQuietly, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		refresher.shutdownNow();
+	}
+
+	/**
+	 * 신청 폼의 가용성 비트맵을 조회합니다. 없으면 DB 에서 구성합니다.
+	 *
+	 * @param applyForm 신청 폼 엔티티
+	 * @return 가용성 비트맵
+	 */
+	public LockerAvailability get(ApplyForm applyForm) {
+		LockerAvailability availability = availabilities.get(applyForm.getId());
+		if (availability != null) return availability;
+
+		lock.lock();
+		try {
+			availability = availabilities.get(applyForm.getId());
+			if (availability == null) {
+				availability = load(applyForm);
+				availabilities.put(applyForm.getId(), availability);
+			}
+			return availability;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 특정 사물함을 할당 상태로 표시합니다. 현재 트랜잭션이 롤백되면 할당 상태를 되돌립니다.
+	 */
+	public void reserve(ApplyForm applyForm, String lockerName) {
+		LockerAvailability availability = get(applyForm);
+		if (!availability.reserve(lockerName)) {
+			log.warn("Locker {} was not free in availability index of apply form {}", lockerName, applyForm.getId());
+			return;
+		}
+		releaseOnRollback(availability, lockerName);
+	}
+
+	/**
+	 * 가용성 비트맵에서 이미 선택(reserve)된 사물함을 현재 트랜잭션이 롤백되면 되돌리도록 등록합니다.
+	 */
+	public void releaseOnRollback(LockerAvailability availability, String lockerName) {
+		releaseOnRollback(availability, List.of(lockerName));
+	}
+
+	/**
+	 * 가용성 비트맵에서 이미 선택(reserve)된 사물함들을 현재 트랜잭션이 롤백되면 되돌리도록 한 번에 등록합니다.
+	 */
+	public void releaseOnRollback(LockerAvailability availability, Collection<String> lockerNames) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) lockerNames.forEach(availability::release);
+			}
+		});
+	}
+
+	/**
+	 * 특정 사물함의 할당 상태를 해제합니다. 현재 트랜잭션이 커밋된 이후에 반영합니다.
+	 */
+	public void release(ApplyForm applyForm, String lockerName) {
+		LockerAvailability availability = get(applyForm);
+		afterCommit(() -> availability.release(lockerName));
+	}
+
+	/**
+	 * 신청 폼의 가용성 비트맵을 폐기합니다. 현재 트랜잭션이 커밋된 이후에 반영하며, 다음 조회 시 DB 에서 다시 구성합니다.
+	 * - 다른 신청 폼의 비트맵은 그대로 두므로, 진행 중인 다른 신청 폼의 할당 표시는 유지됩니다.
+	 */
+	public void invalidate(ApplyForm applyForm) {
+		Long applyFormId = applyForm.getId();
+		afterCommit(() -> availabilities.remove(applyFormId));
+	}
+
+	/**
+	 * 사물함 목록과 고장 여부를 DB 에서 다시 읽어 반영합니다.
+	 * - 카탈로그가 같으면 구성된 비트맵의 고장 표시만 바꾸므로, 진행 중인 할당 표시는 유지됩니다.
+	 * - 사물함이 추가/삭제되었으면 카탈로그를 다시 구성하고, 이전 카탈로그의 비트맵은 폐기합니다. (다음 조회 시 DB 에서 다시 구성)
+	 */
+	void refresh() {
+		lock.lock();
+		try {
+			if (catalog == null) return;
+
+			List<LockerSlot> slots = lockerRepository.findAllSlots();
+			if (!catalog.matches(slots)) {
+				log.info("Locker catalog changed from {} to {} lockers, rebuilding availability index", catalog.size(), slots.size());
+				catalog = LockerCatalog.of(slots);
+			}
+			brokenLockers = brokenOf(slots);
+
+			availabilities.forEach((applyFormId, availability) -> {
+				if (availability.catalog() == catalog) availability.updateBroken(brokenLockers);
+				else availabilities.remove(applyFormId, availability);
+			});
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void refreshQuietly() {
+		try {
+			refresh();
+		} catch (RuntimeException e) {
+			log.warn("Failed to refresh locker availability index", e);
+		}
+	}
+
+	private LockerAvailability load(ApplyForm applyForm) {
+		List<String> allocatedLockerNames = allocateRepository.findLockerNamesByApplyForm(applyForm);
+		if (catalog != null && allocatedLockerNames.stream().anyMatch(name -> catalog.ordinalOf(name) < 0)) {
+			/*
+			 * 카탈로그 구성 이후에 추가된 사물함이 있으면 카탈로그만 다시 구성
+			 * - 이미 구성된 다른 신청 폼의 비트맵은 자신의 카탈로그를 들고 있으므로 그대로 두어, 진행 중인 할당 표시를 잃지 않도록 함
+			 */
+			catalog = null;
+		}
+		return LockerAvailability.of(catalog(), allocatedLockerNames, brokenLockers);
+	}
+
+	private LockerCatalog catalog() {
+		if (catalog == null) {
+			List<LockerSlot> slots = lockerRepository.findAllSlots();
+			brokenLockers = brokenOf(slots);
+			catalog = LockerCatalog.of(slots);
+		}
+		return catalog;
+	}
+
+	private static BitSet brokenOf(List<LockerSlot> slots) {
+		BitSet broken = new BitSet(slots.size());
+		for (int ordinal = 0; ordinal < slots.size(); ordinal++) {
+			if (Boolean.TRUE.equals(slots.get(ordinal).broken())) broken.set(ordinal);
+		}
+		return broken;
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
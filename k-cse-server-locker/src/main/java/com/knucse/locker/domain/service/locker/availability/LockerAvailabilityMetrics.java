@@ -0,0 +1,50 @@
+package com.knucse.locker.domain.service.locker.availability;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.knucse.locker.domain.exception.locker.applyForm.ApplyFormNotFoundException;
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * 층별 사용 가능한 사물함 수 게이지
+ * - 활성화된 신청 폼의 가용성 비트맵에서 읽으므로 수집(scrape) 시 DB 를 조회하지 않습니다. (비트맵이 아직 없으면 한 번 구성)
+ * - 활성화된 신청 폼이 없으면 NaN 을 기록합니다.
+ */
+@Component
+public class LockerAvailabilityMetrics {
+	private static final String METRIC_NAME = "locker.free";
+
+	private final ApplyFormService applyFormService;
+	private final LockerAvailabilityIndex lockerAvailabilityIndex;
+
+	public LockerAvailabilityMetrics(
+		ApplyFormService applyFormService,
+		LockerAvailabilityIndex lockerAvailabilityIndex,
+		ObjectProvider<MeterRegistry> meterRegistryProvider
+	) {
+		this.applyFormService = applyFormService;
+		this.lockerAvailabilityIndex = lockerAvailabilityIndex;
+
+		MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+		for (LockerFloor floor : LockerFloor.values()) {
+			Gauge.builder(METRIC_NAME, () -> freeCount(floor))
+				.tag("floor", floor.name())
+				.description("활성화된 신청 폼의 층별 사용 가능한 사물함 수")
+				.register(meterRegistry);
+		}
+	}
+
+	private double freeCount(LockerFloor floor) {
+		try {
+			return lockerAvailabilityIndex.get(applyFormService.getActiveApplyForm()).freeCount(floor);
+		} catch (ApplyFormNotFoundException e) {
+			return Double.NaN;
+		}
+	}
+}
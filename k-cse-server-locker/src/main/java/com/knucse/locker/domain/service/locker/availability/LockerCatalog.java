@@ -0,0 +1,106 @@
+package com.knucse.locker.domain.service.locker.availability;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.persistence.projection.LockerSlot;
+
+/**
+ * 사물함 이름을 고정된 서수(ordinal)로, 서수를 (층, 높이) 버킷으로 매핑하는 불변 카탈로그
+ * - 서수는 사물함 이름 순으로 부여됩니다.
+ * - 버킷 번호는 floor.ordinal() * heightSlots + height 입니다.
+ */
+public final class LockerCatalog {
+	private final String[] names;
+	private final int[] bucketOf;
+	private final Map<String, Integer> ordinalOf;
+	private final int heightSlots;
+
+	private LockerCatalog(List<LockerSlot> slots) {
+		int size = slots.size();
+		int maxHeight = 0;
+		for (LockerSlot slot : slots) {
+			maxHeight = Math.max(maxHeight, slot.height());
+		}
+
+		this.names = new String[size];
+		this.bucketOf = new int[size];
+		this.ordinalOf = new HashMap<>(size * 2);
+		this.heightSlots = maxHeight + 1;
+
+		for (int ordinal = 0; ordinal < size; ordinal++) {
+			LockerSlot slot = slots.get(ordinal);
+			names[ordinal] = slot.lockerName();
+			bucketOf[ordinal] = bucket(slot.floor(), slot.height());
+			ordinalOf.put(slot.lockerName(), ordinal);
+		}
+	}
+
+	public static LockerCatalog of(List<LockerSlot> slots) {
+		return new LockerCatalog(slots);
+	}
+
+	/**
+	 * 사물함 요약 정보 목록이 이 카탈로그와 같은 서수와 버킷을 갖는지 확인합니다. (고장 여부는 비교하지 않음)
+	 *
+	 * @param slots 이름 순으로 정렬된 사물함 요약 정보 목록
+	 * @return 사물함이 추가/삭제되거나 층과 높이가 바뀌지 않았으면 true
+	 */
+	public boolean matches(List<LockerSlot> slots) {
+		if (slots.size() != names.length) return false;
+		for (int ordinal = 0; ordinal < names.length; ordinal++) {
+			LockerSlot slot = slots.get(ordinal);
+			if (!names[ordinal].equals(slot.lockerName())) return false;
+			if (bucketOf[ordinal] != bucket(slot.floor(), slot.height())) return false;
+		}
+		return true;
+	}
+
+	public int size() {
+		return names.length;
+	}
+
+	public int bucketCount() {
+		return LockerFloor.values().length * heightSlots;
+	}
+
+	public int heightSlots() {
+		return heightSlots;
+	}
+
+	/**
+	 * 층과 높이에 해당하는 버킷 번호를 반환합니다.
+	 *
+	 * @return 버킷 번호, 카탈로그에 없는 높이면 -1
+	 */
+	public int bucket(LockerFloor floor, int height) {
+		if (height < 0 || height >= heightSlots) return -1;
+		return floor.ordinal() * heightSlots + height;
+	}
+
+	public LockerFloor floorOfBucket(int bucket) {
+		return LockerFloor.values()[bucket / heightSlots];
+	}
+
+	public int heightOfBucket(int bucket) {
+		return bucket % heightSlots;
+	}
+
+	public String nameOf(int ordinal) {
+		return names[ordinal];
+	}
+
+	public int bucketOf(int ordinal) {
+		return bucketOf[ordinal];
+	}
+
+	/**
+	 * @return 사물함 서수, 카탈로그에 없는 사물함이면 -1
+	 */
+	public int ordinalOf(String lockerName) {
+		Integer ordinal = ordinalOf.get(lockerName);
+		return ordinal == null ? -1 : ordinal;
+	}
+}
@@ -0,0 +1,117 @@
+package com.knucse.locker.domain.service.locker.availability;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * 용량이 있는 그래프에서 최소 비용 최대 유량을 구하는 최단 경로 반복(successive shortest path) 구현
+ * - 노드 수가 적고(신청 그룹 + 버킷) 유량이 큰 그래프를 가정하므로 경로마다 병목 용량만큼 한 번에 흘립니다.
+ * - 간선 비용은 음수가 아니어야 합니다.
+ */
+final class MinCostFlow {
+	private final int nodeCount;
+
+	private int[] head;
+	private int[] next;
+	private int[] to;
+	private long[] capacity;
+	private long[] cost;
+	private int edgeCount;
+
+	MinCostFlow(int nodeCount) {
+		this.nodeCount = nodeCount;
+		this.head = new int[nodeCount];
+		this.next = new int[16];
+		this.to = new int[16];
+		this.capacity = new long[16];
+		this.cost = new long[16];
+		Arrays.fill(head, -1);
+	}
+
+	/**
+	 * 간선을 추가합니다.
+	 *
+	 * @return 간선 번호 (유량 조회에 사용)
+	 */
+	int addEdge(int from, int target, long edgeCapacity, long edgeCost) {
+		ensureCapacity(edgeCount + 2);
+		int edge = edgeCount;
+		link(from, target, edgeCapacity, edgeCost);
+		link(target, from, 0, -edgeCost);
+		return edge;
+	}
+
+	/**
+	 * 간선에 흐른 유량을 반환합니다.
+	 */
+	long flow(int edge) {
+		return capacity[edge ^ 1];
+	}
+
+	/**
+	 * source 에서 sink 로 최소 비용 최대 유량을 흘립니다.
+	 *
+	 * @return 총 비용
+	 */
+	long solve(int source, int sink) {
+		long totalCost = 0;
+		long[] distance = new long[nodeCount];
+		int[] parentEdge = new int[nodeCount];
+		boolean[] queued = new boolean[nodeCount];
+		ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+		while (true) {
+			Arrays.fill(distance, Long.MAX_VALUE);
+			Arrays.fill(parentEdge, -1);
+			distance[source] = 0;
+			queue.add(source);
+			queued[source] = true;
+
+			/* 잔여 그래프에는 음수 비용 역간선이 있으므로 SPFA 로 최단 경로를 구한다. */
+			while (!queue.isEmpty()) {
+				int node = queue.poll();
+				queued[node] = false;
+				for (int edge = head[node]; edge != -1; edge = next[edge]) {
+					if (capacity[edge] == 0) continue;
+					long candidate = distance[node] + cost[edge];
+					if (candidate < distance[to[edge]]) {
+						distance[to[edge]] = candidate;
+						parentEdge[to[edge]] = edge;
+						if (!queued[to[edge]]) {
+							queue.add(to[edge]);
+							queued[to[edge]] = true;
+						}
+					}
+				}
+			}
+			if (distance[sink] == Long.MAX_VALUE) return totalCost;
+
+			long bottleneck = Long.MAX_VALUE;
+			for (int node = sink; node != source; node = to[parentEdge[node] ^ 1]) {
+				bottleneck = Math.min(bottleneck, capacity[parentEdge[node]]);
+			}
+			for (int node = sink; node != source; node = to[parentEdge[node] ^ 1]) {
+				capacity[parentEdge[node]] -= bottleneck;
+				capacity[parentEdge[node] ^ 1] += bottleneck;
+			}
+			totalCost += bottleneck * distance[sink];
+		}
+	}
+
+	private void link(int from, int target, long edgeCapacity, long edgeCost) {
+		to[edgeCount] = target;
+		capacity[edgeCount] = edgeCapacity;
+		cost[edgeCount] = edgeCost;
+		next[edgeCount] = head[from];
+		head[from] = edgeCount++;
+	}
+
+	private void ensureCapacity(int required) {
+		if (required <= to.length) return;
+		int size = Math.max(required, to.length * 2);
+		next = Arrays.copyOf(next, size);
+		to = Arrays.copyOf(to, size);
+		capacity = Arrays.copyOf(capacity, size);
+		cost = Arrays.copyOf(cost, size);
+	}
+}
@@ -0,0 +1,68 @@
+package com.knucse.locker.domain.service.locker.dashboard;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyChangedEvent;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.persistence.projection.ApplyCountRow;
+
+/**
+ * 신청 폼 하나의 신청 수 집계 (기간별, 상태별, 1지망 층/높이별)
+ * - 여러 스레드가 동시에 갱신하므로 각 칸을 AtomicLongArray 로 관리합니다.
+ * - 칸마다 따로 갱신하므로 읽는 순간 기간별 합계와 상태별 합계가 잠시 어긋날 수 있습니다.
+ */
+public final class ApplyCounters {
+	private static final int HEIGHT_COUNT = ApplyHeight.values().length;
+
+	private final AtomicLongArray byPeriod = new AtomicLongArray(ApplyPeriod.values().length);
+	private final AtomicLongArray byStatus = new AtomicLongArray(ApplyStatus.values().length);
+	private final AtomicLongArray byFirstChoice = new AtomicLongArray(LockerFloor.values().length * HEIGHT_COUNT);
+
+	/**
+	 * DB 집계 결과로 초기 값을 채운 집계를 만듭니다.
+	 */
+	public static ApplyCounters of(List<ApplyCountRow> rows) {
+		ApplyCounters counters = new ApplyCounters();
+		rows.forEach(row -> counters.add(row.period(), row.status(), row.firstFloor(), row.firstHeight(), row.count()));
+		return counters;
+	}
+
+	/**
+	 * 신청 변경을 반영합니다. (이전 값은 빼고 이후 값은 더함)
+	 */
+	public void apply(ApplyChangedEvent event) {
+		add(event.before(), -1);
+		add(event.after(), 1);
+	}
+
+	public long period(ApplyPeriod period) {
+		return byPeriod.get(period.ordinal());
+	}
+
+	public long status(ApplyStatus status) {
+		return byStatus.get(status.ordinal());
+	}
+
+	public long firstChoice(LockerFloor floor, ApplyHeight height) {
+		return byFirstChoice.get(firstChoiceIndex(floor, height));
+	}
+
+	private void add(ApplyChangedEvent.Snapshot snapshot, long delta) {
+		if (snapshot == null) return;
+		add(snapshot.period(), snapshot.status(), snapshot.firstFloor(), snapshot.firstHeight(), delta);
+	}
+
+	private void add(ApplyPeriod period, ApplyStatus status, LockerFloor firstFloor, ApplyHeight firstHeight, long delta) {
+		if (period != null) byPeriod.addAndGet(period.ordinal(), delta);
+		if (status != null) byStatus.addAndGet(status.ordinal(), delta);
+		if (firstFloor != null && firstHeight != null) byFirstChoice.addAndGet(firstChoiceIndex(firstFloor, firstHeight), delta);
+	}
+
+	private static int firstChoiceIndex(LockerFloor floor, ApplyHeight height) {
+		return floor.ordinal() * HEIGHT_COUNT + height.ordinal();
+	}
+}
@@ -0,0 +1,272 @@
+package com.knucse.locker.domain.service.locker.dashboard;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.knucse.locker.api.locker.dashboard.dto.ApplyDashboardReadDto;
+import com.knucse.locker.config.DashboardProperties;
+import com.knucse.locker.domain.exception.locker.applyForm.ApplyFormNotFoundException;
+import com.knucse.locker.domain.exception.locker.dashboard.DashboardSubscriberLimitException;
+import com.knucse.locker.domain.model.locker.apply.ApplyChangedEvent;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.ApplyRepository;
+import com.knucse.locker.domain.persistence.projection.ApplyCountRow;
+import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
+import com.knucse.locker.domain.service.locker.availability.LockerAvailabilityIndex;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 집행부 실시간 신청 현황 (Server-Sent Events)
+ * - 구독 중인 신청 폼마다 신청 수 집계(ApplyCounters)를 메모리에 두고, 신청 변경 이벤트를 커밋 이후에 반영합니다.
+ * - 집계는 첫 구독 때 한 번의 GROUP BY 조회로 구성하고, 마지막 구독자가 나가면 버립니다. (다음 구독 때 다시 구성)
+ *   조회 전에 구독을 먼저 등록하여 조회하는 동안 커밋된 변경을 모아 두었다가 조회 결과에 더하므로, 변경이 빠지지 않습니다.
+ *   조회 직전에 커밋되었지만 커밋 이후 처리가 늦게 실행된 변경은 두 번 반영될 수 있어, reconcile-interval 마다 같은 방식으로
+ *   다시 조회하여 바로잡습니다.
+ * - 층별 남은 사물함 수는 가용성 비트맵(LockerAvailabilityIndex)에서 읽습니다.
+ * - 전송은 push-interval 마다 한 번, 집계가 바뀐 경우에만 하므로 신청이 몰려도 전송 횟수는 늘지 않습니다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ApplyDashboardService {
+	private static final String EVENT_NAME = "dashboard";
+
+	private final ApplyRepository applyRepository;
+	private final ApplyFormService applyFormService;
+	private final LockerAvailabilityIndex lockerAvailabilityIndex;
+	private final DashboardProperties properties;
+
+	private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+	/* 구독 추가/제거는 잠금으로 직렬화 (집계 구성 중 DB 를 조회하므로 synchronized 대신 ReentrantLock 사용) */
+	private final ReentrantLock lock = new ReentrantLock();
+	private ScheduledExecutorService pusher;
+
+	@PostConstruct
+	void start() {
+		pusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "apply-dashboard");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = properties.getPushInterval().toMillis();
+		pusher.scheduleWithFixedDelay(this::pushAll, interval, interval, TimeUnit.MILLISECONDS);
+		long reconcileInterval = properties.getReconcileInterval().toMillis();
+		pusher.scheduleWithFixedDelay(this::reconcileAll, reconcileInterval, reconcileInterval, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		pusher.shutdownNow();
+		subscriptions.values().forEach(subscription -> subscription.getEmitters().forEach(SseEmitter::complete));
+		subscriptions.clear();
+	}
+
+	/**
+	 * 특정 연도와 학기의 신청 현황을 구독합니다.
+	 *
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 * @throws DashboardSubscriberLimitException "DASHBOARD_SUBSCRIBER_LIMIT"
+	 */
+	public SseEmitter subscribe(Integer year, Integer semester) {
+		return subscribe(applyFormService.getApplyFormByYearAndSemester(year, semester));
+	}
+
+	/**
+	 * 현재 활성화된 신청 폼의 신청 현황을 구독합니다.
+	 *
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 * @throws DashboardSubscriberLimitException "DASHBOARD_SUBSCRIBER_LIMIT"
+	 */
+	public SseEmitter subscribeNow() {
+		return subscribe(applyFormService.getActiveApplyForm());
+	}
+
+	/**
+	 * 신청 변경을 구독 중인 신청 폼의 집계에 반영합니다. (구독자가 없는 신청 폼은 무시)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onApplyChanged(ApplyChangedEvent event) {
+		Subscription subscription = subscriptions.get(event.applyFormId());
+		if (subscription != null) subscription.apply(event);
+	}
+
+	private SseEmitter subscribe(ApplyForm applyForm) {
+		SseEmitter emitter = new SseEmitter(properties.getEmitterTimeout().toMillis());
+		Subscription subscription;
+		boolean created = false;
+
+		lock.lock();
+		try {
+			int subscribers = subscriptions.values().stream().mapToInt(s -> s.getEmitters().size()).sum();
+			if (subscribers >= properties.getMaxSubscribers()) throw new DashboardSubscriberLimitException();
+
+			subscription = subscriptions.get(applyForm.getId());
+			if (subscription == null) {
+				/* 조회하는 동안 커밋된 변경을 모으도록 먼저 등록 */
+				subscription = new Subscription(applyForm);
+				subscription.startBuffering();
+				subscriptions.put(applyForm.getId(), subscription);
+				try {
+					subscription.load(applyRepository.countRowsByApplyForm(applyForm));
+				} catch (RuntimeException e) {
+					subscriptions.remove(applyForm.getId());
+					throw e;
+				}
+				created = true;
+			}
+			subscription.getEmitters().add(emitter);
+		} finally {
+			lock.unlock();
+		}
+
+		emitter.onCompletion(() -> unsubscribe(applyForm.getId(), emitter));
+		emitter.onTimeout(() -> unsubscribe(applyForm.getId(), emitter));
+		emitter.onError(e -> unsubscribe(applyForm.getId(), emitter));
+
+		/* 구독 직후 현재 집계를 바로 보냄 (새 구독이면 전송 스레드가 같은 집계를 다시 보내지 않도록 기록) */
+		ApplyDashboardReadDto current = snapshot(subscription);
+		send(emitter, current);
+		if (created) subscription.markSent(current, System.nanoTime());
+		return emitter;
+	}
+
+	private void unsubscribe(Long applyFormId, SseEmitter emitter) {
+		lock.lock();
+		try {
+			Subscription subscription = subscriptions.get(applyFormId);
+			if (subscription == null) return;
+			subscription.getEmitters().remove(emitter);
+			if (subscription.getEmitters().isEmpty()) subscriptions.remove(applyFormId);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 집계가 바뀐 신청 폼의 구독자에게 현황을 보내고, 오래 보내지 않은 구독자에게는 연결 유지용 주석을 보냅니다.
+	 */
+	private void pushAll() {
+		long now = System.nanoTime();
+		for (Subscription subscription : subscriptions.values()) {
+			try {
+				ApplyDashboardReadDto current = snapshot(subscription);
+				if (!current.equals(subscription.lastSent)) {
+					subscription.markSent(current, now);
+					subscription.getEmitters().forEach(emitter -> send(emitter, current));
+				} else if (now - subscription.lastSentAt >= properties.getHeartbeatInterval().toNanos()) {
+					subscription.lastSentAt = now;
+					subscription.getEmitters().forEach(this::heartbeat);
+				}
+			} catch (RuntimeException e) {
+				log.warn("Failed to push dashboard of apply form {}", subscription.getApplyForm().getId(), e);
+			}
+		}
+	}
+
+	/**
+	 * 구독 중인 신청 폼의 집계를 DB 집계로 다시 맞춥니다. (조회하는 동안 커밋된 변경은 모아 두었다가 조회 결과에 더함)
+	 * - 새 구독의 첫 조회와 겹치지 않도록 구독 추가/제거와 같은 잠금 안에서 다시 조회합니다.
+	 */
+	private void reconcileAll() {
+		lock.lock();
+		try {
+			for (Subscription subscription : subscriptions.values()) {
+				try {
+					subscription.startBuffering();
+					subscription.load(applyRepository.countRowsByApplyForm(subscription.getApplyForm()));
+				} catch (RuntimeException e) {
+					subscription.stopBuffering();
+					log.warn("Failed to reconcile dashboard of apply form {}", subscription.getApplyForm().getId(), e);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private ApplyDashboardReadDto snapshot(Subscription subscription) {
+		ApplyForm applyForm = subscription.getApplyForm();
+		return ApplyDashboardReadDto.of(
+			applyForm.getId(), subscription.getCounters(), lockerAvailabilityIndex.get(applyForm)
+		);
+	}
+
+	private void send(SseEmitter emitter, ApplyDashboardReadDto dashboard) {
+		try {
+			emitter.send(SseEmitter.event().name(EVENT_NAME).data(dashboard));
+		} catch (IOException | IllegalStateException e) {
+			/* 연결이 끊긴 구독자: 완료 콜백에서 구독을 정리 */
+			emitter.completeWithError(e);
+		}
+	}
+
+	private void heartbeat(SseEmitter emitter) {
+		try {
+			emitter.send(SseEmitter.event().comment("heartbeat"));
+		} catch (IOException | IllegalStateException e) {
+			emitter.completeWithError(e);
+		}
+	}
+
+	/**
+	 * 신청 폼 하나의 집계와 구독자 목록
+	 * - 집계를 조회하는 동안(buffered != null)에는 변경을 모아 두고, 조회 결과에 더한 집계로 교체합니다.
+	 * - lastSent, lastSentAt 은 전송 스레드와 새 구독의 첫 전송에서 씁니다.
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	private static final class Subscription {
+		private final ApplyForm applyForm;
+		private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+		private volatile ApplyCounters counters = new ApplyCounters();
+		private List<ApplyChangedEvent> buffered;
+		private volatile ApplyDashboardReadDto lastSent;
+		private volatile long lastSentAt;
+
+		synchronized void apply(ApplyChangedEvent event) {
+			if (buffered != null) buffered.add(event);
+			counters.apply(event);
+		}
+
+		synchronized void startBuffering() {
+			buffered = new ArrayList<>();
+		}
+
+		synchronized void stopBuffering() {
+			buffered = null;
+		}
+
+		/**
+		 * 조회 결과에 조회하는 동안 모아 둔 변경을 더한 집계로 교체합니다.
+		 */
+		synchronized void load(List<ApplyCountRow> rows) {
+			ApplyCounters loaded = ApplyCounters.of(rows);
+			buffered.forEach(loaded::apply);
+			counters = loaded;
+			buffered = null;
+		}
+
+		void markSent(ApplyDashboardReadDto dashboard, long sentAt) {
+			lastSent = dashboard;
+			lastSentAt = sentAt;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.knucse.locker.domain.service.locker.lottery;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시드 기반 재현 가능한 추첨
+ * - 가중치가 높은 순으로 정렬하고, 같은 가중치 안에서는 Efraimidis–Spirakis 키(ln(u) / 추첨권)로 가중 셔플합니다.
+ * - 입력을 식별자 순으로 정렬한 뒤 고정 크기 구간으로 나누고, 구간마다 SplittableRandom 을 순서대로 split 하여 병렬로 키를 계산합니다.
+ *   따라서 입력 순서, 병렬도와 무관하게 같은 시드와 같은 입력이면 항상 같은 결과가 나옵니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Lottery {
+	private static final int PARTITION_SIZE = 4096;
+
+	/**
+	 * 새로운 추첨 시드를 생성합니다.
+	 */
+	public static long newSeed() {
+		return new SecureRandom().nextLong();
+	}
+
+	/**
+	 * 추첨 순서대로 정렬된 새 목록을 반환합니다.
+	 *
+	 * @param items 추첨 대상 (같은 식별자가 없어야 함)
+	 * @param idOf 대상의 고유 식별자
+	 * @param weightOf 가중치 (높을수록 먼저, 추첨보다 우선)
+	 * @param ticketsOf 같은 가중치 안에서의 추첨권 수 (양수, 많을수록 앞에 올 확률이 높음)
+	 * @param random 추첨에 사용할 난수 생성기
+	 * @return 추첨 순서대로 정렬된 목록
+	 */
+	public static <T> List<T> draw(
+		List<T> items, ToLongFunction<T> idOf, ToIntFunction<T> weightOf, ToDoubleFunction<T> ticketsOf,
+		SplittableRandom random
+	) {
+		// 1. 입력 순서와 무관하도록 식별자 순으로 정렬한다.
+		List<T> sorted = new ArrayList<>(items);
+		sorted.sort(Comparator.comparingLong(idOf));
+
+		// 2. 구간마다 난수 생성기를 순서대로 split 한다. (split 순서가 결과를 결정)
+		int partitions = (sorted.size() + PARTITION_SIZE - 1) / PARTITION_SIZE;
+		SplittableRandom[] partitionRandoms = new SplittableRandom[partitions];
+		for (int partition = 0; partition < partitions; partition++) {
+			partitionRandoms[partition] = random.split();
+		}
+
+		// 3. 구간별로 병렬로 추첨 키를 계산한다.
+		Ticket[] tickets = new Ticket[sorted.size()];
+		IntStream.range(0, partitions).parallel().forEach(partition -> {
+			SplittableRandom partitionRandom = partitionRandoms[partition];
+			int end = Math.min(sorted.size(), (partition + 1) * PARTITION_SIZE);
+			for (int index = partition * PARTITION_SIZE; index < end; index++) {
+				T item = sorted.get(index);
+				double u = 1.0 - partitionRandom.nextDouble(); // (0, 1]
+				tickets[index] = new Ticket(index, weightOf.applyAsInt(item), Math.log(u) / ticketsOf.applyAsDouble(item));
+			}
+		});
+
+		// 4. 가중치, 추첨 키 순으로 정렬한다. (키가 같으면 식별자 순)
+		Arrays.parallelSort(tickets, Comparator.comparingInt(Ticket::weight).reversed()
+			.thenComparing(Comparator.comparingDouble(Ticket::key).reversed())
+			.thenComparingInt(Ticket::index));
+
+		List<T> drawn = new ArrayList<>(tickets.length);
+		for (Ticket ticket : tickets) {
+			drawn.add(sorted.get(ticket.index()));
+		}
+		return drawn;
+	}
+
+	private record Ticket(int index, int weight, double key) { }
+}
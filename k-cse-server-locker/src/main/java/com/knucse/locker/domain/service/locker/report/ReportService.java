@@ -1,5 +1,10 @@
 package com.knucse.locker.domain.service.locker.report;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,4 +48,18 @@ public class ReportService {
 		return reportRepository.findByApply(apply)
 			.orElseThrow(ReportNotFoundException::new);
 	}
+
+	/**
+	 * 여러 신청의 보고서를 한 번에 조회합니다.
+	 * - 보고서는 신청과 기본 키를 공유(@MapsId)하므로 신청 ID 로 찾을 수 있습니다.
+	 *
+	 * @param applies 신청 엔티티 목록
+	 * @return 신청 ID 를 키로 하는 보고서 Map (보고서가 없는 신청은 포함되지 않음)
+	 */
+	public Map<Long, Report> getReportsByApplies(Collection<Apply> applies) {
+		if (applies.isEmpty()) return Map.of();
+
+		return reportRepository.findAllByApplyIn(applies).stream()
+			.collect(Collectors.toMap(Report::getId, Function.identity()));
+	}
 }
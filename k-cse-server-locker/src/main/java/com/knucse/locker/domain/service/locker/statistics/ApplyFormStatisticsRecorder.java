@@ -0,0 +1,98 @@
+package com.knucse.locker.domain.service.locker.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.knucse.locker.domain.model.locker.apply.ApplyChangedEvent;
+import com.knucse.locker.domain.model.locker.statistics.ApplyStatisticsCounter;
+import com.knucse.locker.domain.model.locker.statistics.ApplyStatisticsDelta;
+import com.knucse.locker.domain.persistence.ApplyFormStatisticsCounterRepository;
+import com.knucse.student.dues.model.DuesPaidStudents;
+import com.knucse.student.dues.service.DuesService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신청 변경을 신청 폼 통계(apply_form_statistics)에 반영합니다.
+ * - 트랜잭션 안에서 발행된 변경을 신청 폼별 증감으로 모아 두었다가, 커밋 직전(beforeCommit)에 신청 폼마다 한 번의 UPDATE 로 반영합니다.
+ *   통계는 신청과 같은 트랜잭션에서 커밋되므로 롤백되면 함께 취소되고, 통계 행 잠금은 커밋 직전부터만 잡습니다.
+ * - 학생회비 납부 여부는 생성/삭제된 신청의 학생을 모아 한 번의 쿼리로 조회합니다. (이후 납부 여부가 바뀐 것은 재구성으로 반영)
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplyFormStatisticsRecorder {
+	private final ApplyFormStatisticsCounterRepository counterRepository;
+	private final DuesService duesService;
+
+	@EventListener
+	public void onApplyChanged(ApplyChangedEvent event) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			PendingStatistics pending = new PendingStatistics();
+			pending.add(event);
+			pending.write();
+			return;
+		}
+		currentPending().add(event);
+	}
+
+	/**
+	 * 현재 트랜잭션에 등록된 증감을 찾고, 없으면 새로 등록합니다.
+	 * - 증감을 동기화 객체에 담아 두므로, REQUIRES_NEW 로 트랜잭션이 중단되면 증감도 함께 분리됩니다.
+	 */
+	private PendingStatistics currentPending() {
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			if (synchronization instanceof PendingStatistics pending && pending.owner() == this) return pending;
+		}
+		PendingStatistics pending = new PendingStatistics();
+		TransactionSynchronizationManager.registerSynchronization(pending);
+		return pending;
+	}
+
+	/**
+	 * 한 트랜잭션의 신청 폼별 통계 증감
+	 */
+	private final class PendingStatistics implements TransactionSynchronization {
+		/* 여러 신청 폼을 갱신할 때 교착 상태가 생기지 않도록 신청 폼 식별자 순으로 갱신 */
+		private final Map<Long, ApplyStatisticsDelta> deltas = new TreeMap<>();
+		/* 학생회비 납부 여부를 확인할 생성(+1)/삭제(-1)된 신청 */
+		private final List<ApplyChangedEvent> createdOrDeleted = new ArrayList<>();
+
+		ApplyFormStatisticsRecorder owner() {
+			return ApplyFormStatisticsRecorder.this;
+		}
+
+		void add(ApplyChangedEvent event) {
+			deltas.computeIfAbsent(event.applyFormId(), id -> new ApplyStatisticsDelta()).add(event);
+			if (event.before() == null || event.after() == null) createdOrDeleted.add(event);
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			write();
+		}
+
+		void write() {
+			addDuesPaid();
+			deltas.forEach(counterRepository::increment);
+		}
+
+		private void addDuesPaid() {
+			if (createdOrDeleted.isEmpty()) return;
+
+			DuesPaidStudents paid = duesService.getDuesPaidStudents(
+				createdOrDeleted.stream().map(ApplyChangedEvent::studentId).distinct().toList()
+			);
+			for (ApplyChangedEvent event : createdOrDeleted) {
+				if (!paid.contains(event.studentId())) continue;
+				deltas.get(event.applyFormId()).add(ApplyStatisticsCounter.DUES_PAID, event.before() == null ? 1 : -1);
+			}
+		}
+	}
+}
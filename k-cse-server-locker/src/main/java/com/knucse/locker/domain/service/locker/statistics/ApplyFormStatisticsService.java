@@ -0,0 +1,117 @@
+package com.knucse.locker.domain.service.locker.statistics;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.knucse.locker.api.locker.statistics.dto.ApplyFormStatisticsReadDto;
+import com.knucse.locker.domain.exception.locker.applyForm.ApplyFormNotFoundException;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.model.locker.statistics.ApplyFormStatistics;
+import com.knucse.locker.domain.model.locker.statistics.ApplyStatisticsCounter;
+import com.knucse.locker.domain.model.locker.statistics.ApplyStatisticsDelta;
+import com.knucse.locker.domain.persistence.ApplyFormStatisticsCounterRepository;
+import com.knucse.locker.domain.persistence.ApplyFormStatisticsRepository;
+import com.knucse.locker.domain.persistence.ApplyRepository;
+import com.knucse.locker.domain.persistence.projection.ApplyCountRow;
+import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+@Timed(value = "service.method", histogram = true)
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ApplyFormStatisticsService {
+	/* Internal Dependencies */
+	private final ApplyFormStatisticsRepository statisticsRepository;
+	private final ApplyFormStatisticsCounterRepository counterRepository;
+
+	/* External Dependencies */
+	private final ApplyRepository applyRepository;
+	private final ApplyFormService applyFormService;
+
+	/**
+	 * 특정 연도와 학기의 신청 통계를 조회합니다. (통계 행 하나만 읽으므로 신청 수와 관계없이 일정한 비용)
+	 * - 통계 행이 없는 신청 폼(통계 도입 이전의 신청 폼)은 한 번 재구성합니다. (재구성 때문에 READ COMMITTED 로 실행)
+	 *
+	 * @param year 년도
+	 * @param semester 학기
+	 * @return 신청 통계
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 */
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public ApplyFormStatisticsReadDto getStatistics(Integer year, Integer semester) {
+		ApplyForm applyForm = applyFormService.getApplyFormByYearAndSemester(year, semester);
+		return getStatistics(applyForm);
+	}
+
+	/**
+	 * 현재 활성화된 신청 폼의 신청 통계를 조회합니다.
+	 *
+	 * @return 신청 통계
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 */
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public ApplyFormStatisticsReadDto getStatisticsNow() {
+		ApplyForm applyForm = applyFormService.getActiveApplyForm();
+		return getStatistics(applyForm);
+	}
+
+	/**
+	 * 신청 테이블을 집계하여 신청 통계를 다시 만듭니다. (통계가 어긋났을 때 복구용)
+	 *
+	 * @param year 년도
+	 * @param semester 학기
+	 * @return 재구성된 신청 통계
+	 * @throws ApplyFormNotFoundException "APPLY_FORM_NOT_FOUND"
+	 */
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public ApplyFormStatisticsReadDto rebuildStatistics(Integer year, Integer semester) {
+		ApplyForm applyForm = applyFormService.getApplyFormByYearAndSemester(year, semester);
+		rebuild(applyForm);
+		return ApplyFormStatisticsReadDto.fromEntity(findStatistics(applyForm));
+	}
+
+	private ApplyFormStatisticsReadDto getStatistics(ApplyForm applyForm) {
+		ApplyFormStatistics statistics = statisticsRepository.findById(applyForm.getId())
+			.orElseGet(() -> {
+				rebuild(applyForm);
+				return findStatistics(applyForm);
+			});
+		return ApplyFormStatisticsReadDto.fromEntity(statistics);
+	}
+
+	/**
+	 * 통계 행을 먼저 잠근 뒤 신청 테이블을 집계합니다.
+	 * - 신청 트랜잭션은 커밋 직전에 통계 행을 갱신하므로, 잠금을 얻은 시점에 신청은 이미 커밋되었거나(증감 반영 완료)
+	 *   잠금이 풀릴 때까지 커밋하지 못합니다(재구성 이후에 증감 반영).
+	 * - 잠금 이후의 집계가 그 사이에 커밋된 신청을 모두 보려면 문장마다 최신 커밋을 읽어야 하므로, 호출하는 트랜잭션은
+	 *   READ COMMITTED 여야 합니다. (REPEATABLE READ 에서는 잠금 전 첫 조회의 스냅샷을 읽어, 잠금을 기다리는 동안 커밋된 신청이
+	 *   집계에서 빠지고 그 신청의 증감도 덮어쓰기로 지워집니다.)
+	 */
+	private void rebuild(ApplyForm applyForm) {
+		counterRepository.lockOrCreate(applyForm.getId());
+
+		ApplyStatisticsDelta counts = new ApplyStatisticsDelta();
+		for (ApplyCountRow row : applyRepository.countRowsByApplyForm(applyForm)) {
+			counts.add(ApplyStatisticsCounter.TOTAL, row.count());
+			counts.add(ApplyStatisticsCounter.of(row.period()), row.count());
+			counts.add(ApplyStatisticsCounter.of(row.status()), row.count());
+			if (row.firstFloor() != null && row.firstHeight() != null)
+				counts.add(ApplyStatisticsCounter.ofFirstChoice(row.firstFloor(), row.firstHeight()), row.count());
+		}
+		counts.add(ApplyStatisticsCounter.DUES_PAID, applyRepository.countDuesPaidByApplyForm(applyForm));
+
+		counterRepository.overwrite(applyForm.getId(), counts);
+		log.info("Rebuilt apply statistics for apply form {}", applyForm.getId());
+	}
+
+	private ApplyFormStatistics findStatistics(ApplyForm applyForm) {
+		/* 재구성 이후에는 항상 존재 */
+		return statisticsRepository.findById(applyForm.getId()).orElseThrow();
+	}
+}
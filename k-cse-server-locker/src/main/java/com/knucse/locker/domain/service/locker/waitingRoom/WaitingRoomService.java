@@ -0,0 +1,206 @@
+package com.knucse.locker.domain.service.locker.waitingRoom;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.knucse.common.util.datetime.DateTimeUtil;
+import com.knucse.locker.api.locker.waitingRoom.dto.WaitingRoomTicketReadDto;
+import com.knucse.locker.config.WaitingRoomProperties;
+import com.knucse.locker.domain.exception.locker.waitingRoom.WaitingRoomFullException;
+import com.knucse.locker.domain.exception.locker.waitingRoom.WaitingRoomNotAdmittedException;
+import com.knucse.locker.domain.exception.locker.waitingRoom.WaitingRoomTicketNotFoundException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신청 대기열 (메모리)
+ * - 입장권은 발급 순서대로 순번을 받고, 토큰 버킷이 허용하는 속도(초당 admitRate, 최대 burst)로 앞 순번부터 입장합니다.
+ * - 순번 조회는 메모리의 입장권과 마지막 입장 순번만 읽으므로 DB 에 부하를 주지 않습니다.
+ * - 토큰 보충과 입장 처리는 별도 스케줄러 없이 발급/조회/입장 요청이 들어올 때 몰아서 수행합니다.
+ * - 서버 인스턴스별로 동작하므로, 여러 인스턴스로 확장할 경우 인스턴스 수에 맞추어 입장 속도를 나누어야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+	private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final long MIN_POLL_MILLIS = 500;
+	private static final long MAX_POLL_MILLIS = 5_000;
+
+	private final WaitingRoomProperties properties;
+
+	private final Map<String, WaitingRoomTicket> tickets = new ConcurrentHashMap<>();
+
+	/* 아래 필드는 this 로 동기화합니다. (admittedSequence 는 순번 계산을 위해 잠금 없이 읽습니다.) */
+	private final Queue<WaitingRoomTicket> waiting = new ArrayDeque<>();
+	private long lastSequence;
+	private volatile long admittedSequence;
+	private double tokens;
+	private long refilledAtNanos;
+	private long sweptAtNanos;
+
+	@PostConstruct
+	void init() {
+		tokens = properties.getBurst();
+		refilledAtNanos = sweptAtNanos = System.nanoTime();
+	}
+
+	/**
+	 * 입장권을 발급합니다.
+	 * - 대기 중인 사람이 없고 입장 여유가 있으면 바로 입장 상태로 발급됩니다.
+	 *
+	 * @throws WaitingRoomFullException "WAITING_ROOM_FULL"
+	 */
+	public WaitingRoomTicketReadDto issueTicket() {
+		long now = System.nanoTime();
+		WaitingRoomTicket ticket;
+
+		synchronized (this) {
+			if (waiting.size() >= properties.getMaxWaiting()) throw new WaitingRoomFullException();
+
+			ticket = new WaitingRoomTicket(++lastSequence, now);
+			tickets.put(ticket.getTicketId(), ticket);
+			waiting.add(ticket);
+			advance(now);
+		}
+		return toReadDto(ticket, now);
+	}
+
+	/**
+	 * 입장권의 현재 순번을 조회합니다.
+	 * - 조회할 때마다 마지막 조회 시각이 갱신되며, 오래 조회하지 않은 입장권은 입장 대상에서 제외됩니다.
+	 *
+	 * @throws WaitingRoomTicketNotFoundException "WAITING_ROOM_TICKET_NOT_FOUND"
+	 */
+	public WaitingRoomTicketReadDto getTicket(String ticketId) {
+		long now = System.nanoTime();
+		WaitingRoomTicket ticket = findTicket(ticketId, now);
+		ticket.touch(now);
+
+		if (!ticket.isAdmitted()) {
+			synchronized (this) {
+				advance(now);
+			}
+		}
+		return toReadDto(ticket, now);
+	}
+
+	/**
+	 * 신청 요청의 입장을 확인합니다.
+	 * - 입장권 없이 요청한 경우, 대기 중인 사람이 없고 입장 여유가 있을 때만 바로 입장시킵니다.
+	 * - 입장권은 요청이 끝날 때 {@link #release(WaitingRoomTicket, boolean)} 로 반납해야 합니다.
+	 *
+	 * @param ticketId 입장권 ID (없으면 null)
+	 * @return 사용 중으로 표시된 입장권 (입장권 없이 입장했으면 null)
+	 * @throws WaitingRoomTicketNotFoundException "WAITING_ROOM_TICKET_NOT_FOUND"
+	 * @throws WaitingRoomNotAdmittedException "WAITING_ROOM_NOT_ADMITTED"
+	 */
+	public WaitingRoomTicket enter(String ticketId) {
+		long now = System.nanoTime();
+
+		if (ticketId == null || ticketId.isBlank()) {
+			synchronized (this) {
+				advance(now);
+				if (!waiting.isEmpty() || tokens < 1) throw new WaitingRoomNotAdmittedException();
+				tokens -= 1;
+			}
+			return null;
+		}
+
+		WaitingRoomTicket ticket = findTicket(ticketId, now);
+		ticket.touch(now);
+		if (!ticket.isAdmitted()) {
+			synchronized (this) {
+				advance(now);
+			}
+		}
+		if (!ticket.isAdmitted() || !ticket.getInUse().compareAndSet(false, true)) {
+			throw new WaitingRoomNotAdmittedException();
+		}
+		return ticket;
+	}
+
+	/**
+	 * 신청 요청이 끝난 입장권을 반납합니다.
+	 * - 신청에 성공하면 입장권을 폐기하고, 실패하면 입장 유효 시간 안에 다시 사용할 수 있도록 남겨 둡니다.
+	 */
+	public void release(WaitingRoomTicket ticket, boolean succeeded) {
+		if (succeeded) {
+			tickets.remove(ticket.getTicketId());
+		} else {
+			ticket.getInUse().set(false);
+		}
+	}
+
+	private WaitingRoomTicket findTicket(String ticketId, long now) {
+		WaitingRoomTicket ticket = tickets.get(ticketId);
+		if (ticket == null) throw new WaitingRoomTicketNotFoundException();
+
+		if (ticket.isAdmissionExpired(now, properties.getAdmissionTtl().toNanos()) && !ticket.getInUse().get()) {
+			tickets.remove(ticketId);
+			throw new WaitingRoomTicketNotFoundException();
+		}
+		return ticket;
+	}
+
+	/**
+	 * 토큰을 보충하고, 보충된 토큰만큼 앞 순번부터 입장시킵니다. (this 로 동기화된 상태에서 호출)
+	 */
+	private void advance(long now) {
+		double refilled = tokens + (now - refilledAtNanos) * properties.getAdmitRate() / TimeUnit.SECONDS.toNanos(1);
+		tokens = Math.min(properties.getBurst(), refilled);
+		refilledAtNanos = now;
+
+		long abandonAfterNanos = properties.getAbandonAfter().toNanos();
+		while (tokens >= 1 && !waiting.isEmpty()) {
+			WaitingRoomTicket ticket = waiting.poll();
+			if (ticket.isAbandoned(now, abandonAfterNanos)) {
+				tickets.remove(ticket.getTicketId());
+				continue;
+			}
+			ticket.admit(now);
+			admittedSequence = ticket.getSequence();
+			tokens -= 1;
+		}
+
+		/* 입장 후 사용하지 않은 입장권 정리 */
+		if (now - sweptAtNanos >= SWEEP_INTERVAL_NANOS) {
+			sweptAtNanos = now;
+			long admissionTtlNanos = properties.getAdmissionTtl().toNanos();
+			tickets.values().removeIf(ticket ->
+				ticket.isAdmissionExpired(now, admissionTtlNanos) && !ticket.getInUse().get());
+		}
+	}
+
+	private WaitingRoomTicketReadDto toReadDto(WaitingRoomTicket ticket, long now) {
+		if (ticket.isAdmitted()) {
+			long remainingNanos = properties.getAdmissionTtl().toNanos() - (now - ticket.getAdmittedAtNanos());
+			return WaitingRoomTicketReadDto.builder()
+				.ticketId(ticket.getTicketId())
+				.sequence(ticket.getSequence())
+				.admitted(true)
+				.position(0L)
+				.estimatedWaitSeconds(0L)
+				.admissionExpiresAt(DateTimeUtil.localDateTimeToString(
+					DateTimeUtil.now().plusNanos(Math.max(0, remainingNanos))))
+				.build();
+		}
+
+		long position = Math.max(1, ticket.getSequence() - admittedSequence);
+		double admitRate = properties.getAdmitRate();
+		long pollAfterMillis = (long)(position * 1000 / admitRate / 2);
+		return WaitingRoomTicketReadDto.builder()
+			.ticketId(ticket.getTicketId())
+			.sequence(ticket.getSequence())
+			.admitted(false)
+			.position(position)
+			.estimatedWaitSeconds((long)Math.ceil(position / admitRate))
+			.pollAfterMillis(Math.min(MAX_POLL_MILLIS, Math.max(MIN_POLL_MILLIS, pollAfterMillis)))
+			.build();
+	}
+}
@@ -0,0 +1,46 @@
+package com.knucse.locker.domain.service.locker.waitingRoom;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.Getter;
+
+/**
+ * 대기열 입장권
+ * - 순번(sequence)은 발급 순서대로 증가하며, 입장 순서를 결정합니다.
+ * - 시각은 모두 System.nanoTime() 기준입니다.
+ */
+@Getter
+public class WaitingRoomTicket {
+	private final String ticketId = UUID.randomUUID().toString();
+	private final long sequence;
+
+	private volatile long lastSeenNanos;
+	private volatile boolean admitted;
+	private volatile long admittedAtNanos;
+
+	/* 입장권으로 신청 요청을 처리하는 중인지 (동시에 두 요청에 사용되지 않도록) */
+	private final AtomicBoolean inUse = new AtomicBoolean();
+
+	WaitingRoomTicket(long sequence, long nowNanos) {
+		this.sequence = sequence;
+		this.lastSeenNanos = nowNanos;
+	}
+
+	void touch(long nowNanos) {
+		lastSeenNanos = nowNanos;
+	}
+
+	void admit(long nowNanos) {
+		admittedAtNanos = nowNanos;
+		admitted = true;
+	}
+
+	boolean isAdmissionExpired(long nowNanos, long admissionTtlNanos) {
+		return admitted && nowNanos - admittedAtNanos > admissionTtlNanos;
+	}
+
+	boolean isAbandoned(long nowNanos, long abandonAfterNanos) {
+		return !admitted && nowNanos - lastSeenNanos > abandonAfterNanos;
+	}
+}
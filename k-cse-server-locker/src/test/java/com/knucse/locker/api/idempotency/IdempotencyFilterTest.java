@@ -0,0 +1,147 @@
+package com.knucse.locker.api.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knucse.locker.config.IdempotencyProperties;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+class IdempotencyFilterTest {
+	private static final String PATH = "/api/v1/apply";
+	private static final String BODY = "{\"firstFloor\":\"FLOOR_L\"}";
+
+	private final IdempotencyProperties properties = new IdempotencyProperties();
+	private final IdempotencyFilter filter = new IdempotencyFilter(
+		new IdempotencyStore(properties), properties, new ObjectMapper()
+	);
+	private final AtomicInteger executions = new AtomicInteger();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 키로 다시 요청하면 처리하지 않고 저장된 응답을 돌려준다")
+	void replay() throws Exception {
+		FilterChain chain = respondWith(HttpStatus.CREATED);
+
+		MockHttpServletResponse first = perform("key-1", BODY, chain);
+		MockHttpServletResponse second = perform("key-1", BODY, chain);
+
+		assertThat(executions).hasValue(1);
+		assertThat(second.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+		assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+		assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+	}
+
+	@Test
+	@DisplayName("같은 키로 본문이 다른 요청을 보내면 422 로 거절한다")
+	void mismatch() throws Exception {
+		FilterChain chain = respondWith(HttpStatus.CREATED);
+
+		perform("key-1", BODY, chain);
+		MockHttpServletResponse second = perform("key-1", "{\"firstFloor\":\"FLOOR_3F\"}", chain);
+
+		assertThat(executions).hasValue(1);
+		assertThat(second.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+		assertThat(second.getContentAsString()).contains("IDEMPOTENCY_KEY_MISMATCH");
+	}
+
+	@Test
+	@DisplayName("같은 키의 요청이 처리 중이면 결과를 기다렸다가 같은 응답을 돌려준다")
+	void waitForInFlight() throws Exception {
+		CountDownLatch executing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		FilterChain chain = (request, response) -> {
+			executing.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respondWith(HttpStatus.CREATED).doFilter(request, response);
+		};
+
+		Future<MockHttpServletResponse> first = executor.submit(() -> perform("key-1", BODY, chain));
+		assertThat(executing.await(5, TimeUnit.SECONDS)).isTrue();
+		/* 두 번째 요청이 기다리기 시작한 뒤에 첫 요청을 끝냄 */
+		new Thread(() -> {
+			try {
+				Thread.sleep(200);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			release.countDown();
+		}).start();
+		MockHttpServletResponse second = perform("key-1", BODY, chain);
+
+		assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(HttpStatus.CREATED.value());
+		assertThat(second.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+		assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("5xx 와 429 응답은 저장하지 않으므로 같은 키로 다시 처리한다")
+	void retryAfterFailure() throws Exception {
+		perform("key-1", BODY, respondWith(HttpStatus.INTERNAL_SERVER_ERROR));
+		perform("key-1", BODY, respondWith(HttpStatus.TOO_MANY_REQUESTS));
+		MockHttpServletResponse third = perform("key-1", BODY, respondWith(HttpStatus.CREATED));
+
+		assertThat(executions).hasValue(3);
+		assertThat(third.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+	}
+
+	@Test
+	@DisplayName("Idempotency-Key 헤더가 없으면 매번 처리한다")
+	void withoutKey() throws Exception {
+		FilterChain chain = respondWith(HttpStatus.CREATED);
+
+		perform(null, BODY, chain);
+		perform(null, BODY, chain);
+
+		assertThat(executions).hasValue(2);
+	}
+
+	private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+		request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		if (key != null) request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+
+	private FilterChain respondWith(HttpStatus status) {
+		return (request, response) -> {
+			request.getInputStream().readAllBytes();
+			int execution = executions.incrementAndGet();
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			((HttpServletResponse)response).setStatus(status.value());
+			response.getOutputStream().write(("{\"execution\":" + execution + "}").getBytes(StandardCharsets.UTF_8));
+		};
+	}
+}
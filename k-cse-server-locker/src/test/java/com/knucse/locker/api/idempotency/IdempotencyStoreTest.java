@@ -0,0 +1,84 @@
+package com.knucse.locker.api.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.knucse.locker.api.idempotency.IdempotencyStore.Claim;
+import com.knucse.locker.api.idempotency.IdempotencyStore.StoredResponse;
+import com.knucse.locker.config.IdempotencyProperties;
+
+class IdempotencyStoreTest {
+	private static final String SCOPE = "20240001 /api/v1/apply key-1";
+
+	private final IdempotencyStore store = new IdempotencyStore(new IdempotencyProperties());
+
+	@Test
+	@DisplayName("같은 키를 동시에 선점하면 하나만 성공하고 나머지는 같은 기록을 받는다")
+	void claimOnce() throws Exception {
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch ready = new CountDownLatch(threads);
+		List<Callable<Claim>> tasks = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			tasks.add(() -> {
+				ready.countDown();
+				ready.await();
+				return store.claim(SCOPE, "fingerprint");
+			});
+		}
+
+		List<Claim> claims = new ArrayList<>();
+		try {
+			for (Future<Claim> claim : executor.invokeAll(tasks)) claims.add(claim.get());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(claims).filteredOn(Claim::owner).hasSize(1);
+		assertThat(claims).extracting(Claim::record).containsOnly(claims.get(0).record());
+	}
+
+	@Test
+	@DisplayName("완료하면 기다리던 요청이 응답을 받고, 이후 선점은 완료된 응답을 받는다")
+	void complete() {
+		Claim owner = store.claim(SCOPE, "fingerprint");
+		Claim waiter = store.claim(SCOPE, "fingerprint");
+		StoredResponse response = new StoredResponse(201, "application/json", "{}".getBytes());
+
+		store.complete(SCOPE, owner.record(), response);
+
+		assertThat(waiter.record().response()).isCompletedWithValue(response);
+		Claim later = store.claim(SCOPE, "fingerprint");
+		assertThat(later.owner()).isFalse();
+		assertThat(later.record().response()).isCompletedWithValue(response);
+	}
+
+	@Test
+	@DisplayName("반납하면 기다리던 요청은 실패로 깨어나고, 다음 요청이 다시 선점할 수 있다")
+	void abandon() {
+		Claim owner = store.claim(SCOPE, "fingerprint");
+		Claim waiter = store.claim(SCOPE, "fingerprint");
+
+		store.abandon(SCOPE, owner.record());
+
+		assertThat(waiter.record().response()).isCompletedExceptionally();
+		assertThat(store.claim(SCOPE, "fingerprint").owner()).isTrue();
+	}
+
+	@Test
+	@DisplayName("사용자나 경로가 다르면 같은 키도 따로 선점한다")
+	void scopes() {
+		assertThat(store.claim(SCOPE, "fingerprint").owner()).isTrue();
+		assertThat(store.claim("20240002 /api/v1/apply key-1", "fingerprint").owner()).isTrue();
+	}
+}
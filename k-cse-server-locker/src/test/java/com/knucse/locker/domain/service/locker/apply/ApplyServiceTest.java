@@ -0,0 +1,152 @@
+package com.knucse.locker.domain.service.locker.apply;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.knucse.locker.api.locker.apply.dto.ApplyCreateDto;
+import com.knucse.locker.api.locker.apply.dto.ApplyReportCreateDto;
+import com.knucse.locker.api.locker.apply.dto.ApplyReportReadDto;
+import com.knucse.locker.domain.exception.locker.apply.ApplyDuplicatedException;
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.Apply;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.model.locker.report.Report;
+import com.knucse.locker.domain.persistence.AllocateRepository;
+import com.knucse.locker.domain.persistence.ApplyQueryRepository;
+import com.knucse.locker.domain.persistence.ApplyRepository;
+import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
+import com.knucse.locker.domain.service.locker.report.ReportService;
+import com.knucse.student.student.model.Role;
+import com.knucse.student.student.model.Student;
+import com.knucse.student.student.model.StudentIdentity;
+import com.knucse.student.student.service.StudentService;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+class ApplyServiceTest {
+	private static final ApplyForm APPLY_FORM = ApplyForm.builder()
+		.id(1L).year(2026).semester(2)
+		.firstApplyStartDate(LocalDateTime.now().minusDays(30))
+		.firstApplyEndDate(LocalDateTime.now().minusDays(20))
+		.semesterEndDate(LocalDateTime.now().plusDays(30))
+		.build();
+	private static final StudentIdentity IDENTITY = new StudentIdentity(7L, "2024000007", "학생7", Role.ROLE_STUDENT);
+
+	private final ApplyRepository applyRepository = mock(ApplyRepository.class);
+	private final AllocateRepository allocateRepository = mock(AllocateRepository.class);
+	private final ApplyFormService applyFormService = mock(ApplyFormService.class);
+	private final StudentService studentService = mock(StudentService.class);
+	private final ReportService reportService = mock(ReportService.class);
+	private final ApplyService service = new ApplyService(
+		applyRepository, mock(ApplyQueryRepository.class), mock(ApplyWritePipeline.class),
+		mock(ApplicationEventPublisher.class), allocateRepository, applyFormService, studentService, reportService
+	);
+
+	/* 저장된 신청 (중복 확인 조회가 이 목록을 봄) */
+	private final List<Apply> saved = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		Student student = Student.builder()
+			.studentNumber(IDENTITY.studentNumber())
+			.studentName(IDENTITY.studentName())
+			.role(Role.ROLE_STUDENT)
+			.build();
+		ReflectionTestUtils.setField(student, "id", IDENTITY.id());
+
+		when(applyFormService.getActiveApplyForm()).thenReturn(APPLY_FORM);
+		when(studentService.findStudentByNameAndNumber(IDENTITY.studentName(), IDENTITY.studentNumber())).thenReturn(IDENTITY);
+		when(studentService.getStudentReference(IDENTITY)).thenReturn(student);
+		when(allocateRepository.existsByStudentAndApplyForm(student, APPLY_FORM)).thenReturn(true);
+		when(applyRepository.existsByStudentAndApplyFormAndStatus(eq(student), eq(APPLY_FORM), any()))
+			.thenAnswer(invocation -> saved.stream().anyMatch(apply -> apply.getStatus() == invocation.getArgument(2)));
+		when(applyRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+			Apply apply = invocation.getArgument(0);
+			ReflectionTestUtils.setField(apply, "id", (long)saved.size() + 1);
+			saved.add(apply);
+			return apply;
+		});
+		when(applyRepository.findById(anyLong())).thenAnswer(invocation -> saved.stream()
+			.filter(apply -> apply.getId().equals(invocation.getArgument(0)))
+			.findFirst());
+		when(reportService.writeReport(anyString(), any())).thenAnswer(invocation ->
+			Report.builder().id(1L).apply(invocation.getArgument(1)).content(invocation.getArgument(0)).build()
+		);
+	}
+
+	@Test
+	@DisplayName("처리되지 않은 교체 신청이 있으면 두 번째 교체 신청은 중복 신청이다")
+	void secondReplacementIsDuplicated() {
+		ApplyReportReadDto first = service.handleReplacementApply(replacement());
+
+		assertThat(first.apply().status()).isEqualTo(ApplyStatus.BROKEN_APPLY);
+		assertThatThrownBy(() -> service.handleReplacementApply(replacement()))
+			.isInstanceOf(ApplyDuplicatedException.class);
+		assertThat(saved).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("교체 신청이 처리되면 다시 교체 신청할 수 있다")
+	void replacementAfterProcessed() {
+		service.handleReplacementApply(replacement());
+		saved.get(0).updateStatus(ApplyStatus.APPROVE);
+
+		service.handleReplacementApply(replacement());
+
+		assertThat(saved).extracting(Apply::getStatus).containsExactly(ApplyStatus.APPROVE, ApplyStatus.BROKEN_APPLY);
+	}
+
+	@Test
+	@DisplayName("동시에 들어온 교체 신청은 교체 신청 유니크 제약 위반으로 중복 신청이 된다")
+	void concurrentReplacementIsDuplicated() {
+		doThrow(new DataIntegrityViolationException(
+			"could not execute statement",
+			new org.hibernate.exception.ConstraintViolationException(
+				"Duplicate entry", new SQLException("Duplicate entry"), Apply.UNIQUE_BROKEN_STUDENT_FORM
+			)
+		)).when(applyRepository).saveAndFlush(any());
+
+		assertThatThrownBy(() -> service.handleReplacementApply(replacement()))
+			.isInstanceOf(ApplyDuplicatedException.class);
+	}
+
+	@Test
+	@DisplayName("처리되지 않은 교체 신청은 생성 컬럼과 유니크 제약으로 학생과 신청 폼마다 하나로 제한한다")
+	void brokenApplyUniqueConstraint() throws NoSuchFieldException {
+		UniqueConstraint[] constraints = Apply.class.getAnnotation(Table.class).uniqueConstraints();
+		Column column = Apply.class.getDeclaredField("brokenStudentId").getAnnotation(Column.class);
+
+		assertThat(Arrays.stream(constraints).filter(constraint -> constraint.name().equals(Apply.UNIQUE_BROKEN_STUDENT_FORM)))
+			.singleElement()
+			.satisfies(constraint -> assertThat(constraint.columnNames()).containsExactly(column.name(), "apply_form_id"));
+		assertThat(column.columnDefinition()).contains("status = 'BROKEN_APPLY' then student_id");
+	}
+
+	private static ApplyReportCreateDto replacement() {
+		return new ApplyReportCreateDto(
+			new ApplyCreateDto(
+				IDENTITY.studentName(), IDENTITY.studentNumber(),
+				LockerFloor.FLOOR_L, ApplyHeight.TOP, LockerFloor.FLOOR_L, ApplyHeight.TOP
+			),
+			"문이 잠기지 않습니다."
+		);
+	}
+}
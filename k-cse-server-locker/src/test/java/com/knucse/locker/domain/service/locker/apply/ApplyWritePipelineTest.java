@@ -0,0 +1,313 @@
+package com.knucse.locker.domain.service.locker.apply;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.knucse.common.sql.QueryBudgetExceededException;
+import com.knucse.common.sql.QueryBudgetProperties;
+import com.knucse.common.sql.QueryBudgetVerifier;
+import com.knucse.common.sql.SqlStatementCountingDataSource;
+import com.knucse.locker.api.locker.apply.dto.ApplyReadDto;
+import com.knucse.locker.config.ApplyWritePipelineProperties;
+import com.knucse.locker.domain.exception.locker.allocate.AlreadyAllocatedException;
+import com.knucse.locker.domain.exception.locker.apply.ApplyDuplicatedException;
+import com.knucse.locker.domain.exception.locker.apply.ApplyPipelineRejectedException;
+import com.knucse.locker.domain.model.locker.apply.Apply;
+import com.knucse.locker.domain.model.locker.apply.ApplyChangedEvent;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.AllocateRepository;
+import com.knucse.locker.domain.persistence.ApplyBulkRepository;
+import com.knucse.locker.domain.persistence.ApplyRepository;
+import com.knucse.student.student.model.Role;
+import com.knucse.student.student.model.Student;
+import com.knucse.student.student.model.StudentIdentity;
+
+class ApplyWritePipelineTest {
+	private static final ApplyForm APPLY_FORM = ApplyForm.builder().id(1L).year(2026).semester(2).build();
+
+	private final ApplyBulkRepository applyBulkRepository = mock(ApplyBulkRepository.class);
+	private final ApplyRepository applyRepository = mock(ApplyRepository.class);
+	private final AllocateRepository allocateRepository = mock(AllocateRepository.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final ApplyWritePipelineProperties properties = new ApplyWritePipelineProperties();
+	private final QueryBudgetProperties queryBudgetProperties = new QueryBudgetProperties();
+	private final ExecutorService requests = Executors.newCachedThreadPool();
+	private ApplyWritePipeline pipeline;
+
+	@BeforeEach
+	void setUp() {
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(applyBulkRepository.insertAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+		queryBudgetProperties.setFailOnExceed(true);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		if (pipeline != null) pipeline.stop();
+		requests.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("모은 신청을 한 번의 배치 INSERT 로 저장하고 신청마다 이벤트를 발행한다")
+	void groupCommit() throws Exception {
+		properties.setWindow(Duration.ofSeconds(1));
+		properties.setMaxBatchSize(3);
+		start();
+
+		List<Future<ApplyReadDto>> results = new ArrayList<>();
+		for (long studentId = 1; studentId <= 3; studentId++) results.add(submit(studentId));
+
+		for (Future<ApplyReadDto> result : results) assertThat(result.get(5, TimeUnit.SECONDS).status()).isEqualTo(ApplyStatus.APPLY);
+		verify(applyBulkRepository, times(1)).insertAll(argThat(applies -> applies.size() == 3));
+		verify(eventPublisher, times(3)).publishEvent(any(ApplyChangedEvent.class));
+		verify(transactionManager, times(1)).commit(any());
+	}
+
+	@Test
+	@DisplayName("처리되지 않은 신청이 있는 학생과 배정된 학생은 거절하고 나머지만 저장한다")
+	void rejectPendingAndAllocated() throws Exception {
+		when(applyRepository.findStudentIdsByApplyFormAndStatusAndStudentIdIn(any(), eq(ApplyStatus.APPLY), anyCollection()))
+			.thenReturn(List.of(1L));
+		when(allocateRepository.findStudentIdsByApplyFormAndStudentIdIn(any(), anyCollection())).thenReturn(List.of(2L));
+		properties.setWindow(Duration.ofSeconds(1));
+		properties.setMaxBatchSize(3);
+		start();
+
+		Future<ApplyReadDto> pending = submit(1L);
+		Future<ApplyReadDto> allocated = submit(2L);
+		Future<ApplyReadDto> accepted = submit(3L);
+
+		assertThatThrownBy(() -> pending.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ApplyDuplicatedException.class);
+		assertThatThrownBy(() -> allocated.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AlreadyAllocatedException.class);
+		assertThat(accepted.get(5, TimeUnit.SECONDS).studentNumber()).isEqualTo("20240003");
+		verify(applyBulkRepository).insertAll(argThat(applies -> applies.size() == 1));
+	}
+
+	@Test
+	@DisplayName("같은 묶음에 같은 학생의 신청이 두 번 들어오면 먼저 들어온 신청만 저장한다")
+	void duplicateInBatch() throws Exception {
+		properties.setWindow(Duration.ofSeconds(1));
+		properties.setMaxBatchSize(2);
+		start();
+
+		Future<ApplyReadDto> first = submit(1L);
+		Future<ApplyReadDto> second = submit(1L);
+
+		List<Throwable> failures = new ArrayList<>();
+		for (Future<ApplyReadDto> result : List.of(first, second)) {
+			try {
+				result.get(5, TimeUnit.SECONDS);
+			} catch (ExecutionException e) {
+				failures.add(e.getCause());
+			}
+		}
+		assertThat(failures).singleElement().isInstanceOf(ApplyDuplicatedException.class);
+		verify(applyBulkRepository).insertAll(argThat(applies -> applies.size() == 1));
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 기다리지 않고 거절한다")
+	void rejectWhenQueueIsFull() throws Exception {
+		CountDownLatch flushing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			flushing.countDown();
+			awaitIgnoringInterrupt(release);
+			return withIds(invocation.getArgument(0));
+		}).when(applyBulkRepository).insertAll(anyList());
+		properties.setWindow(Duration.ZERO);
+		properties.setMaxBatchSize(1);
+		properties.setQueueCapacity(1);
+		start();
+
+		Future<ApplyReadDto> inFlight = submit(1L);
+		assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<ApplyReadDto> queued = submit(2L);
+		awaitQueued(1);
+
+		assertThatThrownBy(() -> pipeline.write(apply(3L), identity(3L))).isInstanceOf(ApplyPipelineRejectedException.class);
+
+		release.countDown();
+		assertThat(inFlight.get(5, TimeUnit.SECONDS)).isNotNull();
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+	}
+
+	@Test
+	@DisplayName("종료할 때 대기열에 남은 신청을 저장하고, 종료 후에 들어온 신청은 거절한다")
+	void stopDrainsQueue() throws Exception {
+		CountDownLatch flushing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			flushing.countDown();
+			awaitIgnoringInterrupt(release);
+			return withIds(invocation.getArgument(0));
+		}).when(applyBulkRepository).insertAll(anyList());
+		properties.setWindow(Duration.ZERO);
+		properties.setMaxBatchSize(1);
+		start();
+
+		Future<ApplyReadDto> inFlight = submit(1L);
+		assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<ApplyReadDto> queued = submit(2L);
+		awaitQueued(1);
+
+		Future<?> stopped = requests.submit(() -> {
+			pipeline.stop();
+			return null;
+		});
+		release.countDown();
+		stopped.get(15, TimeUnit.SECONDS);
+
+		assertThat(inFlight.get(5, TimeUnit.SECONDS)).isNotNull();
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+		verify(applyBulkRepository, times(2)).insertAll(anyList());
+		assertThatThrownBy(() -> pipeline.write(apply(3L), identity(3L))).isInstanceOf(ApplyPipelineRejectedException.class);
+		pipeline = null;
+	}
+
+	@Test
+	@DisplayName("묶음의 SQL 문 수가 최대 SQL 문 수를 넘으면 fail-on-exceed 일 때 예외로 완료한다")
+	void queryBudgetOfBatch() throws Exception {
+		DataSource dataSource = countingDataSource();
+		when(applyRepository.findStudentIdsByApplyFormAndStatusAndStudentIdIn(any(), any(), anyCollection()))
+			.thenAnswer(invocation -> {
+				/* 신청 폼 하나의 묶음에서 허용하는 수보다 많은 SQL 문 (N+1) */
+				try (Connection connection = dataSource.getConnection()) {
+					for (int i = 0; i < 10; i++) connection.prepareStatement("select * from apply where student_id = ?");
+				}
+				return List.of();
+			});
+		properties.setEnabled(false);
+		start();
+
+		assertThatThrownBy(() -> pipeline.write(apply(1L), identity(1L))).isInstanceOf(QueryBudgetExceededException.class);
+	}
+
+	@Test
+	@DisplayName("비활성화하면 요청 스레드에서 바로 저장한다")
+	void disabled() {
+		properties.setEnabled(false);
+		start();
+
+		ApplyReadDto result = pipeline.write(apply(1L), identity(1L));
+
+		assertThat(result.studentName()).isEqualTo("학생1");
+		verify(applyBulkRepository).insertAll(argThat(applies -> applies.size() == 1));
+	}
+
+	private void start() {
+		pipeline = new ApplyWritePipeline(
+			applyBulkRepository, applyRepository, allocateRepository, transactionManager, eventPublisher, properties,
+			new QueryBudgetVerifier(queryBudgetProperties), queryBudgetProperties
+		);
+		pipeline.start();
+	}
+
+	private Future<ApplyReadDto> submit(Long studentId) {
+		Future<ApplyReadDto> result = requests.submit(() -> pipeline.write(apply(studentId), identity(studentId)));
+		/* 제출 순서를 유지하도록 대기열에 들어갈 시간을 줌 */
+		try {
+			Thread.sleep(50);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return result;
+	}
+
+	private void awaitQueued(int size) throws InterruptedException {
+		BlockingQueue<?> queue = (BlockingQueue<?>)ReflectionTestUtils.getField(pipeline, "queue");
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (queue.size() < size && System.nanoTime() < deadline) Thread.sleep(10);
+		assertThat(queue).hasSize(size);
+	}
+
+	/**
+	 * 종료 요청(interrupt)과 관계없이 저장이 끝나는 상황을 흉내 냅니다.
+	 */
+	private static void awaitIgnoringInterrupt(CountDownLatch latch) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (latch.getCount() > 0 && System.nanoTime() < deadline) {
+			try {
+				latch.await(10, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				/* 무시 */
+			}
+		}
+	}
+
+	private static Apply apply(Long studentId) {
+		Student student = Student.builder()
+			.studentNumber(studentNumberOf(studentId))
+			.studentName("학생" + studentId)
+			.role(Role.ROLE_STUDENT)
+			.build();
+		ReflectionTestUtils.setField(student, "id", studentId);
+		return Apply.builder()
+			.student(student)
+			.applyForm(APPLY_FORM)
+			.period(ApplyPeriod.PRIMARY)
+			.status(ApplyStatus.APPLY)
+			.build();
+	}
+
+	private static StudentIdentity identity(Long studentId) {
+		return new StudentIdentity(studentId, studentNumberOf(studentId), "학생" + studentId, Role.ROLE_STUDENT);
+	}
+
+	private static String studentNumberOf(Long studentId) {
+		return "2024%04d".formatted(studentId);
+	}
+
+	private static List<Apply> withIds(List<Apply> applies) {
+		List<Apply> saved = new ArrayList<>(applies.size());
+		for (Apply apply : applies) {
+			saved.add(Apply.builder()
+				.id(apply.getStudent().getId() * 100)
+				.student(apply.getStudent())
+				.applyForm(apply.getApplyForm())
+				.period(apply.getPeriod())
+				.status(apply.getStatus())
+				.build());
+		}
+		return saved;
+	}
+
+	private static DataSource countingDataSource() {
+		try {
+			DataSource target = mock(DataSource.class);
+			Connection connection = mock(Connection.class);
+			when(target.getConnection()).thenReturn(connection);
+			return new SqlStatementCountingDataSource(target);
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.knucse.locker.domain.service.locker.availability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.knucse.locker.config.LockerAvailabilityProperties;
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.persistence.AllocateRepository;
+import com.knucse.locker.domain.persistence.LockerRepository;
+import com.knucse.locker.domain.persistence.projection.LockerSlot;
+
+class LockerAvailabilityIndexTest {
+	private static final ApplyForm APPLY_FORM = ApplyForm.builder().id(1L).year(2026).semester(2).build();
+
+	private final LockerRepository lockerRepository = mock(LockerRepository.class);
+	private final AllocateRepository allocateRepository = mock(AllocateRepository.class);
+	private final LockerAvailabilityIndex index = new LockerAvailabilityIndex(
+		lockerRepository, allocateRepository, new LockerAvailabilityProperties()
+	);
+
+	@BeforeEach
+	void setUp() {
+		when(lockerRepository.findAllSlots()).thenReturn(List.of(slot("L1", false), slot("L2", false), slot("L3", false)));
+		when(allocateRepository.findLockerNamesByApplyForm(APPLY_FORM)).thenReturn(List.of("L1"));
+	}
+
+	@Test
+	@DisplayName("DB 에서 고장 처리한 사물함은 다시 읽은 뒤부터 선택하지 않고, 할당 표시는 유지한다")
+	void refreshMarksBroken() {
+		LockerAvailability availability = index.get(APPLY_FORM);
+		assertThat(availability.freeCount()).isEqualTo(2);
+
+		when(lockerRepository.findAllSlots()).thenReturn(List.of(slot("L1", false), slot("L2", true), slot("L3", false)));
+		index.refresh();
+
+		assertThat(index.get(APPLY_FORM)).isSameAs(availability);
+		assertThat(availability.freeCount()).isEqualTo(1);
+		assertThat(availability.reserveRandom(new Random(0))).isEqualTo("L3");
+		assertThat(availability.reserveRandom(new Random(0))).isNull();
+	}
+
+	@Test
+	@DisplayName("고쳐진 사물함은 할당되지 않았으면 다시 선택할 수 있다")
+	void refreshClearsBroken() {
+		when(lockerRepository.findAllSlots()).thenReturn(List.of(slot("L1", true), slot("L2", true), slot("L3", false)));
+		LockerAvailability availability = index.get(APPLY_FORM);
+		assertThat(availability.freeCount()).isEqualTo(1);
+
+		when(lockerRepository.findAllSlots()).thenReturn(List.of(slot("L1", false), slot("L2", false), slot("L3", false)));
+		index.refresh();
+
+		/* L1 은 할당되어 있으므로 L2 만 돌아옴 */
+		assertThat(availability.freeCount()).isEqualTo(2);
+		assertThat(availability.reserve("L1")).isFalse();
+		assertThat(availability.reserve("L2")).isTrue();
+	}
+
+	@Test
+	@DisplayName("사물함이 추가되면 카탈로그를 다시 구성하고 비트맵은 다음 조회 때 DB 에서 다시 구성한다")
+	void refreshRebuildsCatalog() {
+		LockerAvailability availability = index.get(APPLY_FORM);
+
+		when(lockerRepository.findAllSlots())
+			.thenReturn(List.of(slot("L1", false), slot("L2", false), slot("L3", false), slot("L4", false)));
+		index.refresh();
+
+		LockerAvailability rebuilt = index.get(APPLY_FORM);
+		assertThat(rebuilt).isNotSameAs(availability);
+		assertThat(rebuilt.catalog().size()).isEqualTo(4);
+		assertThat(rebuilt.freeCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("구성된 비트맵이 없으면 다시 읽지 않는다")
+	void refreshBeforeLoad() {
+		index.refresh();
+
+		verifyNoInteractions(lockerRepository);
+	}
+
+	private static LockerSlot slot(String lockerName, boolean broken) {
+		return new LockerSlot(lockerName, LockerFloor.FLOOR_L, 1, broken);
+	}
+}
@@ -0,0 +1,131 @@
+package com.knucse.locker.domain.service.locker.statistics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.knucse.locker.domain.model.locker.LockerFloor;
+import com.knucse.locker.domain.model.locker.apply.ApplyHeight;
+import com.knucse.locker.domain.model.locker.apply.ApplyPeriod;
+import com.knucse.locker.domain.model.locker.apply.ApplyStatus;
+import com.knucse.locker.domain.model.locker.applyForm.ApplyForm;
+import com.knucse.locker.domain.model.locker.statistics.ApplyFormStatistics;
+import com.knucse.locker.domain.model.locker.statistics.ApplyStatisticsCounter;
+import com.knucse.locker.domain.model.locker.statistics.ApplyStatisticsDelta;
+import com.knucse.locker.domain.persistence.ApplyFormStatisticsCounterRepository;
+import com.knucse.locker.domain.persistence.ApplyFormStatisticsRepository;
+import com.knucse.locker.domain.persistence.ApplyRepository;
+import com.knucse.locker.domain.persistence.projection.ApplyCountRow;
+import com.knucse.locker.domain.service.locker.applyForm.ApplyFormService;
+
+class ApplyFormStatisticsServiceTest {
+	private static final ApplyForm APPLY_FORM = ApplyForm.builder().id(1L).year(2026).semester(2).build();
+
+	private final ApplyFormStatisticsRepository statisticsRepository = mock(ApplyFormStatisticsRepository.class);
+	private final ApplyFormStatisticsCounterRepository counterRepository = mock(ApplyFormStatisticsCounterRepository.class);
+	private final ApplyRepository applyRepository = mock(ApplyRepository.class);
+	private final ApplyFormService applyFormService = mock(ApplyFormService.class);
+	private final ApplyFormStatisticsService service = new ApplyFormStatisticsService(
+		statisticsRepository, counterRepository, applyRepository, applyFormService
+	);
+
+	@BeforeEach
+	void setUp() {
+		when(applyFormService.getApplyFormByYearAndSemester(2026, 2)).thenReturn(APPLY_FORM);
+		when(statisticsRepository.findById(1L)).thenReturn(Optional.of(mock(ApplyFormStatistics.class)));
+		when(applyRepository.countRowsByApplyForm(APPLY_FORM)).thenReturn(List.of(
+			new ApplyCountRow(ApplyPeriod.PRIMARY, ApplyStatus.APPLY, LockerFloor.FLOOR_L, ApplyHeight.TOP, 3L),
+			new ApplyCountRow(ApplyPeriod.PRIMARY, ApplyStatus.APPROVE, null, null, 2L)
+		));
+		when(applyRepository.countDuesPaidByApplyForm(APPLY_FORM)).thenReturn(4L);
+	}
+
+	@Test
+	@DisplayName("재구성은 통계 행을 먼저 잠근 뒤 신청을 집계하고 통계 행을 덮어쓴다")
+	void rebuildLocksBeforeCounting() {
+		service.rebuildStatistics(2026, 2);
+
+		InOrder inOrder = inOrder(counterRepository, applyRepository);
+		inOrder.verify(counterRepository).lockOrCreate(1L);
+		inOrder.verify(applyRepository).countRowsByApplyForm(APPLY_FORM);
+		inOrder.verify(applyRepository).countDuesPaidByApplyForm(APPLY_FORM);
+		inOrder.verify(counterRepository).overwrite(eq(1L), any());
+	}
+
+	@Test
+	@DisplayName("재구성은 신청 집계로 모든 항목을 덮어쓴다")
+	void rebuildOverwritesCounts() {
+		service.rebuildStatistics(2026, 2);
+
+		ArgumentCaptor<ApplyStatisticsDelta> counts = ArgumentCaptor.forClass(ApplyStatisticsDelta.class);
+		verify(counterRepository).overwrite(eq(1L), counts.capture());
+		assertThat(counts.getValue().get(ApplyStatisticsCounter.TOTAL)).isEqualTo(5);
+		assertThat(counts.getValue().get(ApplyStatisticsCounter.of(ApplyPeriod.PRIMARY))).isEqualTo(5);
+		assertThat(counts.getValue().get(ApplyStatisticsCounter.of(ApplyStatus.APPLY))).isEqualTo(3);
+		assertThat(counts.getValue().get(ApplyStatisticsCounter.of(ApplyStatus.APPROVE))).isEqualTo(2);
+		assertThat(counts.getValue().get(ApplyStatisticsCounter.ofFirstChoice(LockerFloor.FLOOR_L, ApplyHeight.TOP)))
+			.isEqualTo(3);
+		assertThat(counts.getValue().get(ApplyStatisticsCounter.DUES_PAID)).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("통계 행이 있으면 재구성하지 않는다")
+	void getStatisticsWithoutRebuild() {
+		service.getStatistics(2026, 2);
+
+		verifyNoInteractions(counterRepository);
+	}
+
+	@Test
+	@DisplayName("통계 행이 없는 신청 폼은 조회할 때 한 번 재구성한다")
+	void getStatisticsRebuildsMissingRow() {
+		when(statisticsRepository.findById(1L))
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.of(mock(ApplyFormStatistics.class)));
+
+		service.getStatistics(2026, 2);
+
+		verify(counterRepository).lockOrCreate(1L);
+		verify(counterRepository).overwrite(eq(1L), any());
+	}
+
+	/**
+	 * 잠금 이후의 집계가 잠금을 기다리는 동안 커밋된 신청을 보려면 READ COMMITTED 여야 합니다.
+	 */
+	@ParameterizedTest
+	@ValueSource(strings = {"rebuildStatistics", "getStatistics"})
+	@DisplayName("재구성할 수 있는 메서드는 READ COMMITTED 로 실행한다")
+	void readCommitted(String methodName) throws NoSuchMethodException {
+		Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(
+			ApplyFormStatisticsService.class.getMethod(methodName, Integer.class, Integer.class), Transactional.class
+		);
+
+		assertThat(transactional).isNotNull();
+		assertThat(transactional.readOnly()).isFalse();
+		assertThat(transactional.isolation()).isEqualTo(Isolation.READ_COMMITTED);
+	}
+
+	@Test
+	@DisplayName("현재 신청 폼의 통계 조회도 READ COMMITTED 로 실행한다")
+	void readCommittedNow() throws NoSuchMethodException {
+		Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(
+			ApplyFormStatisticsService.class.getMethod("getStatisticsNow"), Transactional.class
+		);
+
+		assertThat(transactional.isolation()).isEqualTo(Isolation.READ_COMMITTED);
+	}
+}
@@ -0,0 +1,44 @@
+package com.knucse.student.dues.model;
+
+import java.util.Arrays;
+
+/**
+ * 학생회비를 납부한 학생 식별자의 불변 집합
+ * - 정렬된 long 배열로 보관하여 박싱 없이 이진 탐색으로 포함 여부를 확인합니다.
+ */
+public final class DuesPaidStudents {
+	private static final DuesPaidStudents EMPTY = new DuesPaidStudents(new long[0]);
+
+	private final long[] studentIds;
+
+	private DuesPaidStudents(long[] studentIds) {
+		this.studentIds = studentIds;
+	}
+
+	/**
+	 * 학생 식별자 배열로 집합을 생성합니다. (중복은 제거됩니다)
+	 */
+	public static DuesPaidStudents of(long[] studentIds) {
+		if (studentIds.length == 0) return EMPTY;
+
+		long[] sorted = studentIds.clone();
+		Arrays.sort(sorted);
+		int size = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			if (i == 0 || sorted[i] != sorted[i - 1]) sorted[size++] = sorted[i];
+		}
+		return new DuesPaidStudents(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+	}
+
+	public static DuesPaidStudents empty() {
+		return EMPTY;
+	}
+
+	public boolean contains(Long studentId) {
+		return studentId != null && Arrays.binarySearch(studentIds, studentId) >= 0;
+	}
+
+	public int size() {
+		return studentIds.length;
+	}
+}
@@ -1,12 +1,19 @@
 package com.knucse.student.dues.persistence;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.knucse.student.dues.model.Dues;
 
 public interface DuesRepository extends JpaRepository<Dues, Long> {
 	boolean existsDuesById(Long id);
 	Optional<Dues> findDuesById(Long id);
+
+	@Query("SELECT d.id FROM Dues d WHERE d.dues = true AND d.id IN :ids")
+	List<Long> findPaidIdsByIdIn(@Param("ids") Collection<Long> ids);
 }
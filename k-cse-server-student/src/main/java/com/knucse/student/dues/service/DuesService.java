@@ -1,16 +1,21 @@
 package com.knucse.student.dues.service;
 
+import java.util.Collection;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.knucse.student._exception.DuesNotFoundException;
 import com.knucse.student.dues.model.Dues;
+import com.knucse.student.dues.model.DuesPaidStudents;
 import com.knucse.student.dues.persistence.DuesRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class DuesService {
@@ -54,4 +59,19 @@ public class DuesService {
 			.map(Dues::isDues)
 			.orElse(false);
 	}
+
+	/**
+	 * 여러 학생의 학생회비 납부 여부를 한 번의 쿼리로 조회합니다.
+	 *
+	 * @param studentIds 학생 식별자 목록
+	 * @return 학생회비를 납부한 학생 식별자 집합
+	 */
+	public DuesPaidStudents getDuesPaidStudents(Collection<Long> studentIds) {
+		if (studentIds.isEmpty()) return DuesPaidStudents.empty();
+
+		long[] paidStudentIds = duesRepository.findPaidIdsByIdIn(studentIds).stream()
+			.mapToLong(Long::longValue)
+			.toArray();
+		return DuesPaidStudents.of(paidStudentIds);
+	}
 }
@@ -0,0 +1,35 @@
+package com.knucse.student.student.model;
+
+/**
+ * 학생 식별 정보 (학번 조회 캐시에 보관하는 불변 값)
+ */
+public record StudentIdentity(
+	Long id, String studentNumber, String studentName, Role role
+) {
+	public static StudentIdentity fromEntity(Student student) {
+		return new StudentIdentity(student.getId(), student.getStudentNumber(), student.getStudentName(), student.getRole());
+	}
+
+	/**
+	 * 입력받은 이름이 이 학생의 이름과 같은지 확인합니다.
+	 * - 학생 테이블의 콜레이션(utf8mb4 _ci, PAD SPACE)과 같이 대소문자와 끝 공백을 구분하지 않습니다.
+	 *
+	 * @param studentName 입력받은 이름
+	 * @return 이름이 같으면 true, 입력이 null 이면 false
+	 */
+	public boolean matchesName(String studentName) {
+		if (studentName == null || this.studentName == null) return false;
+		return this.studentName.stripTrailing().equalsIgnoreCase(studentName.stripTrailing());
+	}
+
+	/**
+	 * 입력받은 학번을 정규화합니다. (앞뒤 및 중간 공백 제거)
+	 *
+	 * @param studentNumber 학번
+	 * @return 정규화된 학번, 입력이 null 이면 null
+	 */
+	public static String normalizeStudentNumber(String studentNumber) {
+		if (studentNumber == null) return null;
+		return studentNumber.replaceAll("\\s+", "");
+	}
+}
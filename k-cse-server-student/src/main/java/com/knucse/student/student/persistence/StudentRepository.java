@@ -1,13 +1,28 @@
 package com.knucse.student.student.persistence;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.knucse.student.student.model.Role;
 import com.knucse.student.student.model.Student;
+import com.knucse.student.student.model.StudentIdentity;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
 	Optional<Student> findStudentById(Long id);
 	Optional<Student> findByStudentNameAndStudentNumber(String studentName, String studentNumber);
 	Optional<Student> findByStudentNumber(String studentNumber);
+
+	@Query("SELECT new com.knucse.student.student.model.StudentIdentity(s.id, s.studentNumber, s.studentName, s.role) "
+		+ "FROM Student s WHERE s.studentNumber = :studentNumber")
+	Optional<StudentIdentity> findIdentityByStudentNumber(@Param("studentNumber") String studentNumber);
+
+	@Query("SELECT s.role FROM Student s WHERE s.id = :id")
+	Optional<Role> findRoleById(@Param("id") Long id);
+
+	@Query("SELECT new com.knucse.student.student.model.StudentIdentity(s.id, s.studentNumber, s.studentName, s.role) FROM Student s")
+	List<StudentIdentity> findAllIdentities();
 }
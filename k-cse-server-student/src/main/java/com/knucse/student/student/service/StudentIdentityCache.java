@@ -0,0 +1,84 @@
+package com.knucse.student.student.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.knucse.student.student.model.StudentIdentity;
+import com.knucse.student.student.persistence.StudentRepository;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 학번 -> 학생 식별 정보 캐시
+ * - 학기 중에는 학생 명단이 거의 바뀌지 않으므로 식별 정보를 크기와 TTL 로 제한하여 보관합니다.
+ * - 존재하지 않는 학번도 짧은 시간 동안 보관하여, 잘못 입력된 학번의 반복 조회가 DB 까지 가지 않도록 합니다.
+ * - 애플리케이션이 시작되면 전체 학생 식별 정보를 한 번의 쿼리로 미리 적재합니다.
+ * - 이 애플리케이션에는 학생을 수정/삭제하는 경로가 없고 명단은 DB 에 직접 반영하므로, 명단 변경은 TTL(30분)이 지나야 반영됩니다.
+ *   (학생을 수정/삭제하는 기능을 추가하면 해당 학번의 캐시를 함께 제거해야 합니다.)
+ * - 엔티티가 아닌 불변 식별 정보(StudentIdentity)만 보관하므로, 캐시된 값으로 학생회비 등 연관 정보를 읽을 수 없습니다.
+ */
+@Log4j2
+@Component
+public class StudentIdentityCache {
+	private static final int MAXIMUM_SIZE = 50_000;
+	private static final Duration TTL = Duration.ofMinutes(30);
+	private static final int NEGATIVE_MAXIMUM_SIZE = 10_000;
+	private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+	private final StudentRepository studentRepository;
+
+	private final Cache<String, StudentIdentity> identities = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfterWrite(TTL)
+		.build();
+	private final Cache<String, Boolean> missingStudentNumbers = Caffeine.newBuilder()
+		.maximumSize(NEGATIVE_MAXIMUM_SIZE)
+		.expireAfterWrite(NEGATIVE_TTL)
+		.build();
+
+	public StudentIdentityCache(StudentRepository studentRepository) {
+		this.studentRepository = studentRepository;
+	}
+
+	/**
+	 * 학번으로 학생 식별 정보를 조회합니다. 캐시에 없으면 loader 로 조회하여 캐시합니다.
+	 *
+	 * @param studentNumber 정규화된 학번
+	 * @param loader 학번으로 학생 식별 정보를 DB 에서 조회하는 함수
+	 * @return 학생 식별 정보 (없으면 empty)
+	 */
+	public Optional<StudentIdentity> get(String studentNumber, Function<String, Optional<StudentIdentity>> loader) {
+		if (studentNumber == null) return Optional.empty();
+
+		StudentIdentity cached = identities.getIfPresent(studentNumber);
+		if (cached != null) return Optional.of(cached);
+		if (missingStudentNumbers.getIfPresent(studentNumber) != null) return Optional.empty();
+
+		Optional<StudentIdentity> loaded = loader.apply(studentNumber);
+		loaded.ifPresentOrElse(
+			identity -> identities.put(studentNumber, identity),
+			() -> missingStudentNumbers.put(studentNumber, Boolean.TRUE)
+		);
+		return loaded;
+	}
+
+	/**
+	 * 전체 학생 식별 정보를 한 번의 쿼리로 캐시에 적재합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		List<StudentIdentity> all = studentRepository.findAllIdentities();
+		all.stream()
+			.limit(MAXIMUM_SIZE)
+			.forEach(identity -> identities.put(StudentIdentity.normalizeStudentNumber(identity.studentNumber()), identity));
+		log.info("Student identity cache warmed up with {} of {} students", Math.min(all.size(), MAXIMUM_SIZE), all.size());
+	}
+}
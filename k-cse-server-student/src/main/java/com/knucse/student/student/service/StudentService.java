@@ -1,49 +1,89 @@
 package com.knucse.student.student.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.knucse.student._exception.StudentNotFoundException;
+import com.knucse.student.student.model.Role;
 import com.knucse.student.student.model.Student;
+import com.knucse.student.student.model.StudentIdentity;
 import com.knucse.locker.domain.persistence.OAuth2UserInfoRepository;
 import com.knucse.locker.domain.persistence.StudentRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StudentService {
     private final StudentRepository studentRepository;
     private final OAuth2UserInfoRepository oAuth2UserInfoRepository;
+    private final StudentIdentityCache studentIdentityCache;
 
     /**
-     * 학생 이름과 학번을 통해 학생을 조회합니다.
+     * 학생 이름과 학번을 통해 학생 식별 정보를 조회합니다.
+     * - 이름은 DB 조회 때와 같이 대소문자와 끝 공백을 구분하지 않고 비교합니다. (utf8mb4 _ci 콜레이션 기준)
      *
      * @param studentName 학생 이름
      * @param studentNumber 학생 학번
-     * @return 해당 이름과 학번을 가진 학생 엔티티
+     * @return 해당 이름과 학번을 가진 학생의 식별 정보
      * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
      */
-    public Student findStudentByNameAndNumber(String studentName, String studentNumber) {
-        return studentRepository.findByStudentNameAndStudentNumber(studentName, studentNumber)
+    public StudentIdentity findStudentByNameAndNumber(String studentName, String studentNumber) {
+        return findStudentIdentity(studentNumber)
+            .filter(identity -> identity.matchesName(studentName))
             .orElseThrow(StudentNotFoundException::new);
     }
 
     /**
-     * 학번을 통해 학생을 조회합니다.
+     * 학번을 통해 학생 식별 정보를 조회합니다.
      *
      * @param studentNumber 학생 학번
-     * @return 해당 학번을 가진 학생 엔티티
+     * @return 해당 학번을 가진 학생의 식별 정보
      * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
      */
-    public Student findStudentByStudentNumber(String studentNumber) {
-        return studentRepository.findByStudentNumber(studentNumber)
+    public StudentIdentity findStudentByStudentNumber(String studentNumber) {
+        return findStudentIdentity(studentNumber)
             .orElseThrow(StudentNotFoundException::new);
     }
 
+    /**
+     * 학생 식별 정보로 연관관계에 지정할 학생 엔티티 참조를 얻습니다. (조회 쿼리 없음)
+     * - 식별자만 채워진 프록시이므로 연관관계 지정과 조회 조건 용도로만 사용하고,
+     *   이름/학번은 식별 정보에서, 학생회비 납부 여부는 DuesService 에서 읽어야 합니다.
+     *
+     * @param identity 학생 식별 정보
+     * @return 학생 엔티티 참조
+     */
+    public Student getStudentReference(StudentIdentity identity) {
+        return studentRepository.getReferenceById(identity.id());
+    }
+
+    /**
+     * 정규화된 학번으로 학생 식별 정보를 캐시에서 조회합니다. (캐시에 없으면 DB 조회)
+     */
+    private Optional<StudentIdentity> findStudentIdentity(String studentNumber) {
+        return studentIdentityCache.get(
+            StudentIdentity.normalizeStudentNumber(studentNumber),
+            studentRepository::findIdentityByStudentNumber
+        );
+    }
+
+    /**
+     * 학생의 현재 권한을 조회합니다.
+     *
+     * @param studentId 학생 식별자
+     * @return 학생의 권한 (학생이 없거나 권한이 없으면 empty)
+     */
+    public Optional<Role> findStudentRole(Long studentId) {
+        return studentRepository.findRoleById(studentId);
+    }
+
     public List<Student> findAllStudents() {
         return studentRepository.findAll();
     }